@@ -0,0 +1,23 @@
+package chat.octet.accordion.benchmark;
+
+import ch.qos.logback.classic.BasicConfigurator;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import org.slf4j.Logger;
+
+/**
+ * Logs warnings and errors only while benchmarking, so that the benchmarks measure the engine rather than
+ * debug logging. Registered as a service, which avoids the XML configurator.
+ *
+ * @author <a href="https://github.com/eoctet">William</a>
+ * @since 1.0.1
+ */
+public class BenchmarkLogConfigurator extends BasicConfigurator {
+
+    @Override
+    public ExecutionStatus configure(final LoggerContext loggerContext) {
+        super.configure(loggerContext);
+        loggerContext.getLogger(Logger.ROOT_LOGGER_NAME).setLevel(Level.WARN);
+        return ExecutionStatus.DO_NOT_INVOKE_NEXT_IF_ANY;
+    }
+}
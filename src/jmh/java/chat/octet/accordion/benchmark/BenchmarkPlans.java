@@ -0,0 +1,74 @@
+package chat.octet.accordion.benchmark;
+
+import chat.octet.accordion.AccordionPlan;
+import chat.octet.accordion.action.model.ActionConfig;
+import chat.octet.accordion.core.enums.ActionType;
+
+/**
+ * Plan shapes shared by the engine benchmarks.
+ *
+ * @author <a href="https://github.com/eoctet">William</a>
+ * @since 1.0.1
+ */
+public final class BenchmarkPlans {
+
+    /**
+     * Graph shapes of the benchmarked plans.
+     */
+    public enum Shape {
+        /**
+         * Each node is followed by one node.
+         */
+        CHAIN,
+        /**
+         * The root is followed by all other nodes.
+         */
+        FAN_OUT,
+        /**
+         * The root fans out to the middle nodes, which all join on a single sink node.
+         */
+        DIAMOND
+    }
+
+    private BenchmarkPlans() {
+    }
+
+    /**
+     * Creates a plan of no-op actions, so that the benchmark measures the scheduler rather than the actions.
+     *
+     * @param shape graph shape.
+     * @param nodes number of nodes, at least 3.
+     * @return plan
+     */
+    static AccordionPlan create(final Shape shape, final int nodes) {
+        ActionConfig[] actions = new ActionConfig[nodes];
+        for (int i = 0; i < nodes; i++) {
+            actions[i] = ActionConfig.builder()
+                    .id("node-" + i)
+                    .actionType(ActionType.NOOP.name())
+                    .actionName("Node " + i)
+                    .build();
+        }
+        AccordionPlan plan = AccordionPlan.of().start(actions[0]);
+        switch (shape) {
+            case CHAIN -> {
+                for (int i = 1; i < nodes; i++) {
+                    plan.next(actions[i - 1], actions[i]);
+                }
+            }
+            case FAN_OUT -> {
+                for (int i = 1; i < nodes; i++) {
+                    plan.next(actions[0], actions[i]);
+                }
+            }
+            case DIAMOND -> {
+                for (int i = 1; i < nodes - 1; i++) {
+                    plan.next(actions[0], actions[i]);
+                    plan.next(actions[i], actions[nodes - 1]);
+                }
+            }
+            default -> throw new IllegalArgumentException("Unsupported plan shape: " + shape);
+        }
+        return plan;
+    }
+}
@@ -0,0 +1,63 @@
+package chat.octet.accordion.benchmark;
+
+import chat.octet.accordion.core.condition.Condition;
+import chat.octet.accordion.core.condition.ConditionBuilder;
+import chat.octet.accordion.core.enums.ConditionOperator;
+import com.google.common.collect.Maps;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link ConditionBuilder#test} for expressions and condition objects, both served by the compile cache.
+ *
+ * @author <a href="https://github.com/eoctet">William</a>
+ * @since 1.0.1
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConditionBenchmark {
+
+    private final ConditionBuilder builder = ConditionBuilder.getInstance();
+    private Map<String, Object> params;
+    private Condition condition;
+    private String expression;
+
+    @Setup
+    public void setUp() {
+        params = Maps.newHashMap();
+        params.put("num", 25);
+        params.put("div", 2);
+        params.put("name", "accordion");
+        params.put("tags", List.of(1, 2, 3));
+        condition = new Condition("num", ConditionOperator.GT, 10)
+                .and("num", ConditionOperator.LT, 100)
+                .and("tags", ConditionOperator.IN, 2);
+        expression = "num * div > 40 && string.startsWith(name, 'acc')";
+    }
+
+    @Benchmark
+    public boolean testCondition() {
+        return builder.test(params, condition);
+    }
+
+    @Benchmark
+    public boolean testExpression() {
+        return builder.test(params, expression);
+    }
+}
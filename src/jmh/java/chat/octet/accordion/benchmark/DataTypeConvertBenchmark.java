@@ -0,0 +1,49 @@
+package chat.octet.accordion.benchmark;
+
+import chat.octet.accordion.core.enums.DataType;
+import chat.octet.accordion.core.handler.DataTypeConvert;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.Serializable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link DataTypeConvert#getValue(DataType, Object)}, called for every output parameter of every node.
+ *
+ * @author <a href="https://github.com/eoctet">William</a>
+ * @since 1.0.1
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DataTypeConvertBenchmark {
+
+    @Param({"STRING", "LONG", "INT", "DOUBLE", "DECIMAL", "DATETIME", "BOOLEAN"})
+    private DataType dataType;
+
+    private final Object number = 12345;
+    private final String text = "12345";
+    private final String datetime = "2024-06-01 12:30:45";
+
+    @Benchmark
+    public Serializable convertNumber() {
+        return DataTypeConvert.getValue(dataType, dataType == DataType.DATETIME ? datetime : number);
+    }
+
+    @Benchmark
+    public Serializable convertString() {
+        return DataTypeConvert.getValue(dataType, dataType == DataType.DATETIME ? datetime : dataType == DataType.BOOLEAN ? "true" : text);
+    }
+}
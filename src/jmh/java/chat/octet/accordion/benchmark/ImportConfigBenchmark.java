@@ -0,0 +1,49 @@
+package chat.octet.accordion.benchmark;
+
+import chat.octet.accordion.AccordionPlan;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link AccordionPlan#importConfig(String)}, including JSON parsing, action creation and graph building.
+ *
+ * @author <a href="https://github.com/eoctet">William</a>
+ * @since 1.0.1
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ImportConfigBenchmark {
+
+    @Param({"CHAIN", "FAN_OUT", "DIAMOND"})
+    private BenchmarkPlans.Shape shape;
+
+    @Param({"16", "128"})
+    private int nodes;
+
+    private String config;
+
+    @Setup
+    public void setUp() {
+        config = BenchmarkPlans.create(shape, nodes).exportToJsonConfig();
+    }
+
+    @Benchmark
+    public AccordionPlan importConfig() {
+        return AccordionPlan.of().importConfig(config);
+    }
+}
@@ -0,0 +1,58 @@
+package chat.octet.accordion.benchmark;
+
+import chat.octet.accordion.utils.JsonUtils;
+import com.google.common.collect.Maps;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link JsonUtils} serialization and parsing of a typical API response payload.
+ *
+ * @author <a href="https://github.com/eoctet">William</a>
+ * @since 1.0.1
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonUtilsBenchmark {
+
+    private Map<String, Object> payload;
+    private String json;
+
+    @Setup
+    public void setUp() {
+        payload = Maps.newLinkedHashMap();
+        payload.put("id", 1024L);
+        payload.put("name", "accordion");
+        payload.put("enabled", true);
+        payload.put("score", 98.5D);
+        payload.put("tags", List.of("api", "script", "email", "shell"));
+        payload.put("owner", Map.of("name", "William", "url", "https://github.com/eoctet"));
+        json = JsonUtils.toJson(payload);
+    }
+
+    @Benchmark
+    public String toJson() {
+        return JsonUtils.toJson(payload);
+    }
+
+    @Benchmark
+    public Map<String, Object> parseJsonToMap() {
+        return JsonUtils.parseJsonToMap(json, String.class, Object.class);
+    }
+}
@@ -0,0 +1,56 @@
+package chat.octet.accordion.benchmark;
+
+import chat.octet.accordion.Accordion;
+import chat.octet.accordion.action.model.ExecuteResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link Accordion#play()} across plan shapes, the engine overhead of scheduling and passing outputs.
+ *
+ * @author <a href="https://github.com/eoctet">William</a>
+ * @since 1.0.1
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlayBenchmark {
+
+    @Param({"CHAIN", "FAN_OUT", "DIAMOND"})
+    private BenchmarkPlans.Shape shape;
+
+    @Param({"16", "128"})
+    private int nodes;
+
+    private Accordion accordion;
+
+    @Setup
+    public void setUp() {
+        accordion = new Accordion(BenchmarkPlans.create(shape, nodes));
+    }
+
+    @TearDown
+    public void tearDown() {
+        accordion.close();
+    }
+
+    @Benchmark
+    public ExecuteResult play() {
+        return accordion.play();
+    }
+}
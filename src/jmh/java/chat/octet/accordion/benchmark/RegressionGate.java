@@ -0,0 +1,340 @@
+package chat.octet.accordion.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares benchmark results against a checked-in baseline and fails on regressions.
+ * <p>
+ * The baseline is a JSON file keyed by benchmark name and parameters, e.g.
+ * {@code PlayBenchmark.play:nodes=16,shape=CHAIN}, holding the score, its unit and the normalized allocation
+ * per operation. A benchmark regresses when its score is worse than the baseline by more than its
+ * {@code tolerance}, or when its allocation grows by more than its {@code alloc_tolerance}. Benchmarks without
+ * their own tolerances use {@code default_tolerance} and {@code default_alloc_tolerance}. Lower scores are
+ * better, except for the throughput mode.
+ * </p>
+ * <p>
+ * A baseline benchmark missing from the results, e.g. because it crashed or was renamed, fails the gate too,
+ * unless {@code --allow-missing} is given when only a subset of the benchmarks was run. Benchmarks missing
+ * from the baseline are only reported.
+ * </p>
+ * <p>
+ * Arguments: {@code [--baseline file] [--result file] [--update] [--allow-missing]}. Runs with the benchmarks
+ * through Maven with {@code mvn -P benchmark,benchmark-gate test}, gate arguments are passed with
+ * {@code -Dbenchmark.gate.args="..."}. With {@code --update}, the baseline scores are replaced by the current
+ * results and the tolerances are kept. Exits with 1 on regressions or missing benchmarks and with 2 on
+ * invalid input.
+ * </p>
+ *
+ * @author <a href="https://github.com/eoctet">William</a>
+ * @since 1.0.1
+ */
+public final class RegressionGate {
+
+    static final String DEFAULT_BASELINE_FILE = "src/jmh/baseline.json";
+    private static final String BENCHMARK_PACKAGE = RegressionGate.class.getPackageName() + ".";
+    private static final String ALLOC_METRIC = "gc.alloc.rate.norm";
+    private static final double DEFAULT_TOLERANCE = 0.2D;
+    private static final double DEFAULT_ALLOC_TOLERANCE = 0.1D;
+    /**
+     * Allocation changes below a few objects are noise, e.g. in benchmarks that do not allocate at all.
+     */
+    static final double MIN_ALLOC_DELTA = 64D;
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private static final String USAGE = "usage: [--baseline file] [--result file] [--update] [--allow-missing]";
+    private static final double PERCENT = 100D;
+    private static final double ROUNDING = 1000D;
+
+    private RegressionGate() {
+    }
+
+    /**
+     * Result of a benchmark, read from the JMH JSON results.
+     */
+    record Result(String mode, String unit, double score, Double allocBytes) {
+    }
+
+    /**
+     * Comparison of one metric of a benchmark.
+     */
+    record Comparison(String benchmark, String metric, double baseline, double current, String unit,
+                      double tolerance, double minDelta, boolean higherIsBetter) {
+
+        double change() {
+            return baseline == 0 ? 0D : (current - baseline) / baseline;
+        }
+
+        boolean isRegression() {
+            return Math.abs(current - baseline) > minDelta
+                    && (higherIsBetter ? change() < -tolerance : change() > tolerance);
+        }
+
+        boolean isImprovement() {
+            return Math.abs(current - baseline) > minDelta
+                    && (higherIsBetter ? change() > tolerance : change() < -tolerance);
+        }
+    }
+
+    /**
+     * Command line options of the gate.
+     */
+    record Options(Path baselineFile, Path resultFile, boolean update, boolean allowMissing) {
+    }
+
+    /**
+     * Benchmarks found on one side only.
+     *
+     * @param missing benchmarks of the baseline that were not run.
+     * @param added   benchmarks that were run but are not in the baseline.
+     */
+    record Unmatched(List<String> missing, List<String> added) {
+
+        Unmatched() {
+            this(Lists.newArrayList(), Lists.newArrayList());
+        }
+    }
+
+    public static void main(final String[] args) {
+        try {
+            Options options = parse(args);
+            Map<String, Result> results = readResults(options.resultFile());
+            if (options.update()) {
+                updateBaseline(options.baselineFile(), results);
+                System.out.printf("Baseline %s updated with %d benchmarks%n", options.baselineFile(), results.size());
+                return;
+            }
+            List<Comparison> comparisons = Lists.newArrayList();
+            Unmatched unmatched = new Unmatched();
+            compare(readBaseline(options.baselineFile()), results, comparisons, unmatched);
+            System.out.print(report(comparisons, unmatched, options.allowMissing()));
+            if (isFailed(comparisons, unmatched, options.allowMissing())) {
+                System.exit(1);
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Regression gate failed: " + e.getMessage());
+            System.exit(2);
+        }
+    }
+
+    /**
+     * Parses the command line arguments.
+     *
+     * @param args command line arguments.
+     * @return gate options
+     * @throws IllegalArgumentException if an argument is unknown or an option has no value
+     */
+    static Options parse(final String[] args) {
+        Path baselineFile = Paths.get(DEFAULT_BASELINE_FILE);
+        Path resultFile = Paths.get(BenchmarkRunner.DEFAULT_RESULT_FILE);
+        boolean update = false;
+        boolean allowMissing = false;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--baseline" -> baselineFile = Paths.get(value(args, ++i));
+                case "--result" -> resultFile = Paths.get(value(args, ++i));
+                case "--update" -> update = true;
+                case "--allow-missing" -> allowMissing = true;
+                default -> throw new IllegalArgumentException("Unknown argument: " + args[i] + ", " + USAGE);
+            }
+        }
+        return new Options(baselineFile, resultFile, update, allowMissing);
+    }
+
+    private static String value(final String[] args, final int index) {
+        if (index >= args.length) {
+            throw new IllegalArgumentException("Missing value of " + args[index - 1] + ", " + USAGE);
+        }
+        return args[index];
+    }
+
+    /**
+     * Returns whether the gate fails, on regressions or on baseline benchmarks that were not run.
+     *
+     * @param comparisons  metric comparisons.
+     * @param unmatched    unmatched benchmarks.
+     * @param allowMissing whether baseline benchmarks may be missing from the results.
+     * @return true if the gate fails
+     */
+    static boolean isFailed(final List<Comparison> comparisons, final Unmatched unmatched,
+                            final boolean allowMissing) {
+        return comparisons.stream().anyMatch(Comparison::isRegression)
+                || (!allowMissing && !unmatched.missing().isEmpty());
+    }
+
+    /**
+     * Reads JMH JSON results, keyed like the baseline.
+     *
+     * @param file result file.
+     * @return results by benchmark key
+     * @throws IOException if the file cannot be read
+     */
+    static Map<String, Result> readResults(final Path file) throws IOException {
+        if (!Files.exists(file)) {
+            throw new IllegalArgumentException("Benchmark results not found: " + file);
+        }
+        Map<String, Result> results = new TreeMap<>();
+        for (JsonNode node : MAPPER.readTree(file.toFile())) {
+            StringBuilder key = new StringBuilder(node.path("benchmark").asText().replace(BENCHMARK_PACKAGE, ""));
+            if (node.has("params")) {
+                Map<String, String> params = new TreeMap<>();
+                node.get("params").fields()
+                        .forEachRemaining(param -> params.put(param.getKey(), param.getValue().asText()));
+                key.append(':');
+                params.forEach((name, value) -> key.append(name).append('=').append(value).append(','));
+                key.setLength(key.length() - 1);
+            }
+            JsonNode primary = node.path("primaryMetric");
+            Double allocBytes = null;
+            for (Iterator<Map.Entry<String, JsonNode>> it = node.path("secondaryMetrics").fields(); it.hasNext(); ) {
+                Map.Entry<String, JsonNode> metric = it.next();
+                if (metric.getKey().endsWith(ALLOC_METRIC)) {
+                    allocBytes = metric.getValue().path("score").asDouble();
+                }
+            }
+            results.put(key.toString(), new Result(node.path("mode").asText(), primary.path("scoreUnit").asText(),
+                    primary.path("score").asDouble(), allocBytes));
+        }
+        return results;
+    }
+
+    private static ObjectNode readBaseline(final Path file) throws IOException {
+        if (!Files.exists(file)) {
+            throw new IllegalArgumentException("Baseline not found: " + file + ", create it with --update");
+        }
+        return (ObjectNode) MAPPER.readTree(file.toFile());
+    }
+
+    /**
+     * Compares the results with the baseline, benchmarks missing on either side are listed as unmatched.
+     *
+     * @param baseline    baseline.
+     * @param results     current results.
+     * @param comparisons receives the metric comparisons.
+     * @param unmatched   receives the unmatched benchmarks.
+     */
+    static void compare(final JsonNode baseline, final Map<String, Result> results,
+                        final List<Comparison> comparisons, final Unmatched unmatched) {
+        double defaultTolerance = baseline.path("default_tolerance").asDouble(DEFAULT_TOLERANCE);
+        double defaultAllocTolerance = baseline.path("default_alloc_tolerance").asDouble(DEFAULT_ALLOC_TOLERANCE);
+        JsonNode benchmarks = baseline.path("benchmarks");
+        results.forEach((key, result) -> {
+            JsonNode expected = benchmarks.get(key);
+            if (expected == null) {
+                unmatched.added().add(key);
+                return;
+            }
+            if (!expected.path("unit").asText().equals(result.unit())) {
+                throw new IllegalArgumentException("Unit of " + key + " changed from " + expected.path("unit").asText()
+                        + " to " + result.unit() + ", update the baseline");
+            }
+            comparisons.add(new Comparison(key, "score", expected.path("score").asDouble(), result.score(),
+                    result.unit(), expected.path("tolerance").asDouble(defaultTolerance), 0D,
+                    "thrpt".equals(result.mode())));
+            if (expected.has("alloc_bytes") && result.allocBytes() != null) {
+                comparisons.add(new Comparison(key, "alloc", expected.path("alloc_bytes").asDouble(),
+                        result.allocBytes(), "B/op", expected.path("alloc_tolerance").asDouble(defaultAllocTolerance),
+                        MIN_ALLOC_DELTA, false));
+            }
+        });
+        benchmarks.fieldNames().forEachRemaining(key -> {
+            if (!results.containsKey(key)) {
+                unmatched.missing().add(key);
+            }
+        });
+    }
+
+    /**
+     * Formats the comparisons as a table, followed by the regressions and the unmatched benchmarks.
+     *
+     * @param comparisons  metric comparisons.
+     * @param unmatched    unmatched benchmarks.
+     * @param allowMissing whether baseline benchmarks may be missing from the results.
+     * @return report
+     */
+    static String report(final List<Comparison> comparisons, final Unmatched unmatched, final boolean allowMissing) {
+        int width = comparisons.stream().mapToInt(comparison -> comparison.benchmark().length()).max().orElse(9);
+        String format = "%-" + width + "s  %-6s  %14s  %14s  %-5s  %8s  %9s  %s%n";
+        StringBuilder report = new StringBuilder(String.format(Locale.ROOT, format,
+                "Benchmark", "Metric", "Baseline", "Current", "Unit", "Change", "Tolerance", "Status"));
+        List<Comparison> regressions = Lists.newArrayList();
+        for (Comparison comparison : comparisons) {
+            String status = comparison.isRegression() ? "REGRESSION" : comparison.isImprovement() ? "IMPROVED" : "OK";
+            if (comparison.isRegression()) {
+                regressions.add(comparison);
+            }
+            report.append(String.format(Locale.ROOT, format, comparison.benchmark(), comparison.metric(),
+                    String.format(Locale.ROOT, "%.3f", comparison.baseline()),
+                    String.format(Locale.ROOT, "%.3f", comparison.current()), comparison.unit(),
+                    String.format(Locale.ROOT, "%+.1f%%", comparison.change() * PERCENT),
+                    String.format(Locale.ROOT, "%.0f%%", comparison.tolerance() * PERCENT), status));
+        }
+        unmatched.added().forEach(benchmark -> report.append("Unmatched: ").append(benchmark)
+                .append(" (not in baseline)").append(System.lineSeparator()));
+        unmatched.missing().forEach(benchmark -> report.append(allowMissing ? "Unmatched: " : "MISSING: ")
+                .append(benchmark).append(" (not run)").append(System.lineSeparator()));
+        if (regressions.isEmpty()) {
+            report.append(String.format(Locale.ROOT, "No regressions in %d metrics%n", comparisons.size()));
+        } else {
+            report.append(String.format(Locale.ROOT, "%d of %d metrics regressed:%n",
+                    regressions.size(), comparisons.size()));
+            regressions.forEach(comparison -> report.append(String.format(Locale.ROOT,
+                    "  %s %s: %.3f -> %.3f %s (%+.1f%%)%n", comparison.benchmark(), comparison.metric(),
+                    comparison.baseline(), comparison.current(), comparison.unit(), comparison.change() * PERCENT)));
+        }
+        if (!allowMissing && !unmatched.missing().isEmpty()) {
+            report.append(String.format(Locale.ROOT, "%d baseline benchmarks were not run, "
+                    + "use --allow-missing when running a subset%n", unmatched.missing().size()));
+        }
+        return report.toString();
+    }
+
+    private static void updateBaseline(final Path file, final Map<String, Result> results) throws IOException {
+        ObjectNode baseline = Files.exists(file) ? readBaseline(file) : MAPPER.createObjectNode();
+        if (!baseline.has("default_tolerance")) {
+            baseline.put("default_tolerance", DEFAULT_TOLERANCE);
+            baseline.put("default_alloc_tolerance", DEFAULT_ALLOC_TOLERANCE);
+        }
+        JsonNode previous = baseline.path("benchmarks");
+        Map<String, ObjectNode> benchmarks = Maps.newTreeMap();
+        previous.fields().forEachRemaining(entry -> benchmarks.put(entry.getKey(), (ObjectNode) entry.getValue()));
+        results.forEach((key, result) -> {
+            ObjectNode benchmark = MAPPER.createObjectNode();
+            benchmark.put("mode", result.mode());
+            benchmark.put("unit", result.unit());
+            benchmark.put("score", round(result.score()));
+            if (result.allocBytes() != null) {
+                benchmark.put("alloc_bytes", round(result.allocBytes()));
+            }
+            JsonNode old = previous.get(key);
+            if (old != null) {
+                for (String tolerance : List.of("tolerance", "alloc_tolerance")) {
+                    if (old.has(tolerance)) {
+                        benchmark.set(tolerance, old.get(tolerance));
+                    }
+                }
+            }
+            benchmarks.put(key, benchmark);
+        });
+        baseline.set("benchmarks", MAPPER.valueToTree(benchmarks));
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        MAPPER.writeValue(file.toFile(), baseline);
+    }
+
+    private static double round(final double value) {
+        return Math.round(value * ROUNDING) / ROUNDING;
+    }
+}
@@ -0,0 +1,63 @@
+package chat.octet.accordion.benchmark;
+
+import chat.octet.accordion.action.ActionService;
+import chat.octet.accordion.action.model.ActionConfig;
+import chat.octet.accordion.action.model.ExecuteResult;
+import chat.octet.accordion.action.script.ScriptAction;
+import chat.octet.accordion.action.script.ScriptParameter;
+import chat.octet.accordion.core.entity.Session;
+import chat.octet.accordion.core.enums.ActionType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the {@code prepare} and {@code execute} phases of a {@link ScriptAction}.
+ *
+ * @author <a href="https://github.com/eoctet">William</a>
+ * @since 1.0.1
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScriptActionBenchmark {
+
+    @Param({"a + b * 2", "let t = 0; for i in range(0, 100) { t = t + i * a; } return t;", "string.substring(name, 0, 3)"})
+    private String script;
+
+    private ActionService action;
+    private Session session;
+
+    @Setup
+    public void setUp() {
+        ActionConfig config = ActionConfig.builder()
+                .id("script-benchmark")
+                .actionType(ActionType.SCRIPT.name())
+                .actionName("Script Benchmark")
+                .actionParams(ScriptParameter.builder().script(script).build())
+                .build();
+        action = new ScriptAction(config);
+        session = new Session();
+        session.add("a", 3, true);
+        session.add("b", 4, true);
+        session.add("name", "accordion", true);
+    }
+
+    @Benchmark
+    public ExecuteResult execute() {
+        return action.prepare(session).execute();
+    }
+}
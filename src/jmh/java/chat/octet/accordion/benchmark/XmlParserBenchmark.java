@@ -0,0 +1,41 @@
+package chat.octet.accordion.benchmark;
+
+import chat.octet.accordion.utils.XmlParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link XmlParser#parseXmlToMap(String)} on a typical API response payload.
+ *
+ * @author <a href="https://github.com/eoctet">William</a>
+ * @since 1.0.1
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class XmlParserBenchmark {
+
+    private static final String XML = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+            + "<response><code>200</code><message>OK</message>"
+            + "<data><id>1024</id><name>accordion</name><enabled>true</enabled>"
+            + "<tags><tag>api</tag><tag>script</tag><tag>email</tag></tags>"
+            + "<owner><name>William</name><url>https://github.com/eoctet</url></owner></data></response>";
+
+    @Benchmark
+    public Map<String, Object> parseXmlToMap() {
+        return XmlParser.parseXmlToMap(XML);
+    }
+}
@@ -0,0 +1,191 @@
+package chat.octet.accordion.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.Lists;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for the benchmark RegressionGate.
+ *
+ * @author <a href="https://github.com/eoctet">William</a>
+ */
+@DisplayName("RegressionGate Tests")
+class RegressionGateTest {
+
+    private static final String BASELINE = """
+            {
+              "default_tolerance": 0.2,
+              "default_alloc_tolerance": 0.1,
+              "benchmarks": {
+                "PlayBenchmark.play": {"mode": "thrpt", "unit": "ops/s", "score": 1000.0, "alloc_bytes": 2000.0},
+                "ConditionBenchmark.testCondition": {"mode": "avgt", "unit": "us/op", "score": 10.0, "tolerance": 0.5},
+                "RemovedBenchmark.run": {"mode": "avgt", "unit": "us/op", "score": 1.0}
+              }
+            }
+            """;
+
+    private static RegressionGate.Comparison comparison(final double baseline, final double current,
+                                                        final double minDelta, final boolean higherIsBetter) {
+        return new RegressionGate.Comparison("Benchmark.run", "score", baseline, current, "ops/s", 0.2D, minDelta,
+                higherIsBetter);
+    }
+
+    @Nested
+    @DisplayName("Tolerance Tests")
+    class ToleranceTests {
+
+        @Test
+        @DisplayName("Should flag throughput drops beyond the tolerance")
+        void shouldFlagThroughputDrop() {
+            assertThat(comparison(1000D, 790D, 0D, true).isRegression()).isTrue();
+            assertThat(comparison(1000D, 810D, 0D, true).isRegression()).isFalse();
+            assertThat(comparison(1000D, 1300D, 0D, true).isImprovement()).isTrue();
+            assertThat(comparison(1000D, 1300D, 0D, true).isRegression()).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should flag average time increases beyond the tolerance")
+        void shouldFlagAverageTimeIncrease() {
+            assertThat(comparison(10D, 12.5D, 0D, false).isRegression()).isTrue();
+            assertThat(comparison(10D, 11.5D, 0D, false).isRegression()).isFalse();
+            assertThat(comparison(10D, 7D, 0D, false).isImprovement()).isTrue();
+            assertThat(comparison(10D, 7D, 0D, false).isRegression()).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should ignore changes within the minimum delta")
+        void shouldIgnoreChangesWithinMinDelta() {
+            // Given a small allocation doubling, which stays below the minimum delta
+            RegressionGate.Comparison small = comparison(48D, 96D, RegressionGate.MIN_ALLOC_DELTA, false);
+            RegressionGate.Comparison large = comparison(48D, 160D, RegressionGate.MIN_ALLOC_DELTA, false);
+
+            // Then
+            assertThat(small.isRegression()).isFalse();
+            assertThat(large.isRegression()).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should not divide by a zero baseline")
+        void shouldHandleZeroBaseline() {
+            assertThat(comparison(0D, 10D, 0D, false).change()).isZero();
+            assertThat(comparison(0D, 10D, 0D, false).isRegression()).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("Comparison Tests")
+    class ComparisonTests {
+
+        @Test
+        @DisplayName("Should compare scores and allocations with the baseline tolerances")
+        void shouldCompareWithBaseline() throws Exception {
+            // Given
+            JsonNode baseline = new ObjectMapper().readTree(BASELINE);
+            Map<String, RegressionGate.Result> results = Map.of(
+                    "PlayBenchmark.play", new RegressionGate.Result("thrpt", "ops/s", 700D, 2500D),
+                    "ConditionBenchmark.testCondition", new RegressionGate.Result("avgt", "us/op", 14D, null),
+                    "NewBenchmark.run", new RegressionGate.Result("avgt", "us/op", 1D, null));
+            List<RegressionGate.Comparison> comparisons = Lists.newArrayList();
+            RegressionGate.Unmatched unmatched = new RegressionGate.Unmatched();
+
+            // When
+            RegressionGate.compare(baseline, results, comparisons, unmatched);
+
+            // Then
+            assertThat(comparisons).hasSize(3);
+            assertThat(comparisons).filteredOn(RegressionGate.Comparison::isRegression)
+                    .extracting(c -> c.benchmark() + " " + c.metric())
+                    .containsExactlyInAnyOrder("PlayBenchmark.play score", "PlayBenchmark.play alloc");
+            assertThat(unmatched.missing()).containsExactly("RemovedBenchmark.run");
+            assertThat(unmatched.added()).containsExactly("NewBenchmark.run");
+        }
+
+        @Test
+        @DisplayName("Should fail on a changed unit")
+        void shouldFailOnChangedUnit() throws Exception {
+            // Given
+            JsonNode baseline = new ObjectMapper().readTree(BASELINE);
+            Map<String, RegressionGate.Result> results = Map.of(
+                    "ConditionBenchmark.testCondition", new RegressionGate.Result("avgt", "ns/op", 10D, null));
+
+            // Then
+            assertThatThrownBy(() -> RegressionGate.compare(baseline, results, Lists.newArrayList(),
+                    new RegressionGate.Unmatched()))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("Should fail on missing benchmarks unless allowed")
+        void shouldFailOnMissingBenchmarks() {
+            // Given
+            RegressionGate.Unmatched unmatched = new RegressionGate.Unmatched();
+            unmatched.missing().add("RemovedBenchmark.run");
+            unmatched.added().add("NewBenchmark.run");
+            List<RegressionGate.Comparison> comparisons = List.of(comparison(1000D, 1000D, 0D, true));
+
+            // Then
+            assertThat(RegressionGate.isFailed(comparisons, unmatched, false)).isTrue();
+            assertThat(RegressionGate.isFailed(comparisons, unmatched, true)).isFalse();
+            assertThat(RegressionGate.report(comparisons, unmatched, false))
+                    .contains("MISSING: RemovedBenchmark.run (not run)")
+                    .contains("Unmatched: NewBenchmark.run (not in baseline)");
+        }
+
+        @Test
+        @DisplayName("Should pass on added benchmarks")
+        void shouldPassOnAddedBenchmarks() {
+            // Given
+            RegressionGate.Unmatched unmatched = new RegressionGate.Unmatched();
+            unmatched.added().add("NewBenchmark.run");
+
+            // Then
+            assertThat(RegressionGate.isFailed(List.of(comparison(1000D, 1000D, 0D, true)), unmatched, false))
+                    .isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("Argument Tests")
+    class ArgumentTests {
+
+        @Test
+        @DisplayName("Should parse the options")
+        void shouldParseOptions() {
+            // When
+            RegressionGate.Options options = RegressionGate.parse(new String[]{
+                    "--baseline", "base.json", "--result", "result.json", "--allow-missing"});
+
+            // Then
+            assertThat(options.baselineFile()).isEqualTo(Paths.get("base.json"));
+            assertThat(options.resultFile()).isEqualTo(Paths.get("result.json"));
+            assertThat(options.allowMissing()).isTrue();
+            assertThat(options.update()).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should reject an option without a value")
+        void shouldRejectMissingValue() {
+            assertThatThrownBy(() -> RegressionGate.parse(new String[]{"--update", "--baseline"}))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("Missing value of --baseline");
+        }
+
+        @Test
+        @DisplayName("Should reject an unknown argument")
+        void shouldRejectUnknownArgument() {
+            assertThatThrownBy(() -> RegressionGate.parse(new String[]{"--force"}))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("Unknown argument: --force");
+        }
+    }
+}
@@ -4,29 +4,42 @@ package chat.octet.accordion;
 import chat.octet.accordion.action.AbstractAction;
 import chat.octet.accordion.action.ActionService;
 import chat.octet.accordion.action.model.ExecuteResult;
+import chat.octet.accordion.action.model.MemoStats;
+import chat.octet.accordion.action.model.OutputParameter;
+import chat.octet.accordion.core.entity.LineStream;
 import chat.octet.accordion.core.entity.Message;
 import chat.octet.accordion.core.entity.Session;
 import chat.octet.accordion.core.enums.ActionType;
 import chat.octet.accordion.core.enums.GraphNodeStatus;
+import chat.octet.accordion.core.jfr.NodeExecutionEvent;
+import chat.octet.accordion.core.jfr.PlanRunEvent;
+import chat.octet.accordion.core.jfr.ScriptCompileEvent;
+import chat.octet.accordion.core.listener.ExecutionListener;
+import chat.octet.accordion.core.listener.NodeEvent;
+import chat.octet.accordion.core.listener.RunEvent;
+import chat.octet.accordion.core.metrics.MetricsRegistry;
+import chat.octet.accordion.core.metrics.MetricsSnapshot;
 import chat.octet.accordion.exceptions.AccordionException;
 import chat.octet.accordion.graph.entity.GraphEdge;
 import chat.octet.accordion.graph.entity.GraphNode;
-import chat.octet.accordion.graph.entity.GraphView;
 import chat.octet.accordion.graph.entity.SwitchFilter;
+import chat.octet.accordion.utils.CommonUtils;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 
 import javax.annotation.Nullable;
-import java.util.Iterator;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.Set;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 /**
  * The main execution engine for Accordion automation framework.
@@ -67,12 +80,17 @@ import java.util.stream.IntStream;
 @Slf4j
 public class Accordion implements AutoCloseable {
     private final Session session;
-    private final StringBuilder executeGraphView; // StringBuilder is more efficient than StringBuffer for single-threaded use
-    private volatile boolean verbose; // Make volatile for thread safety
+    private ExecutionReport report; // Created only by verbose runs
     private volatile SwitchFilter switchFilter; // Make volatile for thread safety
     private volatile boolean breakUp; // Make volatile for thread safety
     private final AccordionPlan plan;
     private volatile boolean closed = false; // Track close state
+    private Set<String> dryRunActionTypes; // Set only for warm-up dry runs
+    private final List<ExecutionListener> listeners = new CopyOnWriteArrayList<>();
+    private String runId; // Set only while listeners receive the events of a run
+    private volatile MetricsRegistry metricsRegistry;
+    private boolean played; // Non-verbose runs leave no report, so reuse is tracked explicitly
+    private PlanProfile profile; // Set only while profiling runs
 
     /**
      * Constructs a new Accordion execution engine with the specified plan.
@@ -88,8 +106,146 @@ public class Accordion implements AutoCloseable {
         Preconditions.checkNotNull(accordionPlan, "Accordion plan cannot be null");
         this.plan = accordionPlan;
         this.session = new Session();
-        this.executeGraphView = new StringBuilder();
         this.switchFilter = new SwitchFilter();
+        if (Boolean.getBoolean("accordion.metrics.enabled")) {
+            enableMetrics();
+        }
+    }
+
+    /**
+     * Turns this accordion into a warm-up dry run, only actions of the given types are executed.
+     * All other actions are stubbed out, they are prepared and produce their default outputs,
+     * but are not executed. Closing a dry run does not close the actions, the plan keeps them.
+     * Dry runs are not recorded in the metrics registry, so warm-up traffic does not skew the run metrics.
+     *
+     * @param actionTypes action types to execute
+     * @return this accordion instance
+     */
+    Accordion dryRun(final Set<String> actionTypes) {
+        this.dryRunActionTypes = Set.copyOf(actionTypes);
+        if (metricsRegistry != null) {
+            removeListener(metricsRegistry);
+            metricsRegistry = null;
+        }
+        return this;
+    }
+
+    /**
+     * Registers an execution listener receiving the run and node events of every subsequent run.
+     *
+     * <p>Listeners are called synchronously on the executing thread, wrap slow listeners with
+     * {@link ExecutionListener#async(ExecutionListener)}. Without listeners no events are created.</p>
+     *
+     * @param listener execution listener, must not be null
+     * @return this accordion instance
+     * @since 1.0.1
+     */
+    public Accordion addListener(final ExecutionListener listener) {
+        Preconditions.checkNotNull(listener, "Execution listener cannot be null");
+        this.listeners.add(listener);
+        return this;
+    }
+
+    /**
+     * Removes a registered execution listener.
+     *
+     * @param listener execution listener
+     * @return true if the listener was registered
+     * @since 1.0.1
+     */
+    public boolean removeListener(final ExecutionListener listener) {
+        return this.listeners.remove(listener);
+    }
+
+    /**
+     * Records the metrics of every subsequent run in the default {@link MetricsRegistry},
+     * which is also available through JMX. Metrics are enabled for every accordion when
+     * the system property {@code accordion.metrics.enabled} is true.
+     *
+     * @return this accordion instance
+     * @since 1.0.1
+     */
+    public Accordion enableMetrics() {
+        return enableMetrics(MetricsRegistry.getDefault());
+    }
+
+    /**
+     * Records the metrics of every subsequent run in the registry.
+     *
+     * @param registry metrics registry, must not be null
+     * @return this accordion instance
+     * @since 1.0.1
+     */
+    public Accordion enableMetrics(final MetricsRegistry registry) {
+        Preconditions.checkNotNull(registry, "Metrics registry cannot be null");
+        if (this.metricsRegistry != null) {
+            removeListener(this.metricsRegistry);
+        }
+        this.metricsRegistry = registry;
+        return addListener(registry);
+    }
+
+    /**
+     * Returns a snapshot of the metrics registry this accordion records to.
+     *
+     * <p>The snapshot contains run and node counters and latency percentiles by action id
+     * and by action type. Registries shared by several accordions contain all of their runs.</p>
+     *
+     * @return metrics snapshot, empty if metrics are not enabled
+     * @since 1.0.1
+     */
+    public MetricsSnapshot metrics() {
+        MetricsRegistry registry = this.metricsRegistry;
+        return registry == null ? MetricsSnapshot.EMPTY : registry.snapshot();
+    }
+
+    /**
+     * Executes the plan the given number of times and profiles every node.
+     *
+     * @param runs number of profiled runs, must be positive
+     * @return plan profile
+     * @throws AccordionException    if a run fails
+     * @throws IllegalStateException if the accordion has been closed
+     * @see #profile(int, Map, Message)
+     * @since 1.0.1
+     */
+    public PlanProfile profile(final int runs) {
+        return profile(runs, null, null);
+    }
+
+    /**
+     * Executes the plan the given number of times and profiles every node, in the manner of
+     * {@code EXPLAIN ANALYZE}.
+     *
+     * <p>The profile contains the latency percentiles of each node, the time split across
+     * {@code prepare}, {@code execute} and {@code output}, the bytes allocated by the executing thread,
+     * the input and output parameter sizes and the critical path of the plan, and is rendered as a tree
+     * with {@link PlanProfile#toText()}. Profiling measures the actions as they run, so side effects
+     * happen once per run. Runs are verbose, {@link #verbose()} returns the tree of the last run.</p>
+     *
+     * @param runs         number of profiled runs, must be positive
+     * @param globalParams global parameters available to all actions, may be null
+     * @param message      the initial message to pass to the execution plan, may be null
+     * @return plan profile
+     * @throws AccordionException    if a run fails
+     * @throws IllegalStateException if the accordion has been closed
+     * @since 1.0.1
+     */
+    public PlanProfile profile(final int runs, @Nullable final Map<String, Object> globalParams,
+                               @Nullable final Message message) {
+        Preconditions.checkArgument(runs > 0, "Profile runs must be positive");
+        PlanProfile planProfile = new PlanProfile(runs);
+        this.profile = planProfile;
+        try {
+            for (int i = 0; i < runs; i++) {
+                long start = System.nanoTime();
+                play(globalParams, message, true);
+                planProfile.completeRun(report, System.nanoTime() - start);
+            }
+        } finally {
+            this.profile = null;
+        }
+        return planProfile.complete(plan.getRootGraphNode());
     }
 
     /**
@@ -188,10 +344,11 @@ public class Accordion implements AutoCloseable {
             throw new IllegalStateException("Accordion has been closed and cannot be reused");
         }
 
-        if (!executeGraphView.isEmpty()) {
+        if (played) {
             log.debug("Reset the execution status of the accordion.");
             reset();
         }
+        this.played = true;
 
         // Validate and add global parameters
         if (globalParams != null && !globalParams.isEmpty()) {
@@ -206,7 +363,6 @@ public class Accordion implements AutoCloseable {
         if (message != null) {
             this.session.add(AbstractAction.ACCORDION_MESSAGE, message);
         }
-        this.verbose = verboseMode;
 
         GraphNode node = plan.getRootGraphNode();
         Preconditions.checkNotNull(node, "Root graph node cannot be null.");
@@ -215,15 +371,28 @@ public class Accordion implements AutoCloseable {
         int level = 0;
         long start;
         ExecuteResult lastResult;
-        List<GraphView> executedGraphViews = Lists.newArrayList(new GraphView(node, level, false));
 
+        PlanRunEvent planRunEvent = new PlanRunEvent();
+        planRunEvent.begin();
+        String rootActionId = node.getActionId();
+        long runStart = System.nanoTime();
+        this.report = verboseMode ? new ExecutionReport(runStart) : null;
+        if (report != null) {
+            report.schedule(node, level, false);
+        }
+        this.runId = listeners.isEmpty() ? null : CommonUtils.randomString("RUN");
+        if (runId != null) {
+            RunEvent event = new RunEvent(runId, plan.getGraphNodes().size(), runStart, 0L, null);
+            notifyListeners(listener -> listener.onRunStart(event));
+            notifyScheduled(node);
+        }
         try {
             do {
                 //execute action service
-                start = System.currentTimeMillis();
+                start = System.nanoTime();
                 lastResult = execute(node);
                 log.debug("({}) -> Action execution time: {} ms.",
-                        node.getActionId(), System.currentTimeMillis() - start);
+                        node.getActionId(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
                 //get next actions
                 Set<GraphEdge> edges = node.getEdges();
                 level += edges.isEmpty() ? 0 : 1;
@@ -233,7 +402,10 @@ public class Accordion implements AutoCloseable {
                     if (!queue.contains(nextNode) && !nextNode.isFinished()) {
                         boolean added = queue.offer(nextNode);
                         if (added) {
-                            executedGraphViews.add(new GraphView(nextNode, level, (count == edges.size() - 1)));
+                            if (report != null) {
+                                report.schedule(nextNode, level, count == edges.size() - 1);
+                            }
+                            notifyScheduled(nextNode);
                         }
                     } else {
                         --level;
@@ -243,9 +415,15 @@ public class Accordion implements AutoCloseable {
                 node = queue.poll();
             } while (node != null);
         } catch (Exception e) {
+            planRunEvent.complete(rootActionId, plan.getGraphNodes().size(), e);
+            notifyRunEnd(runStart, e);
             throw new AccordionException(e.getMessage(), e);
         }
-        generateExecuteGraphView(executedGraphViews);
+        if (report != null) {
+            report.complete(System.nanoTime());
+        }
+        planRunEvent.complete(rootActionId, plan.getGraphNodes().size(), null);
+        notifyRunEnd(runStart, null);
         return lastResult;
     }
 
@@ -266,68 +444,126 @@ public class Accordion implements AutoCloseable {
      */
     private ExecuteResult execute(final GraphNode node) {
         ExecuteResult result = new ExecuteResult();
+        NodeExecutionEvent nodeExecutionEvent = new NodeExecutionEvent();
+        nodeExecutionEvent.begin();
         boolean filter = Optional.ofNullable(switchFilter.get(node.getActionId())).orElse(true);
         if (!breakUp && filter && plan.prevGraphNodesFinished(node)) {
             //
             ActionService actionService = node.getActionService();
-            result = actionService.prepare(session).execute();
-            actionService.output(result);
+            String actionType = actionService.getConfig().getActionType();
+            long start = runId == null && report == null ? 0L : System.nanoTime();
+            if (runId != null) {
+                NodeEvent event = nodeEvent(node, GraphNodeStatus.NORMAL, start, 0L, null);
+                notifyListeners(listener -> listener.onNodeStart(event));
+            }
+            PlanProfile.NodeProfile nodeProfile = profile == null ? null : profile.begin(node, session);
+            String previousActionId = ScriptCompileEvent.enterAction(node.getActionId());
+            try {
+                actionService.prepare(session);
+                if (nodeProfile != null) {
+                    nodeProfile.prepared();
+                }
+                if (dryRunActionTypes == null || dryRunActionTypes.contains(actionType)) {
+                    result = actionService.executeMemoized();
+                }
+                if (nodeProfile != null) {
+                    nodeProfile.executed();
+                }
+                actionService.output(result);
+                if (nodeProfile != null) {
+                    nodeProfile.outputted();
+                }
+            } catch (RuntimeException e) {
+                nodeExecutionEvent.complete(node.getActionId(), actionType, node.getActionName(),
+                        GraphNodeStatus.ERROR);
+                reportNode(node, GraphNodeStatus.ERROR, start, e);
+                notifyNodeEnd(node, GraphNodeStatus.ERROR, start, e);
+                throw e;
+            } finally {
+                ScriptCompileEvent.exitAction(previousActionId);
+            }
             //
             GraphNodeStatus status = actionService.checkError() ? GraphNodeStatus.ERROR : GraphNodeStatus.SUCCESS;
             plan.updateGraphNodeStatus(node, status);
+            if (nodeProfile != null) {
+                nodeProfile.finish(status, session);
+            }
+            nodeExecutionEvent.complete(node.getActionId(), actionType, node.getActionName(), status);
+            reportNode(node, status, start, actionService.getExecuteThrowable());
+            notifyNodeEnd(node, status, start, actionService.getExecuteThrowable());
             //
-            ActionType actionType = ActionType.valueOf(actionService.getConfig().getActionType());
-            if (ActionType.CONDITION == actionType) {
+            if (ActionType.CONDITION.name().equals(actionType)) {
                 breakUp = result.isBreak();
             }
-            if (ActionType.SWITCH == actionType) {
+            if (ActionType.SWITCH.name().equals(actionType)) {
                 switchFilter = result.getSwitchFilter();
             }
         } else {
             plan.updateGraphNodeStatus(node, GraphNodeStatus.SKIP);
+            nodeExecutionEvent.complete(node.getActionId(), node.getActionService().getConfig().getActionType(),
+                    node.getActionName(), GraphNodeStatus.SKIP);
+            reportNode(node, GraphNodeStatus.SKIP, System.nanoTime(), null);
+            if (profile != null) {
+                profile.skip(node);
+            }
+            if (runId != null) {
+                NodeEvent event = nodeEvent(node, GraphNodeStatus.SKIP, System.nanoTime(), 0L, null);
+                notifyListeners(listener -> listener.onNodeSkip(event));
+            }
         }
         return result;
     }
 
-    /**
-     * Generates a visual representation of the execution plan.
-     *
-     * <p>Creates a tree-like visualization showing the execution flow,
-     * status of each action, and hierarchical relationships. The visualization
-     * uses Unicode characters to create a professional tree structure.</p>
-     *
-     * <p>Example output:</p>
-     * <pre>
-     * 🆎───⨀ ✓ Start Action (start-001)
-     * 	├───⨀ ✓ API Call (api-001)
-     * 	└───⨀ ✓ Send Email (email-001)
-     * </pre>
-     *
-     * @param views list of graph views representing the execution sequence
-     */
-    private void generateExecuteGraphView(final List<GraphView> views) {
-        if (this.verbose) {
-            GraphView view;
-            String suffix;
-            for (Iterator<GraphView> iterator = views.iterator();
-                 iterator.hasNext();
-                 this.executeGraphView.append(IntStream.range(0, view.getLevel())
-                         .mapToObj((i) -> "    ")
-                         .collect(Collectors.joining("", "", suffix
-                                 + "───⨀ "
-                                 + view.getGraphNode().getStatus().getFlag()
-                                 + StringUtils.SPACE + view.getGraphNode().getActionName()
-                                 + StringUtils.SPACE
-                                 + "(" + view.getGraphNode().getActionId() + ")\n")))) {
-                view = iterator.next();
-                suffix = view.isEnd() ? "└" : "├";
-                if (view.getLevel() == 0) {
-                    suffix = "\ud83c\udd5e";
-                }
+    private void reportNode(final GraphNode node, final GraphNodeStatus status, final long start,
+                            @Nullable final Throwable error) {
+        if (report != null) {
+            report.finish(node, status, start, System.nanoTime(), error);
+        }
+    }
+
+    private NodeEvent nodeEvent(final GraphNode node, final GraphNodeStatus status,
+                                final long nanoTime, final long durationNanos, @Nullable final Throwable error) {
+        return new NodeEvent(runId, node.getActionId(), node.getActionName(),
+                node.getActionService().getConfig().getActionType(), status, nanoTime, durationNanos, error);
+    }
+
+    private void notifyScheduled(final GraphNode node) {
+        if (runId != null) {
+            NodeEvent event = nodeEvent(node, node.getStatus(), System.nanoTime(), 0L, null);
+            notifyListeners(listener -> listener.onNodeScheduled(event));
+        }
+    }
+
+    private void notifyNodeEnd(final GraphNode node, final GraphNodeStatus status, final long start,
+                               @Nullable final Throwable error) {
+        if (runId != null) {
+            long end = System.nanoTime();
+            NodeEvent event = nodeEvent(node, status, end, end - start, status == GraphNodeStatus.ERROR ? error : null);
+            if (status == GraphNodeStatus.ERROR) {
+                notifyListeners(listener -> listener.onNodeError(event));
             }
+            notifyListeners(listener -> listener.onNodeEnd(event));
+        }
+    }
+
+    private void notifyRunEnd(final long runStart, @Nullable final Throwable error) {
+        if (runId != null) {
+            long end = System.nanoTime();
+            RunEvent event = new RunEvent(runId, plan.getGraphNodes().size(), end, end - runStart, error);
+            notifyListeners(listener -> listener.onRunEnd(event));
+            this.runId = null;
         }
     }
 
+    private void notifyListeners(final Consumer<ExecutionListener> callback) {
+        for (ExecutionListener listener : listeners) {
+            try {
+                callback.accept(listener);
+            } catch (Exception e) {
+                log.warn("Execution listener {} failed: {}", listener.getClass().getName(), e.getMessage(), e);
+            }
+        }
+    }
 
     /**
      * Returns the execution visualization as a formatted string.
@@ -348,7 +584,42 @@ public class Accordion implements AutoCloseable {
      * @since 1.0.0
      */
     public String verbose() {
-        return executeGraphView.toString();
+        return report == null ? StringUtils.EMPTY : report.toText();
+    }
+
+    /**
+     * Returns the structured report of the last run, created only when verbose mode was enabled.
+     *
+     * <p>The report contains every scheduled node with its level, status, start and end times
+     * and error, and is rendered on demand with {@link ExecutionReport#toText()} or
+     * {@link ExecutionReport#toJson()}.</p>
+     *
+     * @return execution report, empty if verbose was not enabled
+     * @since 1.0.1
+     */
+    public Optional<ExecutionReport> report() {
+        return Optional.ofNullable(report);
+    }
+
+    /**
+     * Returns the memoization statistics of the memoized actions of the plan.
+     *
+     * <p>Memoized results are kept by the actions of the plan, so they are shared across runs
+     * and by every accordion playing the same plan.</p>
+     *
+     * @return memoization statistics by action id, empty if no action is memoized
+     * @see chat.octet.accordion.action.model.MemoizeConfig
+     * @since 1.0.1
+     */
+    public Map<String, MemoStats> memoStats() {
+        Map<String, MemoStats> stats = Maps.newLinkedHashMap();
+        for (GraphNode node : plan.getGraphNodes()) {
+            MemoStats memoStats = node.getActionService().getMemoStats();
+            if (memoStats != null) {
+                stats.put(node.getActionId(), memoStats);
+            }
+        }
+        return stats;
     }
 
     /**
@@ -356,9 +627,9 @@ public class Accordion implements AutoCloseable {
      *
      * <p>This method clears all execution state including:</p>
      * <ul>
-     *   <li>Execution visualization buffer</li>
+     *   <li>Execution report</li>
      *   <li>Break-up flags and switch filters</li>
-     *   <li>Session parameters and context</li>
+     *   <li>Session parameters and context, line streams no action consumed are closed</li>
      *   <li>Graph node execution status</li>
      * </ul>
      *
@@ -368,13 +639,28 @@ public class Accordion implements AutoCloseable {
      * @since 1.0.0
      */
     public void reset() {
-        this.executeGraphView.setLength(0);
+        this.report = null;
         this.breakUp = false;
         this.switchFilter.clear();
+        closeLineStreams();
         this.session.clear();
         this.plan.reset();
     }
 
+    /**
+     * Closes the line streams left in the session, so that unconsumed streaming outputs do not keep
+     * their source, e.g. a shell process, alive until it times out.
+     */
+    private void closeLineStreams() {
+        if (session.getValue(AbstractAction.PREV_ACTION_OUTPUT) instanceof Collection<?> output) {
+            output.forEach(param -> {
+                if (param instanceof OutputParameter parameter && parameter.getValue() instanceof LineStream lines) {
+                    lines.close();
+                }
+            });
+        }
+    }
+
     /**
      * Closes the accordion and releases all associated resources.
      *
@@ -382,8 +668,8 @@ public class Accordion implements AutoCloseable {
      * of all resources including:</p>
      * <ul>
      *   <li>Action service resources</li>
-     *   <li>Session data and parameters</li>
-     *   <li>Execution visualization buffers</li>
+     *   <li>Session data and parameters, including unconsumed line streams</li>
+     *   <li>Execution report</li>
      * </ul>
      *
      * <p>Once closed, the accordion cannot be reused and will throw
@@ -400,8 +686,8 @@ public class Accordion implements AutoCloseable {
         }
 
         try {
-            // Close all action services
-            for (GraphNode n : plan.getGraphNodes()) {
+            // Close all action services, dry runs leave them to the plan
+            for (GraphNode n : dryRunActionTypes == null ? plan.getGraphNodes() : List.<GraphNode>of()) {
                 try {
                     if (n.getActionService() != null) {
                         n.getActionService().close();
@@ -413,13 +699,12 @@ public class Accordion implements AutoCloseable {
 
             // Clear session data
             if (session != null) {
+                closeLineStreams();
                 session.clear();
             }
 
-            // Clear execution view
-            if (executeGraphView != null) {
-                executeGraphView.setLength(0);
-            }
+            // Clear execution report
+            report = null;
 
         } finally {
             closed = true;
@@ -3,7 +3,10 @@ package chat.octet.accordion;
 
 import chat.octet.accordion.action.ActionRegister;
 import chat.octet.accordion.action.model.ActionConfig;
+import chat.octet.accordion.core.entity.WarmUpOptions;
+import chat.octet.accordion.core.entity.WarmUpReport;
 import chat.octet.accordion.core.enums.GraphNodeStatus;
+import chat.octet.accordion.core.jfr.ScriptCompileEvent;
 import chat.octet.accordion.exceptions.AccordionException;
 import chat.octet.accordion.exceptions.ActionException;
 import chat.octet.accordion.graph.entity.GraphEdge;
@@ -13,12 +16,16 @@ import chat.octet.accordion.graph.model.AccordionGraphConfig;
 import chat.octet.accordion.graph.model.EdgeConfig;
 import chat.octet.accordion.utils.CommonUtils;
 import chat.octet.accordion.utils.JsonUtils;
+import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import lombok.extern.slf4j.Slf4j;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -513,6 +520,75 @@ public class AccordionPlan {
         return this;
     }
 
+    /**
+     * Warms up the plan with default options, see {@link #warmUp(WarmUpOptions)}.
+     *
+     * @return warm-up report
+     * @since 1.0.1
+     */
+    public WarmUpReport warmUp() {
+        return warmUp(WarmUpOptions.builder().build());
+    }
+
+    /**
+     * Warms up the plan ahead of the first execution.
+     *
+     * <p>Warm-up steps:</p>
+     * <ul>
+     *   <li>Precompiles the scripts and expressions of every action,
+     *   see {@link chat.octet.accordion.action.ActionService#warmUp(WarmUpOptions)}</li>
+     *   <li>Optionally resolves the hosts of API actions</li>
+     *   <li>Runs the configured number of dry runs, actions other than the dry run types are stubbed out</li>
+     * </ul>
+     *
+     * <p>Warm-up never throws for action errors, failures are collected in the report.
+     * The execution status of the plan is reset afterwards.</p>
+     *
+     * @param options warm-up options
+     * @return warm-up report, including the latency of each dry run
+     * @since 1.0.1
+     */
+    public WarmUpReport warmUp(final WarmUpOptions options) {
+        Preconditions.checkNotNull(options, "Warm-up options cannot be null.");
+        long start = System.nanoTime();
+        Map<String, String> failures = Maps.newLinkedHashMap();
+        int warmedActions = 0;
+        for (GraphNode node : graphNodes) {
+            String previousActionId = ScriptCompileEvent.enterAction(node.getActionId());
+            try {
+                node.getActionService().warmUp(options);
+                warmedActions++;
+            } catch (Exception e) {
+                log.warn("({}) -> Action warm-up failed: {}", node.getActionId(), e.getMessage());
+                failures.put(node.getActionId(), Objects.toString(e.getMessage(), e.getClass().getName()));
+            } finally {
+                ScriptCompileEvent.exitAction(previousActionId);
+            }
+        }
+        List<Duration> dryRunTimes = Lists.newArrayList();
+        if (!graphNodes.isEmpty()) {
+            try (Accordion accordion = new Accordion(this).dryRun(options.getDryRunActionTypes())) {
+                for (int i = 0; i < options.getDryRuns(); i++) {
+                    long dryRunStart = System.nanoTime();
+                    try {
+                        accordion.play(options.getGlobalParams(), options.getMessage(), false);
+                    } catch (Exception e) {
+                        log.warn("Plan warm-up dry run {} failed: {}", i, e.getMessage());
+                        failures.put("dry-run-" + i, Objects.toString(e.getMessage(), e.getClass().getName()));
+                    } finally {
+                        dryRunTimes.add(Duration.ofNanos(System.nanoTime() - dryRunStart));
+                        accordion.reset();
+                    }
+                }
+            }
+        }
+        reset();
+        WarmUpReport report = new WarmUpReport(Duration.ofNanos(System.nanoTime() - start), warmedActions,
+                dryRunTimes, failures);
+        log.debug("Plan warm-up completed, report: {}.", report);
+        return report;
+    }
+
     /**
      * Resets the execution status of all actions in the plan.
      *
@@ -0,0 +1,220 @@
+package chat.octet.accordion;
+
+import chat.octet.accordion.core.enums.GraphNodeStatus;
+import chat.octet.accordion.graph.entity.GraphNode;
+import chat.octet.accordion.utils.JsonUtils;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Structured report of a verbose accordion run.
+ *
+ * <p>The report records every scheduled node in execution order with its tree level, final status,
+ * start and end times and error. It is only created by runs with verbose mode enabled, and is
+ * rendered on demand with {@link #toText()} or {@link #toJson()}.</p>
+ *
+ * <p>Text example:</p>
+ * <pre>
+ * 🅞───⨀ ✅ Start Action (start-001)
+ *     ├───⨀ ✅ API Call (api-001)
+ *     └───⨀ 🟡 Send Email (email-001)
+ * </pre>
+ *
+ * @author <a href="https://github.com/eoctet">William</a>
+ * @since 1.0.1
+ */
+@JsonPropertyOrder({"start_nanos", "end_nanos", "duration_nanos", "nodes"})
+public final class ExecutionReport {
+
+    private static final String ROOT_SUFFIX = "\ud83c\udd5e";
+    private static final String INDENT = "    ";
+
+    private final List<Node> nodes = Lists.newArrayList();
+    private final Map<String, Node> nodesById = Maps.newHashMap();
+    private final long startNanos;
+    private long endNanos;
+    private String text;
+
+    ExecutionReport(final long startNanos) {
+        this.startNanos = startNanos;
+    }
+
+    void schedule(final GraphNode graphNode, final int level, final boolean last) {
+        Node node = new Node(graphNode.getActionId(), graphNode.getActionName(),
+                graphNode.getActionService().getConfig().getActionType(), level, last);
+        nodes.add(node);
+        nodesById.put(node.actionId, node);
+    }
+
+    void finish(final GraphNode graphNode, final GraphNodeStatus status,
+                final long nodeStartNanos, final long nodeEndNanos, final Throwable error) {
+        Node node = nodesById.get(graphNode.getActionId());
+        if (node != null) {
+            node.status = status;
+            node.startNanos = nodeStartNanos;
+            node.endNanos = nodeEndNanos;
+            node.error = error;
+        }
+    }
+
+    void complete(final long runEndNanos) {
+        this.endNanos = runEndNanos;
+    }
+
+    @JsonProperty("nodes")
+    public List<Node> getNodes() {
+        return Collections.unmodifiableList(nodes);
+    }
+
+    @JsonProperty("start_nanos")
+    public long getStartNanos() {
+        return startNanos;
+    }
+
+    @JsonProperty("end_nanos")
+    public long getEndNanos() {
+        return endNanos;
+    }
+
+    @JsonProperty("duration_nanos")
+    public long getDurationNanos() {
+        return Math.max(0L, endNanos - startNanos);
+    }
+
+    /**
+     * Renders the report as a tree, in the format of {@link Accordion#verbose()}.
+     *
+     * @return execution tree
+     */
+    public String toText() {
+        if (text == null) {
+            StringBuilder builder = new StringBuilder(nodes.size() * 64);
+            for (Node node : nodes) {
+                appendBranch(builder, node.level, node.last)
+                        .append(node.status.getFlag())
+                        .append(StringUtils.SPACE).append(node.actionName)
+                        .append(StringUtils.SPACE)
+                        .append('(').append(node.actionId).append(")\n");
+            }
+            text = builder.toString();
+        }
+        return text;
+    }
+
+    /**
+     * Appends the tree branch of a node at the level, shared by the text renderings of runs and profiles.
+     *
+     * @param builder text builder.
+     * @param level   tree level of the node.
+     * @param last    whether the node is the last scheduled child of its parent.
+     * @return the builder
+     */
+    static StringBuilder appendBranch(final StringBuilder builder, final int level, final boolean last) {
+        return builder.append(INDENT.repeat(level))
+                .append(level == 0 ? ROOT_SUFFIX : last ? "└" : "├")
+                .append("───⨀ ");
+    }
+
+    /**
+     * Renders the report as JSON.
+     *
+     * @return JSON report
+     */
+    public String toJson() {
+        return JsonUtils.toJson(this);
+    }
+
+    @Override
+    public String toString() {
+        return toText();
+    }
+
+    /**
+     * Executed or skipped node of the report.
+     */
+    @JsonPropertyOrder({"action_id", "action_name", "action_type", "level", "status", "start_nanos", "end_nanos",
+            "duration_nanos", "error"})
+    public static final class Node {
+        private final String actionId;
+        private final String actionName;
+        private final String actionType;
+        private final int level;
+        private final boolean last;
+        private GraphNodeStatus status = GraphNodeStatus.NORMAL;
+        private long startNanos;
+        private long endNanos;
+        private Throwable error;
+
+        private Node(final String actionId, final String actionName, final String actionType,
+                     final int level, final boolean last) {
+            this.actionId = actionId;
+            this.actionName = actionName;
+            this.actionType = actionType;
+            this.level = level;
+            this.last = last;
+        }
+
+        @JsonProperty("action_id")
+        public String getActionId() {
+            return actionId;
+        }
+
+        @JsonProperty("action_name")
+        public String getActionName() {
+            return actionName;
+        }
+
+        @JsonProperty("action_type")
+        public String getActionType() {
+            return actionType;
+        }
+
+        @JsonProperty("level")
+        public int getLevel() {
+            return level;
+        }
+
+        @JsonIgnore
+        public boolean isLast() {
+            return last;
+        }
+
+        @JsonProperty("status")
+        public GraphNodeStatus getStatus() {
+            return status;
+        }
+
+        @JsonProperty("start_nanos")
+        public long getStartNanos() {
+            return startNanos;
+        }
+
+        @JsonProperty("end_nanos")
+        public long getEndNanos() {
+            return endNanos;
+        }
+
+        @JsonProperty("duration_nanos")
+        public long getDurationNanos() {
+            return Math.max(0L, endNanos - startNanos);
+        }
+
+        @JsonIgnore
+        public Throwable getError() {
+            return error;
+        }
+
+        @JsonProperty("error")
+        String getErrorMessage() {
+            return error == null ? null : StringUtils.defaultIfBlank(error.getMessage(), error.getClass().getName());
+        }
+    }
+}
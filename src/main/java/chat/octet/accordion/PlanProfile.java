@@ -0,0 +1,559 @@
+package chat.octet.accordion;
+
+import chat.octet.accordion.action.AbstractAction;
+import chat.octet.accordion.action.model.OutputParameter;
+import chat.octet.accordion.core.entity.LineStream;
+import chat.octet.accordion.core.entity.Session;
+import chat.octet.accordion.core.enums.GraphNodeStatus;
+import chat.octet.accordion.core.metrics.LatencyHistogram;
+import chat.octet.accordion.core.metrics.LatencySnapshot;
+import chat.octet.accordion.graph.entity.GraphEdge;
+import chat.octet.accordion.graph.entity.GraphNode;
+import chat.octet.accordion.utils.JsonUtils;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.google.common.base.Utf8;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.sun.management.ThreadMXBean;
+import org.apache.commons.lang3.StringUtils;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Per-node profile of a plan executed several times, created by {@link Accordion#profile(int)}.
+ *
+ * <p>For every node the profile records the latency distribution, the time split across the
+ * {@code prepare}, {@code execute} and {@code output} phases, the bytes allocated by the executing thread,
+ * and the number and estimated size of the input and output parameters. The critical path is the
+ * chain of nodes from the root with the highest summed mean latency, the lower bound of the run
+ * latency if independent branches ran in parallel.</p>
+ *
+ * <p>Text example:</p>
+ * <pre>
+ * 🅞───⨀ Start Action (start-001) mean=0.12ms p50=0.11ms p99=0.30ms prepare=4% execute=90% output=6% alloc=12.5KB in=0/0B out=1/16B *
+ *     ├───⨀ API Call (api-001) mean=8.40ms p50=8.10ms p99=12.20ms prepare=0% execute=99% output=1% alloc=310.2KB in=1/16B out=2/1.2KB *
+ *     └───⨀ Send Email (email-001) skipped
+ * Runs: 100, mean=8.61ms p50=8.30ms p99=12.60ms, critical path=8.52ms
+ * </pre>
+ *
+ * @author <a href="https://github.com/eoctet">William</a>
+ * @since 1.0.1
+ */
+@JsonPropertyOrder({"runs", "run_latency", "critical_path", "critical_path_nanos", "nodes"})
+public final class PlanProfile {
+
+    private static final ThreadMXBean THREAD_MX_BEAN = allocationMXBean();
+    /**
+     * Initial text capacity per node, enough for a line with all the measurements.
+     */
+    private static final int NODE_TEXT_CAPACITY = 160;
+    private static final double NANOS_PER_MILLI = 1_000_000D;
+    private static final long KILOBYTE = 1024L;
+    private static final long MEGABYTE = KILOBYTE * KILOBYTE;
+
+    private final int runs;
+    private final LatencyHistogram runLatency = new LatencyHistogram();
+    private final List<NodeProfile> nodes = Lists.newArrayList();
+    private final Map<String, NodeProfile> nodesById = Maps.newHashMap();
+    private List<String> criticalPath = List.of();
+    private long criticalPathNanos;
+    private String text;
+
+    PlanProfile(final int runs) {
+        this.runs = runs;
+    }
+
+    private static ThreadMXBean allocationMXBean() {
+        if (ManagementFactory.getThreadMXBean() instanceof ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled()) {
+            return bean;
+        }
+        return null;
+    }
+
+    private static long allocatedBytes() {
+        return THREAD_MX_BEAN == null ? 0L : THREAD_MX_BEAN.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    NodeProfile begin(final GraphNode graphNode, final Session session) {
+        NodeProfile node = node(graphNode);
+        node.inputParameters = 0;
+        node.inputBytes = 0L;
+        if (session.getValue(AbstractAction.ACCORDION_MESSAGE) instanceof Map<?, ?> message) {
+            node.measureInput(message.values());
+        }
+        if (session.getValue(AbstractAction.PREV_ACTION_OUTPUT) instanceof Collection<?> prevOutput) {
+            node.measureInput(prevOutput);
+        }
+        node.measureInput(session.getGlobal().values());
+        node.allocationStart = allocatedBytes();
+        node.phaseStart = System.nanoTime();
+        return node;
+    }
+
+    void skip(final GraphNode graphNode) {
+        node(graphNode).skips++;
+    }
+
+    private NodeProfile node(final GraphNode graphNode) {
+        return nodesById.computeIfAbsent(graphNode.getActionId(), id -> new NodeProfile(id, graphNode.getActionName(),
+                graphNode.getActionService().getConfig().getActionType()));
+    }
+
+    void completeRun(final ExecutionReport report, final long durationNanos) {
+        runLatency.record(durationNanos);
+        for (ExecutionReport.Node reportNode : report.getNodes()) {
+            NodeProfile node = nodesById.get(reportNode.getActionId());
+            if (node != null && !node.scheduled) {
+                node.scheduled = true;
+                node.level = reportNode.getLevel();
+                node.last = reportNode.isLast();
+                nodes.add(node);
+            }
+        }
+    }
+
+    PlanProfile complete(final GraphNode root) {
+        Map<String, Long> pathNanos = pathNanos(root);
+        this.criticalPathNanos = pathNanos.get(root.getActionId());
+        List<String> path = Lists.newArrayList();
+        GraphNode node = root;
+        while (node != null) {
+            path.add(node.getActionId());
+            GraphNode next = null;
+            for (GraphEdge edge : node.getEdges()) {
+                GraphNode candidate = edge.getNextNode();
+                if (next == null || pathNanos.get(candidate.getActionId()) > pathNanos.get(next.getActionId())) {
+                    next = candidate;
+                }
+            }
+            node = next;
+        }
+        path.forEach(id -> {
+            NodeProfile profile = nodesById.get(id);
+            if (profile != null) {
+                profile.critical = true;
+            }
+        });
+        this.criticalPath = ImmutableList.copyOf(path);
+        return this;
+    }
+
+    /**
+     * Computes the longest summed mean latency from every node reachable from the root, visiting the nodes
+     * in reverse topological order so that deep plans do not recurse.
+     */
+    private Map<String, Long> pathNanos(final GraphNode root) {
+        Map<String, GraphNode> reachable = Maps.newLinkedHashMap();
+        Map<String, Integer> inDegree = Maps.newHashMap();
+        Deque<GraphNode> pending = new ArrayDeque<>();
+        reachable.put(root.getActionId(), root);
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            for (GraphEdge edge : pending.pop().getEdges()) {
+                GraphNode next = edge.getNextNode();
+                inDegree.merge(next.getActionId(), 1, Integer::sum);
+                if (reachable.putIfAbsent(next.getActionId(), next) == null) {
+                    pending.push(next);
+                }
+            }
+        }
+        List<GraphNode> order = Lists.newArrayListWithCapacity(reachable.size());
+        pending.add(root);
+        while (!pending.isEmpty()) {
+            GraphNode node = pending.poll();
+            order.add(node);
+            for (GraphEdge edge : node.getEdges()) {
+                GraphNode next = edge.getNextNode();
+                if (inDegree.merge(next.getActionId(), -1, Integer::sum) == 0) {
+                    pending.add(next);
+                }
+            }
+        }
+        Map<String, Long> pathNanos = Maps.newHashMapWithExpectedSize(order.size());
+        for (GraphNode node : Lists.reverse(order)) {
+            long longest = 0L;
+            for (GraphEdge edge : node.getEdges()) {
+                longest = Math.max(longest, pathNanos.get(edge.getNextNode().getActionId()));
+            }
+            NodeProfile profile = nodesById.get(node.getActionId());
+            long nanos = profile == null ? 0L : (long) profile.getLatency().getMeanNanos();
+            pathNanos.put(node.getActionId(), longest + nanos);
+        }
+        return pathNanos;
+    }
+
+    @JsonProperty("runs")
+    public int getRuns() {
+        return runs;
+    }
+
+    @JsonProperty("run_latency")
+    public LatencySnapshot getRunLatency() {
+        return runLatency.snapshot();
+    }
+
+    /**
+     * Returns the profiled nodes, in the order of the first run that scheduled them.
+     *
+     * @return node profiles
+     */
+    @JsonProperty("nodes")
+    public List<NodeProfile> getNodes() {
+        return Collections.unmodifiableList(nodes);
+    }
+
+    /**
+     * Returns the action ids of the critical path, from the root node.
+     *
+     * @return critical path
+     */
+    @JsonProperty("critical_path")
+    public List<String> getCriticalPath() {
+        return criticalPath;
+    }
+
+    /**
+     * Returns the summed mean latency of the critical path nodes.
+     *
+     * @return critical path latency in nanoseconds
+     */
+    @JsonProperty("critical_path_nanos")
+    public long getCriticalPathNanos() {
+        return criticalPathNanos;
+    }
+
+    /**
+     * Returns whether allocated bytes are measured, which requires thread allocation accounting in the JVM.
+     *
+     * @return true if allocated bytes are measured
+     */
+    @JsonIgnore
+    public boolean isAllocationMeasured() {
+        return THREAD_MX_BEAN != null;
+    }
+
+    /**
+     * Renders the profile as a tree, in the shape of {@link Accordion#verbose()}, followed by a run summary.
+     * Critical path nodes are marked with {@code *}.
+     *
+     * @return profile tree
+     */
+    public String toText() {
+        if (text == null) {
+            StringBuilder builder = new StringBuilder(nodes.size() * NODE_TEXT_CAPACITY);
+            for (NodeProfile node : nodes) {
+                ExecutionReport.appendBranch(builder, node.level, node.last)
+                        .append(node.actionName).append(StringUtils.SPACE)
+                        .append('(').append(node.actionId).append(')');
+                if (node.executions == 0) {
+                    builder.append(" skipped");
+                } else {
+                    LatencySnapshot latency = node.getLatency();
+                    builder.append(" mean=").append(formatNanos((long) latency.getMeanNanos()))
+                            .append(" p50=").append(formatNanos(latency.getP50Nanos()))
+                            .append(" p99=").append(formatNanos(latency.getP99Nanos()))
+                            .append(" prepare=").append(percent(node.prepareNanos, node.totalNanos))
+                            .append(" execute=").append(percent(node.executeNanos, node.totalNanos))
+                            .append(" output=").append(percent(node.outputNanos, node.totalNanos));
+                    if (isAllocationMeasured()) {
+                        builder.append(" alloc=").append(formatBytes(node.getMeanAllocatedBytes()));
+                    }
+                    builder.append(" in=").append(node.getMeanInputParameters())
+                            .append('/').append(formatBytes(node.getMeanInputBytes()))
+                            .append(" out=").append(node.getMeanOutputParameters())
+                            .append('/').append(formatBytes(node.getMeanOutputBytes()));
+                    if (node.errors > 0) {
+                        builder.append(" errors=").append(node.errors);
+                    }
+                }
+                builder.append(node.critical ? " *\n" : "\n");
+            }
+            LatencySnapshot latency = getRunLatency();
+            builder.append("Runs: ").append(runs)
+                    .append(", mean=").append(formatNanos((long) latency.getMeanNanos()))
+                    .append(" p50=").append(formatNanos(latency.getP50Nanos()))
+                    .append(" p99=").append(formatNanos(latency.getP99Nanos()))
+                    .append(", critical path=").append(formatNanos(criticalPathNanos)).append('\n');
+            text = builder.toString();
+        }
+        return text;
+    }
+
+    /**
+     * Renders the profile as JSON.
+     *
+     * @return JSON profile
+     */
+    public String toJson() {
+        return JsonUtils.toJson(this);
+    }
+
+    @Override
+    public String toString() {
+        return toText();
+    }
+
+    private static String percent(final long part, final long total) {
+        return (total == 0 ? 0 : Math.round(part * 100D / total)) + "%";
+    }
+
+    private static String formatNanos(final long nanos) {
+        return String.format(Locale.ROOT, "%.2fms", nanos / NANOS_PER_MILLI);
+    }
+
+    private static String formatBytes(final long bytes) {
+        if (bytes < KILOBYTE) {
+            return bytes + "B";
+        }
+        if (bytes < MEGABYTE) {
+            return String.format(Locale.ROOT, "%.1fKB", (double) bytes / KILOBYTE);
+        }
+        return String.format(Locale.ROOT, "%.1fMB", (double) bytes / MEGABYTE);
+    }
+
+    /**
+     * Estimates the serialized size of a parameter value without consuming line streams.
+     */
+    private static long estimateBytes(final Object value) {
+        if (value == null || value instanceof LineStream) {
+            return 0L;
+        }
+        if (value instanceof CharSequence chars) {
+            return Utf8.encodedLength(chars);
+        }
+        if (value instanceof byte[] bytes) {
+            return bytes.length;
+        }
+        if (value instanceof Number || value instanceof Boolean || value instanceof Enum<?>) {
+            return value.toString().length();
+        }
+        if (value instanceof OutputParameter parameter) {
+            return estimateBytes(parameter.getValue());
+        }
+        if (value instanceof Map<?, ?> map) {
+            long bytes = 0L;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                bytes += estimateBytes(entry.getKey()) + estimateBytes(entry.getValue());
+            }
+            return bytes;
+        }
+        if (value instanceof Collection<?> collection) {
+            long bytes = 0L;
+            for (Object element : collection) {
+                bytes += estimateBytes(element);
+            }
+            return bytes;
+        }
+        try {
+            return Utf8.encodedLength(JsonUtils.toJson(value));
+        } catch (RuntimeException e) {
+            return 0L;
+        }
+    }
+
+    /**
+     * Profile of a node over all runs.
+     */
+    @JsonPropertyOrder({"action_id", "action_name", "action_type", "level", "executions", "skips", "errors", "latency",
+            "mean_prepare_nanos", "mean_execute_nanos", "mean_output_nanos", "mean_allocated_bytes",
+            "mean_input_parameters", "mean_input_bytes", "mean_output_parameters", "mean_output_bytes", "critical"})
+    public static final class NodeProfile {
+        private final String actionId;
+        private final String actionName;
+        private final String actionType;
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private int level;
+        private boolean last;
+        private boolean scheduled;
+        private boolean critical;
+        private long executions;
+        private long skips;
+        private long errors;
+        private long prepareNanos;
+        private long executeNanos;
+        private long outputNanos;
+        private long totalNanos;
+        private long allocatedBytes;
+        private long totalInputParameters;
+        private long totalInputBytes;
+        private long totalOutputParameters;
+        private long totalOutputBytes;
+        private long phaseStart;
+        private long allocationStart;
+        private long startNanos;
+        private int inputParameters;
+        private long inputBytes;
+
+        private NodeProfile(final String actionId, final String actionName, final String actionType) {
+            this.actionId = actionId;
+            this.actionName = actionName;
+            this.actionType = actionType;
+        }
+
+        private void measureInput(final Collection<?> values) {
+            inputParameters += values.size();
+            inputBytes += estimateBytes(values);
+        }
+
+        void prepared() {
+            long now = System.nanoTime();
+            this.startNanos = phaseStart;
+            this.prepareNanos += now - phaseStart;
+            this.phaseStart = now;
+        }
+
+        void executed() {
+            long now = System.nanoTime();
+            this.executeNanos += now - phaseStart;
+            this.phaseStart = now;
+        }
+
+        void outputted() {
+            long now = System.nanoTime();
+            long allocated = allocatedBytes();
+            this.outputNanos += now - phaseStart;
+            this.totalNanos += now - startNanos;
+            this.allocatedBytes += allocated - allocationStart;
+            this.latency.record(now - startNanos);
+        }
+
+        void finish(final GraphNodeStatus status, final Session session) {
+            executions++;
+            if (status == GraphNodeStatus.ERROR) {
+                errors++;
+            }
+            totalInputParameters += inputParameters;
+            totalInputBytes += inputBytes;
+            if (session.getValue(AbstractAction.PREV_ACTION_OUTPUT) instanceof Collection<?> output) {
+                totalOutputParameters += output.size();
+                totalOutputBytes += estimateBytes(output);
+            }
+        }
+
+        private long mean(final long total) {
+            return executions == 0 ? 0L : total / executions;
+        }
+
+        @JsonProperty("action_id")
+        public String getActionId() {
+            return actionId;
+        }
+
+        @JsonProperty("action_name")
+        public String getActionName() {
+            return actionName;
+        }
+
+        @JsonProperty("action_type")
+        public String getActionType() {
+            return actionType;
+        }
+
+        @JsonProperty("level")
+        public int getLevel() {
+            return level;
+        }
+
+        @JsonIgnore
+        public boolean isLast() {
+            return last;
+        }
+
+        @JsonProperty("executions")
+        public long getExecutions() {
+            return executions;
+        }
+
+        @JsonProperty("skips")
+        public long getSkips() {
+            return skips;
+        }
+
+        @JsonProperty("errors")
+        public long getErrors() {
+            return errors;
+        }
+
+        /**
+         * Returns the latency of the node, from the start of {@code prepare} to the end of {@code output}.
+         *
+         * @return latency distribution
+         */
+        @JsonProperty("latency")
+        public LatencySnapshot getLatency() {
+            return latency.snapshot();
+        }
+
+        @JsonProperty("mean_prepare_nanos")
+        public long getMeanPrepareNanos() {
+            return mean(prepareNanos);
+        }
+
+        @JsonProperty("mean_execute_nanos")
+        public long getMeanExecuteNanos() {
+            return mean(executeNanos);
+        }
+
+        @JsonProperty("mean_output_nanos")
+        public long getMeanOutputNanos() {
+            return mean(outputNanos);
+        }
+
+        /**
+         * Returns the mean bytes allocated by the executing thread while the node ran.
+         *
+         * @return mean allocated bytes, 0 if allocations are not measured
+         */
+        @JsonProperty("mean_allocated_bytes")
+        public long getMeanAllocatedBytes() {
+            return mean(allocatedBytes);
+        }
+
+        @JsonProperty("mean_input_parameters")
+        public long getMeanInputParameters() {
+            return mean(totalInputParameters);
+        }
+
+        /**
+         * Returns the mean estimated size of the message, previous output and global parameters
+         * available to the node. Line streams are not counted.
+         *
+         * @return mean input size in bytes
+         */
+        @JsonProperty("mean_input_bytes")
+        public long getMeanInputBytes() {
+            return mean(totalInputBytes);
+        }
+
+        @JsonProperty("mean_output_parameters")
+        public long getMeanOutputParameters() {
+            return mean(totalOutputParameters);
+        }
+
+        /**
+         * Returns the mean estimated size of the output parameters of the node. Line streams are not counted.
+         *
+         * @return mean output size in bytes
+         */
+        @JsonProperty("mean_output_bytes")
+        public long getMeanOutputBytes() {
+            return mean(totalOutputBytes);
+        }
+
+        @JsonProperty("critical")
+        public boolean isCritical() {
+            return critical;
+        }
+    }
+}
@@ -3,15 +3,20 @@ package chat.octet.accordion.action;
 import chat.octet.accordion.action.model.ActionConfig;
 import chat.octet.accordion.action.model.ExecuteResult;
 import chat.octet.accordion.action.model.InputParameter;
+import chat.octet.accordion.action.model.MemoStats;
 import chat.octet.accordion.action.model.OutputParameter;
+import chat.octet.accordion.core.entity.LineStream;
 import chat.octet.accordion.core.entity.Message;
 import chat.octet.accordion.core.entity.Session;
 import chat.octet.accordion.core.handler.DataTypeConvert;
 import chat.octet.accordion.utils.CommonUtils;
 import chat.octet.accordion.utils.JsonUtils;
 import com.google.common.collect.Lists;
+import com.google.common.hash.HashCode;
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.text.MessageFormat;
 import java.util.List;
@@ -94,6 +99,7 @@ public abstract class AbstractAction implements ActionService, Serializable {
     private Session session;
     private final AtomicReference<Throwable> executeThrowable = new AtomicReference<>();
     private final String actionId;
+    private transient ActionMemo memo; // Created only for memoized actions, rebuilt empty on deserialization
 
     /**
      * Constructs a new AbstractAction with the specified configuration.
@@ -112,6 +118,19 @@ public abstract class AbstractAction implements ActionService, Serializable {
         this.inputParameter = new InputParameter();
         this.actionId = actionConfig != null ? actionConfig.getId() : null;
         this.session = null; // Initialize session field
+        this.memo = createMemo(actionConfig);
+    }
+
+    private static ActionMemo createMemo(final ActionConfig actionConfig) {
+        if (actionConfig == null || actionConfig.getMemoize() == null) {
+            return null;
+        }
+        return new ActionMemo(actionConfig.getMemoize());
+    }
+
+    private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        this.memo = createMemo(actionConfig);
     }
 
     /**
@@ -186,6 +205,45 @@ public abstract class AbstractAction implements ActionService, Serializable {
         return this;
     }
 
+    /**
+     * Executes the action, or replays the memoized result of the same input parameters.
+     *
+     * <p>Without a {@link chat.octet.accordion.action.model.MemoizeConfig} this is {@link #execute()}.
+     * Otherwise the input parameters loaded by {@link #prepare(Session)} are hashed, and a memoized result
+     * of the same inputs is returned without executing. Failed executions are not memoized.</p>
+     *
+     * @return the computed or replayed execution result
+     * @since 1.0.1
+     */
+    @Override
+    public ExecuteResult executeMemoized() {
+        if (memo == null) {
+            return execute();
+        }
+        HashCode key = ActionMemo.key(inputParameter);
+        ExecuteResult cached = key == null ? null : memo.get(key);
+        if (cached != null) {
+            log.debug("({}) -> Replaying memoized result: {}.", actionId, cached);
+            return cached;
+        }
+        ExecuteResult result = execute();
+        if (key != null && executeThrowable.get() == null) {
+            memo.put(key, result);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the memoization statistics of this action.
+     *
+     * @return memoization statistics, or null if memoization is disabled
+     * @since 1.0.1
+     */
+    @Override
+    public MemoStats getMemoStats() {
+        return memo == null ? null : memo.stats();
+    }
+
     /**
      * Processes and stores the action's output parameters in the session.
      *
@@ -198,7 +256,7 @@ public abstract class AbstractAction implements ActionService, Serializable {
      * <ul>
      *   <li>Retrieves configured output parameter definitions</li>
      *   <li>Extracts actual values from execution result</li>
-     *   <li>Applies data type conversions as needed</li>
+     *   <li>Applies data type conversions as needed, {@link LineStream} values are passed as is</li>
      *   <li>Stores processed parameters in session for next actions</li>
      * </ul>
      *
@@ -216,7 +274,10 @@ public abstract class AbstractAction implements ActionService, Serializable {
                 String key = param.getName();
                 Object value = param.getValue();
                 if (executeResult.contains(key)) {
-                    value = DataTypeConvert.getValue(param.getDataType(), executeResult.getValue(key));
+                    Object executeValue = executeResult.getValue(key);
+                    //line streams are consumed lazily by the next actions
+                    value = executeValue instanceof LineStream
+                            ? executeValue : DataTypeConvert.getValue(param.getDataType(), executeValue);
                 }
                 if (value != null) {
                     result.add(new OutputParameter(param.getName(), param.getDataType(), param.getDesc(), value));
@@ -255,6 +316,17 @@ public abstract class AbstractAction implements ActionService, Serializable {
         return false;
     }
 
+    /**
+     * Returns the error recorded by the last execution of this action.
+     *
+     * @return the recorded error, or null if the action succeeded
+     * @since 1.0.1
+     */
+    @Override
+    public Throwable getExecuteThrowable() {
+        return this.executeThrowable.get();
+    }
+
     /**
      * Returns the configuration object for this action.
      *
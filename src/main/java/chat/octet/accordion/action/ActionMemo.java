@@ -0,0 +1,132 @@
+package chat.octet.accordion.action;
+
+import chat.octet.accordion.action.model.ExecuteResult;
+import chat.octet.accordion.action.model.MemoStats;
+import chat.octet.accordion.action.model.MemoizeConfig;
+import chat.octet.accordion.core.entity.LineStream;
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+
+import javax.annotation.Nullable;
+import java.nio.charset.StandardCharsets;
+import java.time.temporal.TemporalAccessor;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded cache of the execution results of an action, keyed by a hash of its resolved input parameters.
+ *
+ * <p>Inputs are hashed by value, map entries in key order. Inputs holding values other than strings, numbers,
+ * booleans, enums, dates, UUIDs, collections and maps cannot be hashed reliably and are never memoized.
+ * Results holding a {@link LineStream} can only be consumed once and are never memoized either.</p>
+ *
+ * <p>Thread Safety: This class is thread-safe.</p>
+ *
+ * @author <a href="https://github.com/eoctet">William</a>
+ * @see MemoizeConfig
+ * @since 1.0.1
+ */
+public final class ActionMemo {
+
+    private final Cache<HashCode, ExecuteResult> cache;
+
+    /**
+     * Creates an empty cache with the expiry and size bounds of the configuration.
+     *
+     * @param config memoization configuration
+     * @throws IllegalArgumentException if the time to live or the maximum size is not positive
+     */
+    public ActionMemo(final MemoizeConfig config) {
+        Preconditions.checkArgument(config.getTtl() > 0, "Memoization TTL must be greater than zero.");
+        Preconditions.checkArgument(config.getMaximumSize() > 0, "Memoization maximum size must be greater than zero.");
+        this.cache = CacheBuilder.newBuilder()
+                .expireAfterWrite(config.getTtl(), TimeUnit.MILLISECONDS)
+                .maximumSize(config.getMaximumSize())
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Hashes the input parameters.
+     *
+     * @param inputs input parameters
+     * @return hash of the inputs, or null if the inputs cannot be hashed
+     */
+    @Nullable
+    public static HashCode key(final Map<String, Object> inputs) {
+        Hasher hasher = Hashing.murmur3_128().newHasher();
+        return putValue(hasher, inputs) ? hasher.hash() : null;
+    }
+
+    private static boolean putValue(final Hasher hasher, @Nullable final Object value) {
+        if (value == null) {
+            hasher.putByte((byte) 0);
+        } else if (value instanceof Map<?, ?> map) {
+            hasher.putByte((byte) 1).putInt(map.size());
+            return map.entrySet().stream()
+                    .sorted(Map.Entry.comparingByKey((a, b) -> String.valueOf(a).compareTo(String.valueOf(b))))
+                    .allMatch(entry -> putValue(hasher, entry.getKey()) && putValue(hasher, entry.getValue()));
+        } else if (value instanceof Collection<?> collection) {
+            hasher.putByte((byte) 2).putInt(collection.size());
+            return collection.stream().allMatch(element -> putValue(hasher, element));
+        } else if (value instanceof CharSequence || value instanceof Number || value instanceof Boolean
+                || value instanceof Character || value instanceof Enum<?> || value instanceof TemporalAccessor
+                || value instanceof Date || value instanceof UUID) {
+            hasher.putByte((byte) 3)
+                    .putString(value.getClass().getName(), StandardCharsets.UTF_8)
+                    .putString(value.toString(), StandardCharsets.UTF_8);
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns a copy of the memoized result of the inputs.
+     *
+     * @param key hash of the inputs
+     * @return memoized result, or null on a miss
+     */
+    @Nullable
+    public ExecuteResult get(final HashCode key) {
+        ExecuteResult result = cache.getIfPresent(key);
+        return result == null ? null : result.copy();
+    }
+
+    /**
+     * Memoizes a copy of the result of the inputs, results holding line streams are ignored.
+     *
+     * @param key    hash of the inputs
+     * @param result execution result
+     */
+    public void put(final HashCode key, final ExecuteResult result) {
+        if (result.getResult().values().stream().noneMatch(LineStream.class::isInstance)) {
+            cache.put(key, result.copy());
+        }
+    }
+
+    /**
+     * Discards all memoized results, the statistics are kept.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * Returns the statistics of the cache.
+     *
+     * @return memoization statistics
+     */
+    public MemoStats stats() {
+        CacheStats stats = cache.stats();
+        return new MemoStats(stats.hitCount(), stats.missCount(), stats.evictionCount(), cache.size());
+    }
+}
@@ -9,7 +9,12 @@ import chat.octet.accordion.action.email.EmailAction;
 import chat.octet.accordion.action.model.ActionConfig;
 import chat.octet.accordion.action.script.ScriptAction;
 import chat.octet.accordion.action.shell.ShellAction;
+import chat.octet.accordion.action.stub.AllocateAction;
+import chat.octet.accordion.action.stub.CpuBurnAction;
+import chat.octet.accordion.action.stub.NoopAction;
+import chat.octet.accordion.action.stub.SleepAction;
 import chat.octet.accordion.core.enums.ActionType;
+import chat.octet.accordion.core.jfr.ScriptCompileEvent;
 import chat.octet.accordion.exceptions.ActionException;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Maps;
@@ -42,6 +47,8 @@ import java.util.Map;
  *   <li><strong>CONDITION</strong>: Conditional logic and branching</li>
  *   <li><strong>SWITCH</strong>: Multi-branch execution paths</li>
  *   <li><strong>TEST</strong>: Testing and validation utilities</li>
+ *   <li><strong>NOOP</strong>, <strong>SLEEP</strong>, <strong>CPU_BURN</strong>, <strong>ALLOCATE</strong>:
+ *   Stubs modeling action cost for benchmarks</li>
  * </ul>
  *
  * <p>Usage Examples:</p>
@@ -90,6 +97,10 @@ public final class ActionRegister {
         ACTION_MAPPING.put(ActionType.TEST.name(), TestAction.class.getName());
 
         ACTION_MAPPING.put(ActionType.SHELL.name(), ShellAction.class.getName());
+        ACTION_MAPPING.put(ActionType.NOOP.name(), NoopAction.class.getName());
+        ACTION_MAPPING.put(ActionType.SLEEP.name(), SleepAction.class.getName());
+        ACTION_MAPPING.put(ActionType.CPU_BURN.name(), CpuBurnAction.class.getName());
+        ACTION_MAPPING.put(ActionType.ALLOCATE.name(), AllocateAction.class.getName());
     }
 
     /**
@@ -260,6 +271,7 @@ public final class ActionRegister {
                     + ". Action ID: " + actionConfig.getId());
         }
 
+        String previousActionId = ScriptCompileEvent.enterAction(actionConfig.getId());
         try {
             Class<?> clazz = Class.forName(className);
             return (ActionService) clazz.getConstructor(ActionConfig.class).newInstance(actionConfig);
@@ -271,6 +283,8 @@ public final class ActionRegister {
         } catch (Exception e) {
             throw new ActionException("Failed to create action instance for type '" + actionType
                     + "', ID: " + actionConfig.getId() + ". Error: " + e.getMessage(), e);
+        } finally {
+            ScriptCompileEvent.exitAction(previousActionId);
         }
     }
 
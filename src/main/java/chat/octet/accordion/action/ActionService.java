@@ -3,7 +3,9 @@ package chat.octet.accordion.action;
 
 import chat.octet.accordion.action.model.ActionConfig;
 import chat.octet.accordion.action.model.ExecuteResult;
+import chat.octet.accordion.action.model.MemoStats;
 import chat.octet.accordion.core.entity.Session;
+import chat.octet.accordion.core.entity.WarmUpOptions;
 import chat.octet.accordion.exceptions.ActionException;
 
 /**
@@ -117,6 +119,31 @@ public interface ActionService {
         throw new ActionException("Action not implemented.");
     }
 
+    /**
+     * Executes the action, or replays the memoized result of the same input parameters.
+     *
+     * <p>Called by the execution engine in place of {@link #execute()}. The replayed result goes through
+     * {@link #output(ExecuteResult)} like a computed result. The default implementation does not memoize.</p>
+     *
+     * @return the result of action execution, never null
+     * @throws ActionException if execution fails
+     * @see chat.octet.accordion.action.model.MemoizeConfig
+     * @since 1.0.1
+     */
+    default ExecuteResult executeMemoized() throws ActionException {
+        return execute();
+    }
+
+    /**
+     * Returns the memoization statistics of this action.
+     *
+     * @return memoization statistics, or null if memoization is disabled
+     * @since 1.0.1
+     */
+    default MemoStats getMemoStats() {
+        return null;
+    }
+
     /**
      * Processes and stores the action's output parameters for subsequent actions.
      *
@@ -163,6 +190,19 @@ public interface ActionService {
      */
     boolean checkError();
 
+    /**
+     * Returns the error recorded by the last execution of this action.
+     *
+     * <p>The default implementation returns null, implementations that record their
+     * errors should return the first error recorded since the last {@link #prepare(Session)}.</p>
+     *
+     * @return the recorded error, or null if the action succeeded
+     * @since 1.0.1
+     */
+    default Throwable getExecuteThrowable() {
+        return null;
+    }
+
     /**
      * Returns the configuration object for this action.
      *
@@ -185,6 +225,22 @@ public interface ActionService {
      */
     ActionConfig getConfig();
 
+    /**
+     * Warms up the action ahead of its first execution.
+     *
+     * <p>Called by {@link chat.octet.accordion.AccordionPlan#warmUp(WarmUpOptions)}. Implementations should
+     * precompile scripts and expressions, pre-bind parameters and optionally pre-open connections,
+     * without causing any side effects. Errors are reported as warm-up failures of this action.</p>
+     *
+     * <p>The default implementation does nothing.</p>
+     *
+     * @param options warm-up options
+     * @since 1.0.1
+     */
+    default void warmUp(final WarmUpOptions options) {
+        // Nothing to warm up by default
+    }
+
     /**
      * Closes the action and releases any allocated resources.
      *
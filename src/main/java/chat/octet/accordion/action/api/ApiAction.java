@@ -6,7 +6,9 @@ import chat.octet.accordion.action.model.ActionConfig;
 import chat.octet.accordion.action.model.ExecuteResult;
 import chat.octet.accordion.action.model.InputParameter;
 import chat.octet.accordion.action.model.OutputParameter;
+import chat.octet.accordion.core.entity.WarmUpOptions;
 import chat.octet.accordion.core.enums.HttpMethod;
+import chat.octet.accordion.core.jfr.HttpExchangeEvent;
 import chat.octet.accordion.exceptions.ActionException;
 import chat.octet.accordion.utils.CommonUtils;
 import chat.octet.accordion.utils.JsonUtils;
@@ -121,11 +123,20 @@ public class ApiAction extends AbstractAction {
                 .headers(headers)
                 .method(params.getMethod().name(), body)
                 .build();
+        HttpExchangeEvent event = new HttpExchangeEvent();
+        event.begin();
+        int statusCode = 0;
+        long responseLength = -1L;
         try (Response response = client.newCall(request).execute()) {
+            statusCode = response.code();
             if (response.body() != null) {
-                return response.body().string();
+                String content = response.body().string();
+                responseLength = content.length();
+                return content;
             }
             return null;
+        } finally {
+            event.complete(getConfig().getId(), request.method(), httpUrl, statusCode, responseLength);
         }
     }
 
@@ -190,6 +201,26 @@ public class ApiAction extends AbstractAction {
         return executeResult;
     }
 
+    /**
+     * Resolves the request host when host resolution is enabled, no request is sent.
+     * Urls whose host depends on input parameters are skipped.
+     *
+     * @param options warm-up options
+     */
+    @Override
+    public void warmUp(final WarmUpOptions options) {
+        String url = params.getUrl();
+        if (!options.isResolveHosts() || url == null || url.contains("${")) {
+            return;
+        }
+        String host = HttpUrl.get(url).host();
+        try {
+            log.debug("({}) -> Resolved {}: {}.", getConfig().getId(), host, client.dns().lookup(host));
+        } catch (IOException e) {
+            log.warn("({}) -> Resolving {} failed: {}", getConfig().getId(), host, e.getMessage());
+        }
+    }
+
     /**
      * Closes the API action and releases any resources.
      * The OkHttpClient manages its own connection pool and doesn't require explicit closing.
@@ -11,6 +11,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 
 import java.io.Serial;
+import java.util.Map;
+import java.util.function.Predicate;
 
 /**
  * ConditionAction is similar to the "if" in Java, used to control the execution process.
@@ -25,11 +27,17 @@ public class ConditionAction extends AbstractAction {
     private static final long serialVersionUID = 1L;
     public static final String ACTION_CONDITION_STATE = "ACTION_CONDITION_STATE";
     private final transient ConditionParameter params;
+    private final transient Predicate<Map<String, Object>> predicate;
 
     public ConditionAction(final ActionConfig actionConfig) {
         super(actionConfig);
         this.params = actionConfig.getActionParams(ConditionParameter.class, "Condition parameter cannot be null.");
-        Preconditions.checkArgument(StringUtils.isNotBlank(params.getExpression()), "Condition expression cannot be empty.");
+        if (params.getCondition() != null) {
+            this.predicate = ConditionBuilder.getInstance().compile(params.getCondition(), params.isDebug());
+        } else {
+            Preconditions.checkArgument(StringUtils.isNotBlank(params.getExpression()), "Condition expression cannot be empty.");
+            this.predicate = ConditionBuilder.getInstance().predicate(params.getExpression(), params.isDebug());
+        }
     }
 
     /**
@@ -44,13 +52,9 @@ public class ConditionAction extends AbstractAction {
         boolean flag = false;
 
         try {
-            String expression = params.getExpression();
-            if (StringUtils.isBlank(expression)) {
-                throw new ActionException("Condition expression cannot be empty");
-            }
-
-            log.debug("({}) -> Evaluating condition expression: {}", getConfig().getId(), expression);
-            flag = ConditionBuilder.getInstance().test(getInputParameter(), expression, params.isDebug());
+            log.debug("({}) -> Evaluating condition expression: {}", getConfig().getId(),
+                    params.getCondition() != null ? params.getCondition() : params.getExpression());
+            flag = predicate.test(getInputParameter());
             log.debug("({}) -> Condition evaluation result: {}", getConfig().getId(), flag);
 
         } catch (ActionException e) {
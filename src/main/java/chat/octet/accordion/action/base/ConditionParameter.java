@@ -1,5 +1,6 @@
 package chat.octet.accordion.action.base;
 
+import chat.octet.accordion.core.condition.Condition;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.annotation.JsonNaming;
@@ -24,5 +25,9 @@ public class ConditionParameter {
      * Condition expression. For example: Arg == 100.
      */
     private String expression;
+    /**
+     * Structured condition, compiled into a native predicate. Takes precedence over the expression.
+     */
+    private Condition condition;
     private boolean debug;
 }
@@ -5,6 +5,7 @@ import chat.octet.accordion.action.AbstractAction;
 import chat.octet.accordion.action.model.ActionConfig;
 import chat.octet.accordion.action.model.ExecuteResult;
 import chat.octet.accordion.core.condition.ConditionBuilder;
+import chat.octet.accordion.core.condition.DecisionTable;
 import chat.octet.accordion.exceptions.ActionException;
 import chat.octet.accordion.graph.entity.SwitchFilter;
 import chat.octet.accordion.utils.CommonUtils;
@@ -12,11 +13,18 @@ import com.google.common.base.Preconditions;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.Serial;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
 
 /**
  * SwitchAction is a combination of multiple sets of conditions used to control multiple different execution chains,
  * suitable for execution scenarios of multiple independent tasks.
  *
+ * <p>Branches are either evaluated one by one, or as a compiled {@link DecisionTable} that evaluates subexpressions
+ * shared by several branches only once. With {@link SwitchParameter.MatchMode#FIRST} only the first matched
+ * branch is executed.</p>
+ *
  * @author <a href="https://github.com/eoctet">William</a>
  * @see SwitchParameter
  */
@@ -26,11 +34,38 @@ public class SwitchAction extends AbstractAction {
     private static final long serialVersionUID = 1L;
     public static final String ACTION_SWITCH_CONTROL = "ACTION_SWITCH_CONTROL";
     private final transient SwitchParameter params;
+    private final transient List<Predicate<Map<String, Object>>> predicates;
+    private final transient DecisionTable decisionTable;
+    private final transient boolean firstMatch;
 
     public SwitchAction(final ActionConfig actionConfig) {
         super(actionConfig);
         this.params = actionConfig.getActionParams(SwitchParameter.class, "Switch parameter cannot be null.");
         Preconditions.checkArgument(!CommonUtils.isEmpty(params.getBranches()), "Switch branches cannot be empty.");
+        this.firstMatch = params.getMatchMode() == SwitchParameter.MatchMode.FIRST;
+        if (params.isDecisionTable()) {
+            this.decisionTable = new DecisionTable(params.isDebug());
+            this.predicates = List.of();
+            for (SwitchParameter.Branch branch : params.getBranches()) {
+                if (branch.getCondition() != null) {
+                    decisionTable.addRow(branch.getCondition(), branch.isNegation());
+                } else {
+                    decisionTable.addRow(branch.getExpression(), branch.isNegation());
+                }
+            }
+            log.debug("({}) -> Switch decision table compiled, branches: {}, distinct subexpressions: {}.",
+                    actionConfig.getId(), decisionTable.rowCount(), decisionTable.atomCount());
+        } else {
+            this.decisionTable = null;
+            this.predicates = params.getBranches().stream().map(this::compileBranch).toList();
+        }
+    }
+
+    private Predicate<Map<String, Object>> compileBranch(final SwitchParameter.Branch branch) {
+        if (branch.getCondition() != null) {
+            return ConditionBuilder.getInstance().compile(branch.getCondition(), params.isDebug());
+        }
+        return ConditionBuilder.getInstance().predicate(branch.getExpression(), params.isDebug());
     }
 
     /**
@@ -44,9 +79,14 @@ public class SwitchAction extends AbstractAction {
         ExecuteResult executeResult = new ExecuteResult();
         SwitchFilter controller = new SwitchFilter();
         try {
-            for (SwitchParameter.Branch branch : params.getBranches()) {
-                boolean flag = branch.isNegation() != ConditionBuilder.getInstance().test(getInputParameter(), branch.getExpression(), params.isDebug());
-                controller.put(branch.getActionId(), flag);
+            List<SwitchParameter.Branch> branches = params.getBranches();
+            boolean[] results = decisionTable != null
+                    ? decisionTable.evaluate(getInputParameter(), firstMatch) : evaluate();
+            boolean matched = false;
+            for (int i = 0; i < branches.size(); i++) {
+                boolean flag = results[i] && !matched;
+                matched = firstMatch && (matched || flag);
+                controller.merge(branches.get(i).getActionId(), flag, (prev, next) -> firstMatch ? prev || next : next);
             }
             log.debug("Switch action execution result: " + controller);
         } catch (Exception e) {
@@ -56,4 +96,16 @@ public class SwitchAction extends AbstractAction {
         return executeResult;
     }
 
+    private boolean[] evaluate() {
+        List<SwitchParameter.Branch> branches = params.getBranches();
+        boolean[] results = new boolean[branches.size()];
+        for (int i = 0; i < branches.size(); i++) {
+            results[i] = branches.get(i).isNegation() != predicates.get(i).test(getInputParameter());
+            if (firstMatch && results[i]) {
+                break;
+            }
+        }
+        return results;
+    }
+
 }
@@ -1,5 +1,6 @@
 package chat.octet.accordion.action.base;
 
+import chat.octet.accordion.core.condition.Condition;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.annotation.JsonNaming;
@@ -33,6 +34,18 @@ public class SwitchParameter {
 
     private boolean debug;
 
+    /**
+     * Branch match mode, all matched branches are executed by default.
+     */
+    @Builder.Default
+    private MatchMode matchMode = MatchMode.ALL;
+
+    /**
+     * Evaluate the branches as a compiled decision table,
+     * subexpressions shared by several branches are compiled and evaluated only once.
+     */
+    private boolean decisionTable;
+
     /**
      * Add a branch to the switch.
      *
@@ -55,6 +68,20 @@ public class SwitchParameter {
         return this;
     }
 
+    /**
+     * Switch branch match mode.
+     */
+    public enum MatchMode {
+        /**
+         * Execute every matched branch.
+         */
+        ALL,
+        /**
+         * Execute only the first matched branch, in declaration order.
+         */
+        FIRST
+    }
+
     /**
      * Switch branch parameter.
      */
@@ -62,6 +89,7 @@ public class SwitchParameter {
     @Builder
     @ToString
     @Jacksonized
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
     public static class Branch {
         /**
@@ -76,6 +104,10 @@ public class SwitchParameter {
          * Branch Condition expression. For example: Arg == 100.
          */
         private String expression;
+        /**
+         * Structured branch condition, compiled into a native predicate. Takes precedence over the expression.
+         */
+        private Condition condition;
         /**
          * Reverse branch condition boolean, such as: !true or !false.
          */
@@ -5,24 +5,38 @@ import chat.octet.accordion.action.AbstractAction;
 import chat.octet.accordion.action.model.ActionConfig;
 import chat.octet.accordion.action.model.ExecuteResult;
 import chat.octet.accordion.exceptions.ActionException;
-import chat.octet.accordion.utils.CommonUtils;
 import com.google.common.base.Preconditions;
-import com.google.common.collect.Maps;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.mail.DefaultAuthenticator;
 import org.apache.commons.mail.EmailException;
 import org.apache.commons.mail.HtmlEmail;
-import org.apache.commons.text.StringSubstitutor;
 
+import javax.mail.MessagingException;
+import javax.mail.Session;
+import javax.mail.Transport;
+import javax.mail.internet.MimeMessage;
+import java.io.IOException;
 import java.io.Serial;
-import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.time.Duration;
-import java.util.Map;
+import java.util.List;
 
 /**
  * EmailAction Supports sending emails to multiple email addresses.
  * By default, the content format of the email is in HTML format, and email attachments are not currently supported.
+ * <p>
+ * When {@link EmailParameter#isPooled()} is enabled, emails are sent over a {@link SmtpTransportPool}
+ * connection of the same server and credentials instead of opening a new SMTP connection every time.
+ * Each execution still borrows its own connection and sends its single email on it, concurrent executions
+ * are not batched onto one connection. Several emails are only sent over one connection by the outbox.
+ * When {@link EmailParameter#isOutbox()} is enabled, the email is written to the {@link EmailOutbox} spool
+ * and the action returns at once, the email is sent in the background.
+ * </p>
+ * <p>
+ * Addresses and the content template are compiled once per action by {@link EmailTemplate},
+ * only the content variables are rendered when the action is executed.
+ * </p>
  *
  * @author <a href="https://github.com/eoctet">William</a>
  * @see EmailParameter
@@ -33,26 +47,31 @@ public class EmailAction extends AbstractAction {
     private static final long serialVersionUID = 1L;
 
     private final transient EmailParameter params;
+    private final transient EmailTemplate template;
+    private final transient Session session;
 
     public EmailAction(final ActionConfig actionConfig) {
         super(actionConfig);
         this.params = actionConfig.getActionParams(EmailParameter.class, "Email parameter cannot be null.");
-        Preconditions.checkArgument(StringUtils.isNotBlank(params.getServer()), "Email SMTP server address cannot be empty.");
+        Preconditions.checkArgument(StringUtils.isNotBlank(params.getServer()),
+                "Email SMTP server address cannot be empty.");
         Preconditions.checkArgument(StringUtils.isNotBlank(params.getFrom()), "Email sender cannot be empty.");
         Preconditions.checkArgument(StringUtils.isNotBlank(params.getSubject()), "Email subject cannot be empty.");
         Preconditions.checkArgument(params.getRecipients() != null, "Email recipient cannot be empty.");
         Preconditions.checkArgument(StringUtils.isNotBlank(params.getContent()), "Email content cannot be empty.");
+        this.template = new EmailTemplate(params);
+        this.session = createSession(params);
+        if (params.isOutbox()) {
+            EmailOutbox.getDefault().register(SmtpTransportPool.SmtpProfile.of(params), session);
+        }
     }
 
-    private HtmlEmail createEmail(final EmailParameter emailParams, final String contentId) {
+    private static Session createSession(final EmailParameter emailParams) {
         // setting email server config
         HtmlEmail email = new HtmlEmail();
         email.setSocketTimeout(Duration.ofMillis(emailParams.getTimeout()));
         email.setSocketConnectionTimeout(Duration.ofMillis(emailParams.getTimeout()));
         email.setDebug(emailParams.isDebug());
-        Map<String, String> headers = Maps.newHashMap();
-        headers.put("Content-ID", contentId);
-        email.setHeaders(headers);
         email.setHostName(emailParams.getServer());
         email.setSmtpPort(emailParams.getSmtpPort());
         email.setSslSmtpPort(String.valueOf(emailParams.getSmtpPort()));
@@ -61,25 +80,23 @@ public class EmailAction extends AbstractAction {
         if (StringUtils.isNotBlank(emailParams.getUsername()) || StringUtils.isNotBlank(emailParams.getPassword())) {
             email.setAuthenticator(new DefaultAuthenticator(emailParams.getUsername(), emailParams.getPassword()));
         }
-        return email;
+        try {
+            return email.getMailSession();
+        } catch (EmailException e) {
+            throw new IllegalArgumentException("Email session cannot be created: " + e.getMessage(), e);
+        }
     }
 
-
-    private String send(final EmailParameter emailParams, final String content) throws EmailException {
-        // setting email server config
-        String contentId = CommonUtils.randomString("accordion-email");
-        HtmlEmail email = createEmail(emailParams, contentId);
-        // setting email header config
-        email.setFrom(emailParams.getFrom(), StringUtils.substringBefore(emailParams.getFrom(), "@"));
-        email.setCharset(StandardCharsets.UTF_8.name());
-        email.setSubject(emailParams.getSubject());
-        email.addTo(emailParams.getRecipients());
-        if (emailParams.getCarbonCopies() != null) {
-            email.addCc(emailParams.getCarbonCopies());
+    private String send(final MimeMessage message) throws MessagingException, IOException {
+        if (params.isOutbox()) {
+            Path spool = EmailOutbox.getDefault().enqueue(SmtpTransportPool.SmtpProfile.of(params), message);
+            log.debug("The email has been written to outbox: {}.", spool);
+        } else if (params.isPooled()) {
+            SmtpTransportPool.of(SmtpTransportPool.SmtpProfile.of(params), session).send(List.of(message));
+        } else {
+            Transport.send(message);
         }
-        email.setHtmlMsg(content);
-        log.debug("Create a new email, Content ID: {}.", contentId);
-        return email.send();
+        return message.getMessageID();
     }
 
     /**
@@ -92,9 +109,9 @@ public class EmailAction extends AbstractAction {
     public ExecuteResult execute() throws ActionException {
         ExecuteResult executeResult = new ExecuteResult();
         try {
-            String content = StringSubstitutor.replace(params.getContent(), getInputParameter());
-            String status = send(params, content);
-            log.debug("The email has been sent, status: " + status);
+            MimeMessage message = template.render(session, getInputParameter());
+            String messageId = send(message);
+            log.debug("The email has been sent, message ID: {}.", messageId);
         } catch (Exception e) {
             setExecuteThrowable(new ActionException(e.getMessage(), e));
         }
@@ -0,0 +1,338 @@
+package chat.octet.accordion.action.email;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.mail.MessagingException;
+import javax.mail.Session;
+import javax.mail.internet.MimeMessage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Local spool of outgoing emails, drained by a background dispatcher.
+ * <p>
+ * Each email is written to its own spool file with an atomic move, so a crash never leaves a partial email
+ * and never loses an accepted email. The dispatcher sends the spooled emails in batches over pooled SMTP
+ * connections with bounded concurrency, retries failed emails with exponential backoff, and moves emails
+ * that failed too many times to the {@code failed} directory. An email rejected by the server is retried
+ * on its own, the other emails of its batch are still sent; only a connection failure retries the rest
+ * of the batch.
+ * </p>
+ * <p>
+ * Spool files contain the SMTP profile identifier and the MIME message, but never the SMTP password.
+ * Emails spooled before a restart are sent once an email action of the same profile is created again.
+ * Supported system properties:
+ * <ul>
+ *   <li>{@code accordion.email.outbox.dir} - Spool directory, default: {@code ${java.io.tmpdir}/accordion-outbox}</li>
+ *   <li>{@code accordion.email.outbox.concurrency} - Concurrent SMTP deliveries, default: 2</li>
+ *   <li>{@code accordion.email.outbox.max.attempts} - Delivery attempts before an email is failed, default: 5</li>
+ *   <li>{@code accordion.email.outbox.retry.delay} - First retry delay in milliseconds, default: 1000</li>
+ * </ul>
+ * </p>
+ *
+ * @author <a href="https://github.com/eoctet">William</a>
+ * @since 1.0.1
+ */
+@Slf4j
+public final class EmailOutbox implements AutoCloseable {
+
+    private static final String SPOOL_SUFFIX = ".eml";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final String FAILED_DIRECTORY = "failed";
+    private static final long POLL_INTERVAL = 500L;
+    private static final int BATCH_SIZE = 20;
+    /**
+     * Maximum number of retry delay doublings, keeps the exponential backoff from overflowing.
+     */
+    private static final int MAX_BACKOFF_SHIFT = 20;
+
+    private final Path spoolDirectory;
+    private final Path failedDirectory;
+    private final int maxAttempts;
+    private final long retryDelay;
+    private final Map<String, SmtpTransportPool> pools = new ConcurrentHashMap<>();
+    private final Set<Path> inFlight = ConcurrentHashMap.newKeySet();
+    private final Map<Path, Retry> retries = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler;
+    private final ExecutorService senders;
+
+    /**
+     * Creates an outbox draining the spool directory.
+     *
+     * @param spoolDirectory spool directory, created if missing.
+     * @param concurrency    concurrent SMTP deliveries.
+     * @param maxAttempts    delivery attempts before an email is failed.
+     * @param retryDelay     first retry delay in milliseconds, doubled after each failed attempt.
+     */
+    public EmailOutbox(final Path spoolDirectory, final int concurrency, final int maxAttempts, final long retryDelay) {
+        this.spoolDirectory = spoolDirectory;
+        this.failedDirectory = spoolDirectory.resolve(FAILED_DIRECTORY);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryDelay = Math.max(0, retryDelay);
+        try {
+            Files.createDirectories(failedDirectory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Email outbox directory cannot be created: " + spoolDirectory, e);
+        }
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(
+                new ThreadFactoryBuilder().setNameFormat("accordion-outbox-scheduler-%d").setDaemon(true).build());
+        this.senders = Executors.newFixedThreadPool(Math.max(1, concurrency),
+                new ThreadFactoryBuilder().setNameFormat("accordion-outbox-sender-%d").setDaemon(true).build());
+        this.scheduler.scheduleWithFixedDelay(this::dispatch, POLL_INTERVAL, POLL_INTERVAL, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Returns the outbox configured by system properties.
+     *
+     * @return default outbox
+     */
+    public static EmailOutbox getDefault() {
+        return DefaultHolder.INSTANCE;
+    }
+
+    /**
+     * Registers the SMTP profile, spooled emails of the profile are sent with its pooled connections.
+     *
+     * @param profile SMTP server and credential profile.
+     * @param session mail session of the profile.
+     */
+    void register(final SmtpTransportPool.SmtpProfile profile, final Session session) {
+        pools.put(profile.id(), SmtpTransportPool.of(profile, session));
+        scheduler.execute(this::dispatch);
+    }
+
+    /**
+     * Writes the email to the spool and returns at once, the email is sent in the background.
+     *
+     * @param profile SMTP server and credential profile.
+     * @param message email with saved headers.
+     * @return spool file
+     * @throws IOException        if the spool file cannot be written
+     * @throws MessagingException if the email cannot be serialized
+     */
+    Path enqueue(final SmtpTransportPool.SmtpProfile profile, final MimeMessage message)
+            throws IOException, MessagingException {
+        String name = System.currentTimeMillis() + "-" + UUID.randomUUID() + SPOOL_SUFFIX;
+        Path temp = spoolDirectory.resolve(name + TEMP_SUFFIX);
+        Path target = spoolDirectory.resolve(name);
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            OutputStream output = Channels.newOutputStream(channel);
+            output.write((profile.id() + "\n").getBytes(StandardCharsets.UTF_8));
+            message.writeTo(output);
+            output.flush();
+            channel.force(true);
+        }
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        scheduler.execute(this::dispatch);
+        return target;
+    }
+
+    private void dispatch() {
+        try {
+            Map<String, List<Path>> batches = Maps.newLinkedHashMap();
+            long now = System.currentTimeMillis();
+            for (Path file : listSpool()) {
+                Retry retry = retries.get(file);
+                if (inFlight.contains(file) || (retry != null && retry.notBefore() > now)) {
+                    continue;
+                }
+                String profileId = readProfileId(file);
+                if (profileId != null && pools.containsKey(profileId)) {
+                    batches.computeIfAbsent(profileId, key -> Lists.newArrayList()).add(file);
+                }
+            }
+            batches.forEach((profileId, files) -> Lists.partition(files, BATCH_SIZE).forEach(batch -> {
+                inFlight.addAll(batch);
+                senders.execute(() -> send(pools.get(profileId), batch));
+            }));
+        } catch (Exception e) {
+            log.warn("Failed to dispatch email outbox {}: {}", spoolDirectory, e.getMessage());
+        }
+    }
+
+    private void send(final SmtpTransportPool pool, final List<Path> batch) {
+        List<Path> files = Lists.newArrayList();
+        List<MimeMessage> messages = Lists.newArrayList();
+        try {
+            for (Path file : batch) {
+                try {
+                    messages.add(readMessage(pool, file));
+                    files.add(file);
+                } catch (IOException | MessagingException e) {
+                    log.error("Spooled email {} cannot be read, moved to failed.", file.getFileName(), e);
+                    fail(file);
+                }
+            }
+            boolean[] attempted = new boolean[files.size()];
+            try {
+                pool.send(messages, index -> {
+                    attempted[index] = true;
+                    delete(files.get(index));
+                }, (e, index) -> {
+                    attempted[index] = true;
+                    retry(files.get(index), e);
+                });
+            } catch (MessagingException e) {
+                for (int i = 0; i < files.size(); i++) {
+                    if (!attempted[i]) {
+                        retry(files.get(i), e);
+                    }
+                }
+            }
+        } finally {
+            batch.forEach(inFlight::remove);
+        }
+    }
+
+    private void retry(final Path file, final Exception cause) {
+        Retry previous = retries.get(file);
+        int attempts = previous == null ? 1 : previous.attempts() + 1;
+        if (attempts >= maxAttempts) {
+            log.error("Spooled email {} failed after {} attempts, moved to failed.",
+                    file.getFileName(), attempts, cause);
+            fail(file);
+            return;
+        }
+        long delay = retryDelay << Math.min(attempts - 1, MAX_BACKOFF_SHIFT);
+        retries.put(file, new Retry(attempts, System.currentTimeMillis() + delay));
+        log.warn("Spooled email {} failed, attempt {}, retry in {} ms: {}",
+                file.getFileName(), attempts, delay, cause.getMessage());
+    }
+
+    private void delete(final Path file) {
+        retries.remove(file);
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Sent email {} cannot be removed from spool: {}", file.getFileName(), e.getMessage());
+        }
+    }
+
+    private void fail(final Path file) {
+        retries.remove(file);
+        try {
+            Files.move(file, failedDirectory.resolve(file.getFileName()), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            log.warn("Failed email {} cannot be moved: {}", file.getFileName(), e.getMessage());
+        }
+    }
+
+    private List<Path> listSpool() throws IOException {
+        try (Stream<Path> files = Files.list(spoolDirectory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(SPOOL_SUFFIX)).sorted().toList();
+        }
+    }
+
+    private static String readProfileId(final Path file) {
+        try (var reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return reader.readLine();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static MimeMessage readMessage(final SmtpTransportPool pool, final Path file)
+            throws IOException, MessagingException {
+        byte[] content = Files.readAllBytes(file);
+        int offset = 0;
+        while (offset < content.length && content[offset] != '\n') {
+            offset++;
+        }
+        byte[] mime = Arrays.copyOfRange(content, Math.min(offset + 1, content.length), content.length);
+        return new MimeMessage(pool.getSession(), new ByteArrayInputStream(mime));
+    }
+
+    /**
+     * Returns the number of spooled emails waiting to be sent.
+     *
+     * @return pending emails
+     */
+    public int getPendingCount() {
+        try {
+            return listSpool().size();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Returns the number of emails that failed too many times.
+     *
+     * @return failed emails
+     */
+    public int getFailedCount() {
+        try (Stream<Path> files = Files.list(failedDirectory)) {
+            return (int) files.filter(file -> file.getFileName().toString().endsWith(SPOOL_SUFFIX)).count();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public Path getSpoolDirectory() {
+        return spoolDirectory;
+    }
+
+    /**
+     * Waits until the spool is empty.
+     *
+     * @param timeout maximum wait time.
+     * @return true if the spool is empty
+     * @throws InterruptedException if the current thread was interrupted
+     */
+    public boolean awaitDrained(final Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (getPendingCount() > 0) {
+            if (System.nanoTime() > deadline) {
+                return false;
+            }
+            TimeUnit.MILLISECONDS.sleep(POLL_INTERVAL / 10);
+        }
+        return true;
+    }
+
+    /**
+     * Stops the dispatcher, spooled emails stay in the spool directory.
+     */
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+        senders.shutdown();
+    }
+
+    private record Retry(int attempts, long notBefore) {
+    }
+
+    private static final class DefaultHolder {
+        private static final EmailOutbox INSTANCE = new EmailOutbox(
+                Paths.get(System.getProperty("accordion.email.outbox.dir",
+                        Paths.get(System.getProperty("java.io.tmpdir"), "accordion-outbox").toString())),
+                Integer.getInteger("accordion.email.outbox.concurrency", 2),
+                Integer.getInteger("accordion.email.outbox.max.attempts", 5),
+                Long.getLong("accordion.email.outbox.retry.delay", 1000L));
+    }
+}
@@ -77,6 +77,16 @@ public class EmailParameter {
      * Debug mode, default: false.
      */
     private boolean debug;
+    /**
+     * Reuses pooled SMTP connections of the same server and credentials, default: false.
+     * Each email is sent on its own borrowed connection, use the outbox to batch emails on one connection.
+     */
+    private boolean pooled;
+    /**
+     * Writes the email to the local outbox spool and sends it in the background with pooled connections,
+     * default: false.
+     */
+    private boolean outbox;
 
     /**
      * Gets the email recipients as an array by splitting the 'to' field.
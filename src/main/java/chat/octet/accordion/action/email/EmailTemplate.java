@@ -0,0 +1,117 @@
+package chat.octet.accordion.action.email;
+
+import chat.octet.accordion.core.handler.StringTemplate;
+import chat.octet.accordion.utils.CommonUtils;
+import org.apache.commons.lang3.StringUtils;
+
+import javax.activation.DataHandler;
+import javax.mail.Message;
+import javax.mail.MessagingException;
+import javax.mail.Session;
+import javax.mail.internet.AddressException;
+import javax.mail.internet.InternetAddress;
+import javax.mail.internet.MimeMessage;
+import javax.mail.internet.MimeUtility;
+import javax.mail.util.ByteArrayDataSource;
+import java.io.UnsupportedEncodingException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Map;
+
+/**
+ * Compiled email of an email action.
+ * <p>
+ * Addresses, subject and the content template are parsed once per action. When the content has no variables,
+ * the encoded HTML body and its transfer encoding are built once and shared by all messages,
+ * otherwise only the content variables are rendered per message.
+ * </p>
+ *
+ * @author <a href="https://github.com/eoctet">William</a>
+ * @since 1.0.1
+ */
+final class EmailTemplate {
+
+    private static final String CONTENT_TYPE = "text/html; charset=UTF-8";
+    private static final String CONTENT_TRANSFER_ENCODING = "Content-Transfer-Encoding";
+
+    private final InternetAddress from;
+    private final InternetAddress[] recipients;
+    private final InternetAddress[] carbonCopies;
+    private final String subject;
+    private final StringTemplate content;
+    private final ByteArrayDataSource staticBody;
+    private final String staticEncoding;
+
+    /**
+     * Compiles the email of the email parameter.
+     *
+     * @param params email parameter.
+     * @throws IllegalArgumentException if an address is invalid
+     */
+    EmailTemplate(final EmailParameter params) {
+        try {
+            String address = params.getFrom().trim();
+            this.from = new InternetAddress(address, StringUtils.substringBefore(address, "@"),
+                    StandardCharsets.UTF_8.name());
+            this.from.validate();
+            this.recipients = parse(params.getRecipients());
+            this.carbonCopies = parse(params.getCarbonCopies());
+        } catch (AddressException | UnsupportedEncodingException e) {
+            throw new IllegalArgumentException("Invalid email address: " + e.getMessage(), e);
+        }
+        this.subject = params.getSubject();
+        this.content = StringTemplate.compile(params.getContent());
+        if (content.isStatic()) {
+            byte[] body = params.getContent().getBytes(StandardCharsets.UTF_8);
+            this.staticBody = new ByteArrayDataSource(body, CONTENT_TYPE);
+            this.staticEncoding = MimeUtility.getEncoding(staticBody);
+        } else {
+            this.staticBody = null;
+            this.staticEncoding = null;
+        }
+    }
+
+    private static InternetAddress[] parse(final String[] addresses) throws AddressException {
+        InternetAddress[] parsed = new InternetAddress[addresses.length];
+        for (int i = 0; i < addresses.length; i++) {
+            parsed[i] = new InternetAddress(addresses[i].trim());
+            parsed[i].validate();
+        }
+        return parsed;
+    }
+
+    /**
+     * Renders a new message with saved headers.
+     *
+     * @param session   mail session.
+     * @param variables content variables.
+     * @return email message
+     * @throws MessagingException if the message cannot be created
+     */
+    MimeMessage render(final Session session, final Map<String, ?> variables) throws MessagingException {
+        MimeMessage message = new MimeMessage(session);
+        message.setFrom(from);
+        message.setRecipients(Message.RecipientType.TO, recipients);
+        if (carbonCopies.length > 0) {
+            message.setRecipients(Message.RecipientType.CC, carbonCopies);
+        }
+        message.setSubject(subject, StandardCharsets.UTF_8.name());
+        message.setSentDate(new Date());
+        message.setHeader("Content-ID", CommonUtils.randomString("accordion-email"));
+        if (staticBody != null) {
+            message.setDataHandler(new DataHandler(staticBody));
+            message.setHeader(CONTENT_TRANSFER_ENCODING, staticEncoding);
+        } else {
+            message.setText(content.render(variables), StandardCharsets.UTF_8.name(), "html");
+        }
+        message.saveChanges();
+        return message;
+    }
+
+    @Override
+    public String toString() {
+        return "EmailTemplate(to: " + Arrays.toString(recipients) + ", subject: " + subject
+                + ", static: " + content.isStatic() + ")";
+    }
+}
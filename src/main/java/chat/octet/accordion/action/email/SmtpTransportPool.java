@@ -0,0 +1,248 @@
+package chat.octet.accordion.action.email;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.mail.MessagingException;
+import javax.mail.Session;
+import javax.mail.Transport;
+import javax.mail.internet.MimeMessage;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntConsumer;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Pool of connected SMTP transports, shared per server and credential profile.
+ * <p>
+ * Connections are kept open after sending and reused by the next emails of the same profile,
+ * so the TLS handshake and authentication are paid once per connection instead of once per email.
+ * Idle connections are closed after the idle timeout.
+ * Supported system properties:
+ * <ul>
+ *   <li>{@code accordion.email.pool.max.idle} - Maximum idle connections per profile, default: 4</li>
+ *   <li>{@code accordion.email.pool.idle.timeout} - Idle connection timeout in milliseconds, default: 60000</li>
+ * </ul>
+ * </p>
+ *
+ * @author <a href="https://github.com/eoctet">William</a>
+ * @since 1.0.1
+ */
+@Slf4j
+final class SmtpTransportPool {
+
+    private static final String MAX_IDLE_PROPERTY = "accordion.email.pool.max.idle";
+    private static final String IDLE_TIMEOUT_PROPERTY = "accordion.email.pool.idle.timeout";
+    private static final int DEFAULT_MAX_IDLE = 4;
+    private static final long DEFAULT_IDLE_TIMEOUT = 60000L;
+    private static final long EVICTION_INTERVAL = 5000L;
+    private static final Map<SmtpProfile, SmtpTransportPool> POOLS = new ConcurrentHashMap<>();
+    private static final ScheduledExecutorService EVICTOR = Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder().setNameFormat("accordion-smtp-evictor-%d").setDaemon(true).build());
+
+    static {
+        EVICTOR.scheduleWithFixedDelay(() -> POOLS.values().forEach(SmtpTransportPool::evictIdle),
+                EVICTION_INTERVAL, EVICTION_INTERVAL, TimeUnit.MILLISECONDS);
+    }
+
+    private final SmtpProfile profile;
+    private final Session session;
+    private final int maxIdle;
+    private final long idleTimeout;
+    private final Deque<IdleTransport> idleTransports = new ConcurrentLinkedDeque<>();
+    private final AtomicLong connections = new AtomicLong();
+
+    private SmtpTransportPool(final SmtpProfile profile, final Session session) {
+        this.profile = profile;
+        this.session = session;
+        this.maxIdle = Math.max(0, Integer.getInteger(MAX_IDLE_PROPERTY, DEFAULT_MAX_IDLE));
+        this.idleTimeout = Math.max(0, Long.getLong(IDLE_TIMEOUT_PROPERTY, DEFAULT_IDLE_TIMEOUT));
+    }
+
+    /**
+     * Returns the shared pool of the profile.
+     *
+     * @param profile SMTP server and credential profile.
+     * @param session mail session used when the pool is created.
+     * @return transport pool
+     */
+    static SmtpTransportPool of(final SmtpProfile profile, final Session session) {
+        return POOLS.computeIfAbsent(profile, key -> new SmtpTransportPool(key, session));
+    }
+
+    /**
+     * Returns the existing pool of the profile.
+     *
+     * @param profile SMTP server and credential profile.
+     * @return transport pool, or null if the profile has no pool yet
+     */
+    static SmtpTransportPool get(final SmtpProfile profile) {
+        return POOLS.get(profile);
+    }
+
+    Session getSession() {
+        return session;
+    }
+
+    /**
+     * Sends the messages over one pooled connection, message headers must already be saved.
+     * {@link EmailAction} sends a single message per call, batches of several messages come from the outbox.
+     *
+     * @param messages messages to send.
+     * @throws MessagingException if a message cannot be sent, the first rejection is thrown once the other
+     *                            messages are sent
+     */
+    void send(final List<MimeMessage> messages) throws MessagingException {
+        MessagingException[] rejected = new MessagingException[1];
+        send(messages, index -> {
+        }, (e, index) -> {
+            if (rejected[0] == null) {
+                rejected[0] = e;
+            }
+        });
+        if (rejected[0] != null) {
+            throw rejected[0];
+        }
+    }
+
+    /**
+     * Sends the messages over one pooled connection, message headers must already be saved.
+     * <p>
+     * A message rejected while the connection stays open, e.g. for an invalid recipient, is reported to
+     * {@code onRejected} and the next messages are still sent. A failure that closes the connection aborts
+     * the remaining messages.
+     * </p>
+     *
+     * @param messages   messages to send.
+     * @param onSent     callback invoked with the index of each sent message.
+     * @param onRejected callback invoked with the error and the index of each rejected message.
+     * @throws MessagingException if the connection fails, the connection is closed and the next messages
+     *                            are not sent
+     */
+    void send(final List<MimeMessage> messages, final IntConsumer onSent,
+              final ObjIntConsumer<MessagingException> onRejected) throws MessagingException {
+        Transport transport = borrow();
+        boolean healthy = false;
+        try {
+            for (int i = 0; i < messages.size(); i++) {
+                MimeMessage message = messages.get(i);
+                try {
+                    transport.sendMessage(message, message.getAllRecipients());
+                } catch (MessagingException e) {
+                    if (!transport.isConnected()) {
+                        throw e;
+                    }
+                    onRejected.accept(e, i);
+                    continue;
+                }
+                onSent.accept(i);
+            }
+            healthy = true;
+        } finally {
+            release(transport, healthy);
+        }
+    }
+
+    private Transport borrow() throws MessagingException {
+        IdleTransport idle;
+        while ((idle = idleTransports.pollFirst()) != null) {
+            if (!idle.isExpired(idleTimeout) && idle.transport().isConnected()) {
+                return idle.transport();
+            }
+            closeQuietly(idle.transport());
+        }
+        Transport transport = session.getTransport();
+        transport.connect();
+        connections.incrementAndGet();
+        log.debug("Opened SMTP connection to {}:{}.", profile.server(), profile.port());
+        return transport;
+    }
+
+    private void release(final Transport transport, final boolean healthy) {
+        if (healthy && idleTransports.size() < maxIdle) {
+            idleTransports.offerFirst(new IdleTransport(transport, System.nanoTime()));
+        } else {
+            closeQuietly(transport);
+        }
+    }
+
+    private void evictIdle() {
+        idleTransports.removeIf(idle -> {
+            if (idle.isExpired(idleTimeout)) {
+                closeQuietly(idle.transport());
+                return true;
+            }
+            return false;
+        });
+    }
+
+    private static void closeQuietly(final Transport transport) {
+        try {
+            transport.close();
+        } catch (MessagingException e) {
+            log.debug("Failed to close SMTP connection: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the number of connections opened by this pool.
+     *
+     * @return opened connections
+     */
+    long getConnectionCount() {
+        return connections.get();
+    }
+
+    int idleSize() {
+        return idleTransports.size();
+    }
+
+    private record IdleTransport(Transport transport, long releasedAt) {
+
+        boolean isExpired(final long timeout) {
+            return System.nanoTime() - releasedAt > TimeUnit.MILLISECONDS.toNanos(timeout);
+        }
+    }
+
+    /**
+     * SMTP server and credential profile.
+     *
+     * @param server   SMTP server address.
+     * @param port     SMTP server port.
+     * @param ssl      use SSL.
+     * @param tls      use TLS.
+     * @param username SMTP username.
+     * @param password SMTP password.
+     * @param timeout  connection timeout.
+     */
+    record SmtpProfile(String server, int port, boolean ssl, boolean tls, String username, String password,
+                       Long timeout) {
+
+        static SmtpProfile of(final EmailParameter params) {
+            return new SmtpProfile(params.getServer(), params.getSmtpPort(), params.isSsl(), params.isTls(),
+                    params.getUsername(), params.getPassword(), params.getTimeout());
+        }
+
+        /**
+         * Returns the profile identifier, it does not contain the password.
+         *
+         * @return profile identifier
+         */
+        String id() {
+            return (username == null ? "" : username + "@") + server + ":" + port
+                    + (ssl ? ";ssl" : "") + (tls ? ";tls" : "");
+        }
+
+        @Override
+        public String toString() {
+            return "SmtpProfile(" + id() + ")";
+        }
+    }
+}
@@ -13,8 +13,8 @@ import lombok.ToString;
 import lombok.extern.jackson.Jacksonized;
 
 import java.io.Serial;
-import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 
 /**
@@ -130,6 +130,12 @@ public class ActionConfig implements java.io.Serializable {
     @Setter
     private List<OutputParameter> actionOutput;
 
+    /**
+     * Optional memoization of the execution results by input parameters, disabled when null.
+     * Only enable it for actions whose results depend on their inputs alone.
+     */
+    private MemoizeConfig memoize;
+
     /**
      * Retrieves action parameters as a typed object.
      *
@@ -139,8 +145,8 @@ public class ActionConfig implements java.io.Serializable {
      *
      * <p>Conversion Process:</p>
      * <ol>
-     *   <li>If parameters are stored as LinkedHashMap, converts via JSON</li>
-     *   <li>Checks if the result matches the expected type</li>
+     *   <li>If parameters are stored as a Map, binds them directly to the expected type</li>
+     *   <li>Keeps the bound object, so later calls are a plain type check</li>
      *   <li>Returns the typed parameter object or null</li>
      * </ol>
      *
@@ -149,9 +155,9 @@ public class ActionConfig implements java.io.Serializable {
      * @return the typed parameter object, or null if conversion fails or types don't match
      * @since 1.0.0
      */
-    public <T> T getActionParams(final Class<T> clazz) {
-        if (actionParams instanceof LinkedHashMap) {
-            actionParams = JsonUtils.parseToObject(JsonUtils.toJson(actionParams), clazz);
+    public synchronized <T> T getActionParams(final Class<T> clazz) {
+        if (actionParams instanceof Map) {
+            actionParams = JsonUtils.convertValue(actionParams, clazz);
         }
         if (actionParams != null && actionParams.getClass() == clazz) {
             return clazz.cast(actionParams);
@@ -6,11 +6,15 @@ import chat.octet.accordion.action.base.SwitchAction;
 import chat.octet.accordion.core.entity.Tuple;
 import chat.octet.accordion.core.handler.DataTypeConvert;
 import chat.octet.accordion.graph.entity.SwitchFilter;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
 import lombok.Getter;
 
 import java.io.Serializable;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Container for action execution results and output data.
@@ -275,6 +279,50 @@ public class ExecuteResult implements Serializable {
         this.result.clear();
     }
 
+    /**
+     * Returns a copy of this execution result.
+     *
+     * <p>Map, list and set values are copied recursively, so that changing the values of either result
+     * does not affect the other. Other values are shared.</p>
+     *
+     * @return a new execution result holding copies of the values
+     * @since 1.0.1
+     */
+    public ExecuteResult copy() {
+        ExecuteResult copy = new ExecuteResult();
+        this.result.forEach((key, value) -> copy.result.put(key, copyValue(value)));
+        return copy;
+    }
+
+    private static Object copyValue(final Object value) {
+        if (value instanceof SwitchFilter switchFilter) {
+            SwitchFilter filter = new SwitchFilter();
+            filter.putAll(switchFilter);
+            return filter;
+        }
+        if (value instanceof Tuple<?, ?> tuple) {
+            Tuple<Object, Object> copy = new Tuple<>();
+            tuple.forEach((key, element) -> copy.put(key, copyValue(element)));
+            return copy;
+        }
+        if (value instanceof Map<?, ?> map) {
+            Map<Object, Object> copy = Maps.newLinkedHashMapWithExpectedSize(map.size());
+            map.forEach((key, element) -> copy.put(key, copyValue(element)));
+            return copy;
+        }
+        if (value instanceof List<?> list) {
+            List<Object> copy = Lists.newArrayListWithCapacity(list.size());
+            list.forEach(element -> copy.add(copyValue(element)));
+            return copy;
+        }
+        if (value instanceof Set<?> set) {
+            Set<Object> copy = Sets.newLinkedHashSetWithExpectedSize(set.size());
+            set.forEach(element -> copy.add(copyValue(element)));
+            return copy;
+        }
+        return value;
+    }
+
     /**
      * Returns a string representation of the execution result.
      *
@@ -0,0 +1,24 @@
+package chat.octet.accordion.action.model;
+
+/**
+ * Statistics of the memoized results of an action.
+ *
+ * @param hits      number of executions replayed from a memoized result.
+ * @param misses    number of executions that were not memoized yet.
+ * @param evictions number of results evicted by size or expiry.
+ * @param size      number of memoized results.
+ * @author <a href="https://github.com/eoctet">William</a>
+ * @since 1.0.1
+ */
+public record MemoStats(long hits, long misses, long evictions, long size) {
+
+    /**
+     * Returns the ratio of executions replayed from a memoized result.
+     *
+     * @return hit rate between 0 and 1, 0 before the first execution
+     */
+    public double hitRate() {
+        long requests = hits + misses;
+        return requests == 0 ? 0D : (double) hits / requests;
+    }
+}
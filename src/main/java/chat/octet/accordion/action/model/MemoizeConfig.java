@@ -0,0 +1,52 @@
+package chat.octet.accordion.action.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.extern.jackson.Jacksonized;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * Memoization of the execution results of an action, keyed by a hash of its resolved input parameters.
+ *
+ * <p>Example:</p>
+ * <pre>{@code
+ * {
+ *   "id": "score",
+ *   "action_type": "SCRIPT",
+ *   "action_name": "Score",
+ *   "action_params": { "script": "a * 2 + b" },
+ *   "memoize": { "ttl": 60000, "maximum_size": 1000 }
+ * }
+ * }</pre>
+ *
+ * @author <a href="https://github.com/eoctet">William</a>
+ * @since 1.0.1
+ */
+@Getter
+@Builder
+@ToString
+@Jacksonized
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public class MemoizeConfig implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Time to live (ms) of a memoized result after it was computed, default value: 60000 ms.
+     */
+    @Builder.Default
+    private long ttl = 60_000L;
+    /**
+     * Maximum number of memoized results, the least recently used results are evicted first.
+     * default value: 1000.
+     */
+    @Builder.Default
+    private long maximumSize = 1000L;
+}
@@ -0,0 +1,238 @@
+package chat.octet.accordion.action.script;
+
+import chat.octet.accordion.exceptions.ActionException;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
+import com.googlecode.aviator.exception.ExpressionRuntimeException;
+import com.googlecode.aviator.exception.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Script execution budget, limits the loop iterations, wall-clock time and allocated bytes of a script.
+ * <p>
+ * The loop and time budgets are enforced by the Aviator evaluator while the script runs, the time budget is
+ * checked cooperatively at loop and function checkpoints. The allocation budget is measured with
+ * {@link com.sun.management.ThreadMXBean} on the executing thread and checked when the script returns.
+ * A script that exceeds its budget fails with an {@link ActionException}, and the exhaustion is counted per
+ * action id. The counters of an action are removed when the action is closed with its plan.
+ * </p>
+ *
+ * <p>System Properties:</p>
+ * <ul>
+ *   <li>{@code accordion.script.max.loop.count} - Default maximum loop iterations, default: unlimited</li>
+ *   <li>{@code accordion.script.timeout} - Default execution timeout in milliseconds, default: 0 (unlimited)</li>
+ *   <li>{@code accordion.script.max.allocated.bytes} - Default allocation cap in bytes, default: 0 (unlimited)</li>
+ * </ul>
+ *
+ * @author <a href="https://github.com/eoctet">William</a>
+ * @since 1.0.1
+ */
+@Slf4j
+public final class ScriptBudget {
+
+    private static final String MAX_LOOP_COUNT_PROPERTY = "accordion.script.max.loop.count";
+    private static final String TIMEOUT_PROPERTY = "accordion.script.timeout";
+    private static final String MAX_ALLOCATED_BYTES_PROPERTY = "accordion.script.max.allocated.bytes";
+    private static final String LOOP_OVERFLOW_MESSAGE = "Overflow max loop count";
+
+    private static final Map<String, Counters> EXHAUSTIONS = new ConcurrentHashMap<>();
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN = allocationMXBean();
+
+    private final int maxLoopCount;
+    private final long timeout;
+    private final long maxAllocatedBytes;
+
+    private ScriptBudget(final int maxLoopCount, final long timeout, final long maxAllocatedBytes) {
+        this.maxLoopCount = maxLoopCount;
+        this.timeout = timeout;
+        this.maxAllocatedBytes = maxAllocatedBytes;
+    }
+
+    /**
+     * Resolves the budget of a script, unset limits use the system property defaults.
+     *
+     * @param params script parameter.
+     * @return script budget
+     */
+    public static ScriptBudget of(final ScriptParameter params) {
+        Preconditions.checkNotNull(params, "Script parameter cannot be null.");
+        int maxLoopCount = Optional.ofNullable(params.getMaxLoopCount())
+                .orElseGet(() -> Integer.getInteger(MAX_LOOP_COUNT_PROPERTY, Integer.MAX_VALUE));
+        long timeout = Optional.ofNullable(params.getTimeout())
+                .orElseGet(() -> Long.getLong(TIMEOUT_PROPERTY, 0L));
+        long maxAllocatedBytes = Optional.ofNullable(params.getMaxAllocatedBytes())
+                .orElseGet(() -> Long.getLong(MAX_ALLOCATED_BYTES_PROPERTY, 0L));
+        Preconditions.checkArgument(maxLoopCount > 0, "Script max loop count must be greater than 0.");
+        Preconditions.checkArgument(timeout >= 0, "Script timeout cannot be negative.");
+        Preconditions.checkArgument(maxAllocatedBytes >= 0, "Script max allocated bytes cannot be negative.");
+        if (maxAllocatedBytes > 0 && THREAD_MX_BEAN == null) {
+            log.warn("Thread allocation measurement is not supported by this JVM, "
+                    + "the script allocation cap is ignored.");
+        }
+        return new ScriptBudget(maxLoopCount, timeout, maxAllocatedBytes);
+    }
+
+    private static com.sun.management.ThreadMXBean allocationMXBean() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean allocationBean
+                && allocationBean.isThreadAllocatedMemorySupported()) {
+            if (!allocationBean.isThreadAllocatedMemoryEnabled()) {
+                allocationBean.setThreadAllocatedMemoryEnabled(true);
+            }
+            return allocationBean;
+        }
+        return null;
+    }
+
+    /**
+     * Creates the evaluator profile enforcing the loop and time budgets.
+     *
+     * @param debug trace script evaluation.
+     * @return evaluator profile
+     */
+    public ScriptEvaluatorPool.Profile profile(final boolean debug) {
+        return new ScriptEvaluatorPool.Profile(debug, maxLoopCount, timeout);
+    }
+
+    /**
+     * Returns the allocated bytes of the current thread, used as the start of an allocation measurement.
+     *
+     * @return allocated bytes, or -1 if the allocation cap is disabled
+     */
+    public long allocationMark() {
+        if (maxAllocatedBytes <= 0 || THREAD_MX_BEAN == null) {
+            return -1;
+        }
+        return THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+    }
+
+    /**
+     * Checks the bytes allocated by the current thread since the mark.
+     *
+     * @param actionId script action id.
+     * @param mark     allocation mark, see {@link #allocationMark()}.
+     * @throws ActionException if the script exceeded the allocation cap
+     */
+    public void checkAllocation(final String actionId, final long mark) throws ActionException {
+        if (mark < 0) {
+            return;
+        }
+        long allocated = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes() - mark;
+        if (allocated > maxAllocatedBytes) {
+            counters(actionId).allocations.increment();
+            throw new ActionException("Script action '" + actionId + "' exceeded its allocation budget, allocated: "
+                    + allocated + " bytes, limit: " + maxAllocatedBytes + " bytes.");
+        }
+    }
+
+    /**
+     * Translates a budget exhaustion raised by the evaluator into an action exception.
+     *
+     * @param actionId script action id.
+     * @param e        script execution error.
+     * @return action exception, or empty if the error is not a budget exhaustion
+     */
+    public Optional<ActionException> exhausted(final String actionId, final Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TimeoutException) {
+                counters(actionId).timeouts.increment();
+                return Optional.of(new ActionException("Script action '" + actionId + "' exceeded its time budget of "
+                        + timeout + " ms.", cause));
+            }
+            if (cause instanceof ExpressionRuntimeException && cause.getMessage() != null
+                    && cause.getMessage().startsWith(LOOP_OVERFLOW_MESSAGE)) {
+                counters(actionId).loops.increment();
+                return Optional.of(new ActionException("Script action '" + actionId + "' exceeded its loop budget of "
+                        + maxLoopCount + " iterations.", cause));
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static Counters counters(final String actionId) {
+        return EXHAUSTIONS.computeIfAbsent(StringUtils.defaultString(actionId), key -> new Counters());
+    }
+
+    /**
+     * Returns the budget exhaustion counters of a script action.
+     *
+     * @param actionId script action id.
+     * @return exhaustion counters, all zero if the script never exhausted its budget
+     */
+    public static Exhaustion getExhaustion(final String actionId) {
+        return Optional.ofNullable(EXHAUSTIONS.get(StringUtils.defaultString(actionId)))
+                .map(Counters::snapshot)
+                .orElse(new Exhaustion(0, 0, 0));
+    }
+
+    /**
+     * Returns the budget exhaustion counters of all script actions that exhausted their budget.
+     *
+     * @return exhaustion counters by action id
+     */
+    public static Map<String, Exhaustion> getExhaustions() {
+        ImmutableMap.Builder<String, Exhaustion> builder = ImmutableMap.builder();
+        EXHAUSTIONS.forEach((actionId, counters) -> builder.put(actionId, counters.snapshot()));
+        return builder.build();
+    }
+
+    /**
+     * Removes the budget exhaustion counters of a script action.
+     *
+     * @param actionId script action id.
+     */
+    public static void removeExhaustion(final String actionId) {
+        EXHAUSTIONS.remove(StringUtils.defaultString(actionId));
+    }
+
+    /**
+     * Resets all budget exhaustion counters.
+     */
+    public static void resetExhaustions() {
+        EXHAUSTIONS.clear();
+    }
+
+    public int getMaxLoopCount() {
+        return maxLoopCount;
+    }
+
+    public long getTimeout() {
+        return timeout;
+    }
+
+    public long getMaxAllocatedBytes() {
+        return maxAllocatedBytes;
+    }
+
+    /**
+     * Budget exhaustion counters of a script action.
+     *
+     * @param loops       loop budget exhaustions.
+     * @param timeouts    time budget exhaustions.
+     * @param allocations allocation budget exhaustions.
+     */
+    public record Exhaustion(long loops, long timeouts, long allocations) {
+
+        public long total() {
+            return loops + timeouts + allocations;
+        }
+    }
+
+    private static final class Counters {
+        private final LongAdder loops = new LongAdder();
+        private final LongAdder timeouts = new LongAdder();
+        private final LongAdder allocations = new LongAdder();
+
+        private Exhaustion snapshot() {
+            return new Exhaustion(loops.sum(), timeouts.sum(), allocations.sum());
+        }
+    }
+}
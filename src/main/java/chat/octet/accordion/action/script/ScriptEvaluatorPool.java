@@ -0,0 +1,210 @@
+package chat.octet.accordion.action.script;
+
+import chat.octet.accordion.core.jfr.ScriptCompileEvent;
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.RemovalNotification;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.googlecode.aviator.AviatorEvaluator;
+import com.googlecode.aviator.AviatorEvaluatorInstance;
+import com.googlecode.aviator.Expression;
+import com.googlecode.aviator.Feature;
+import com.googlecode.aviator.Options;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Shared script evaluators and compiled script cache.
+ * <p>
+ * Script actions with the same evaluator options share one configured Aviator evaluator (profile),
+ * instead of creating a class-generating evaluator per action. Compiled scripts are cached by
+ * profile and the SHA-256 hash of the script content, so identical scripts across plans are compiled once.
+ * </p>
+ * <p>
+ * Aviator reads the loop and time limits from the evaluator, so each distinct script budget needs its own
+ * evaluator. Evaluators are kept in a bounded LRU cache, an evicted evaluator is released together with
+ * the scripts compiled by it, so that its generated classes can be unloaded.
+ * </p>
+ *
+ * <p>System Properties:</p>
+ * <ul>
+ *   <li>{@code accordion.script.cache.size} - Maximum number of compiled scripts, default: 1024</li>
+ *   <li>{@code accordion.script.evaluator.cache.size} - Maximum number of evaluators, default: 64</li>
+ * </ul>
+ *
+ * @author <a href="https://github.com/eoctet">William</a>
+ * @since 1.0.1
+ */
+@Slf4j
+public final class ScriptEvaluatorPool {
+
+    private static final String CACHE_SIZE_PROPERTY = "accordion.script.cache.size";
+    private static final int DEFAULT_CACHE_SIZE = 1024;
+    private static final String EVALUATOR_CACHE_SIZE_PROPERTY = "accordion.script.evaluator.cache.size";
+    private static final int DEFAULT_EVALUATOR_CACHE_SIZE = 64;
+
+    private static final Cache<ScriptKey, Expression> SCRIPT_CACHE = CacheBuilder.newBuilder()
+            .maximumSize(Math.max(1, Integer.getInteger(CACHE_SIZE_PROPERTY, DEFAULT_CACHE_SIZE)))
+            .recordStats()
+            .build();
+    private static final Cache<Profile, AviatorEvaluatorInstance> EVALUATORS = CacheBuilder.newBuilder()
+            .maximumSize(Math.max(1, Integer.getInteger(EVALUATOR_CACHE_SIZE_PROPERTY, DEFAULT_EVALUATOR_CACHE_SIZE)))
+            .removalListener(ScriptEvaluatorPool::onEvaluatorRemoved)
+            .build();
+
+    private ScriptEvaluatorPool() {
+        // Utility class, prevent instantiation
+    }
+
+    /**
+     * Gets the shared evaluator of the profile, the evaluator is created on first use.
+     *
+     * @param profile evaluator options.
+     * @return shared evaluator
+     */
+    public static AviatorEvaluatorInstance getEvaluator(final Profile profile) {
+        Preconditions.checkNotNull(profile, "Script profile cannot be null.");
+        return get(EVALUATORS, profile, () -> createEvaluator(profile));
+    }
+
+    private static void onEvaluatorRemoved(final RemovalNotification<Profile, AviatorEvaluatorInstance> notification) {
+        if (notification.wasEvicted()) {
+            Profile profile = notification.getKey();
+            SCRIPT_CACHE.asMap().keySet().removeIf(key -> key.profile().equals(profile));
+            log.warn("Evicted script evaluator, profile: {}, too many distinct script budgets are in use.", profile);
+        }
+    }
+
+    private static AviatorEvaluatorInstance createEvaluator(final Profile profile) {
+        AviatorEvaluatorInstance evaluator = AviatorEvaluator.newInstance();
+        evaluator.setOption(Options.MAX_LOOP_COUNT, profile.maxLoopCount());
+        if (profile.timeout() > 0) {
+            evaluator.setOption(Options.EVAL_TIMEOUT_MS, profile.timeout());
+        }
+        evaluator.setOption(Options.SERIALIZABLE, true);
+        evaluator.setOption(Options.ALLOWED_CLASS_SET, Set.of());
+        evaluator.disableFeature(Feature.NewInstance);
+        evaluator.disableFeature(Feature.Module);
+        evaluator.disableFeature(Feature.InternalVars);
+        evaluator.setOption(Options.TRACE_EVAL, profile.debug());
+        log.debug("Created shared script evaluator, profile: {}.", profile);
+        return evaluator;
+    }
+
+    /**
+     * Creates the cache key of a script.
+     *
+     * @param profile evaluator options.
+     * @param script  script code snippets.
+     * @return script cache key
+     */
+    public static ScriptKey key(final Profile profile, final String script) {
+        Preconditions.checkNotNull(profile, "Script profile cannot be null.");
+        Preconditions.checkNotNull(script, "Script cannot be null.");
+        String hash = Hashing.sha256().hashString(script, StandardCharsets.UTF_8).toString();
+        return new ScriptKey(profile, hash, script);
+    }
+
+    /**
+     * Gets the compiled script, the script is compiled on first use.
+     *
+     * @param key script cache key, see {@link #key(Profile, String)}.
+     * @return compiled script
+     */
+    public static Expression compile(final ScriptKey key) {
+        Preconditions.checkNotNull(key, "Script key cannot be null.");
+        return get(SCRIPT_CACHE, key, () -> ScriptCompileEvent.record("script", key.script(),
+                () -> getEvaluator(key.profile()).compile(key.script(), false)));
+    }
+
+    private static <K, V> V get(final Cache<K, V> cache, final K key, final Callable<V> loader) {
+        try {
+            return cache.get(key, loader);
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            Throwable cause = Optional.ofNullable(e.getCause()).orElse(e);
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(cause.getMessage(), cause);
+        }
+    }
+
+    /**
+     * Returns the hit and miss statistics of the compiled script cache.
+     *
+     * @return cache statistics
+     */
+    public static CacheStats cacheStats() {
+        return SCRIPT_CACHE.stats();
+    }
+
+    /**
+     * Returns the number of compiled scripts currently cached.
+     *
+     * @return cached script count
+     */
+    public static long cacheSize() {
+        return SCRIPT_CACHE.size();
+    }
+
+    /**
+     * Returns the number of evaluators currently cached.
+     *
+     * @return cached evaluator count
+     */
+    public static long evaluatorCount() {
+        return EVALUATORS.size();
+    }
+
+    /**
+     * Discards all compiled scripts.
+     */
+    public static void invalidateCache() {
+        SCRIPT_CACHE.invalidateAll();
+    }
+
+    /**
+     * Script evaluator options, actions with equal profiles share one evaluator.
+     *
+     * @param debug        trace script evaluation.
+     * @param maxLoopCount maximum loop iterations.
+     * @param timeout      execution timeout in milliseconds, 0 is unlimited.
+     */
+    public record Profile(boolean debug, int maxLoopCount, long timeout) {
+
+        public Profile(final boolean debug) {
+            this(debug, Integer.MAX_VALUE, 0L);
+        }
+    }
+
+    /**
+     * Compiled script cache key, scripts are compared by profile and content hash.
+     *
+     * @param profile evaluator options.
+     * @param hash    SHA-256 hash of the script.
+     * @param script  script code snippets, not part of the key.
+     */
+    public record ScriptKey(Profile profile, String hash, String script) {
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            return o instanceof ScriptKey other && profile.equals(other.profile) && hash.equals(other.hash);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * profile.hashCode() + hash.hashCode();
+        }
+    }
+}
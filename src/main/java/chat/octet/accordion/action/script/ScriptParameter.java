@@ -23,6 +23,7 @@ import lombok.extern.jackson.Jacksonized;
 public class ScriptParameter {
     /**
      * Script id, Automatically generated by default.
+     * Compiled scripts are cached by content and budget exhaustions are counted by action id.
      */
     @Builder.Default
     private String scriptId = CommonUtils.randomString("script");
@@ -35,4 +36,17 @@ public class ScriptParameter {
      * NOTE: Do not enable it in the production env.
      */
     private boolean debug;
+    /**
+     * Maximum loop iterations, default: system property accordion.script.max.loop.count or unlimited.
+     */
+    private Integer maxLoopCount;
+    /**
+     * Execution timeout in milliseconds, default: system property accordion.script.timeout or unlimited.
+     */
+    private Long timeout;
+    /**
+     * Maximum bytes allocated by one execution, default: system property accordion.script.max.allocated.bytes
+     * or unlimited. Checked when the script returns.
+     */
+    private Long maxAllocatedBytes;
 }
@@ -5,45 +5,258 @@ import chat.octet.accordion.action.AbstractAction;
 import chat.octet.accordion.action.model.ActionConfig;
 import chat.octet.accordion.action.model.ExecuteResult;
 import chat.octet.accordion.action.model.OutputParameter;
+import chat.octet.accordion.core.entity.LineStream;
+import chat.octet.accordion.core.enums.DataType;
+import chat.octet.accordion.core.jfr.ProcessLaunchEvent;
 import chat.octet.accordion.exceptions.ActionException;
-import chat.octet.accordion.utils.CommonUtils;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.text.StringSubstitutor;
 
-import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Serial;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+/**
+ * ShellAction executes shell commands, supports bash, cmd and PowerShell.
+ * <p>
+ * Stdout and stderr are drained concurrently into bounded buffers, so chatty commands never block on a full pipe.
+ * The timeout is enforced from process start, when it fires the process and all its descendants are destroyed.
+ * Stdout is written to the first configured output parameter, the exit code and stderr are available as
+ * {@link #ACTION_SHELL_EXIT_CODE} and {@link #ACTION_SHELL_STDERR}, except in stream mode.
+ * </p>
+ * <p>
+ * When {@link ShellParameter#isPooled()} is enabled, bash commands are sent to a {@link ShellWorkerPool}
+ * of long-lived workers instead of starting a new process for every execution.
+ * </p>
+ * <p>
+ * With {@link ShellParameter.OutputMode#STREAM}, stdout is passed to the next actions as a {@link LineStream}
+ * read lazily from the running process, so large outputs flow through the plan at constant memory.
+ * The exit code and stderr are not known when the next actions start, so they are not added as outputs.
+ * Instead, the consumer reading the stream to its end fails with an {@link ActionException} carrying
+ * the exit code and stderr if the command exited with an error or was destroyed by the timeout.
+ * Streams left unconsumed are closed by {@link chat.octet.accordion.Accordion#reset()} and
+ * {@link chat.octet.accordion.Accordion#close()}, which destroys the process.
+ * </p>
+ *
+ * @author <a href="https://github.com/eoctet">William</a>
+ * @see ShellParameter
+ */
 @Slf4j
 public class ShellAction extends AbstractAction {
     @Serial
     private static final long serialVersionUID = 1L;
+    public static final String ACTION_SHELL_EXIT_CODE = "ACTION_SHELL_EXIT_CODE";
+    public static final String ACTION_SHELL_STDERR = "ACTION_SHELL_STDERR";
+    private static final Set<String> SHELL_OUTPUTS = Set.of(ACTION_SHELL_EXIT_CODE, ACTION_SHELL_STDERR);
+    private static final long DRAIN_GRACE_TIMEOUT = 1000L;
+    private static final ExecutorService IO_EXECUTOR = Executors.newCachedThreadPool(
+            new ThreadFactoryBuilder().setNameFormat("accordion-shell-io-%d").setDaemon(true).build());
+
     private final transient ShellParameter params;
+    private final transient ShellEnvironment environment;
+    private final transient List<OutputParameter> actionOutput;
 
     public ShellAction(final ActionConfig actionConfig) {
         super(actionConfig);
         this.params = actionConfig.getActionParams(ShellParameter.class, "Shell parameter cannot be null.");
         Preconditions.checkArgument(StringUtils.isNotBlank(params.getShell()), "Shell cannot be empty.");
+        Preconditions.checkArgument(params.getTimeout() > 0, "Shell timeout must be greater than 0.");
+        Preconditions.checkArgument(params.getMaxOutputSize() > 0, "Shell max output size must be greater than 0.");
+        Preconditions.checkArgument(!params.isPooled() || ShellParameter.ShellType.BASH == params.getType(),
+                "Pooled shell execution only supports bash.");
+        Preconditions.checkArgument(!params.isPooled() || ShellParameter.OutputMode.STREAM != params.getOutputMode(),
+                "Pooled shell execution does not support stream output.");
+        this.environment = ShellEnvironment.resolve(params);
+        log.debug("Resolved shell environment: {}", environment);
+        //exit code and stderr are always available to the next actions, the action config is left unchanged
+        List<OutputParameter> outputConfig = Lists.newArrayList(
+                Optional.ofNullable(actionConfig.getActionOutput()).orElse(List.of()));
+        if (outputConfig.stream().noneMatch(param -> ACTION_SHELL_EXIT_CODE.equals(param.getName()))) {
+            outputConfig.add(new OutputParameter(ACTION_SHELL_EXIT_CODE, DataType.INT, "Shell exit code"));
+        }
+        if (outputConfig.stream().noneMatch(param -> ACTION_SHELL_STDERR.equals(param.getName()))) {
+            outputConfig.add(new OutputParameter(ACTION_SHELL_STDERR, DataType.STRING, "Shell stderr"));
+        }
+        this.actionOutput = List.copyOf(outputConfig);
+    }
+
+    /**
+     * Returns the configured output parameters followed by the exit code and stderr outputs.
+     *
+     * @return output parameters
+     */
+    @Override
+    protected List<OutputParameter> getActionOutput() {
+        return actionOutput;
     }
 
-    private String getProcessOutput(final Process process) {
-        StringBuilder output = new StringBuilder();
-        try (InputStreamReader input = new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8);
-             BufferedReader reader = new BufferedReader(input)) {
-            String line;
-            while ((line = reader.readLine()) != null) {
-                output.append(line).append("\n");
+    private static Future<?> drain(final InputStream input, final ShellOutputBuffer buffer) {
+        return IO_EXECUTOR.submit(() -> {
+            try (InputStream stream = input) {
+                buffer.drain(stream);
+            } catch (IOException e) {
+                //the stream is closed when the process is destroyed
+                log.debug("Process output stream closed: {}", e.getMessage());
             }
+        });
+    }
+
+    private static void awaitDrained(final Process process, final Future<?>... drainers) throws InterruptedException {
+        for (Future<?> drainer : drainers) {
+            try {
+                drainer.get(DRAIN_GRACE_TIMEOUT, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                //a detached descendant still holds the pipe open, stop reading
+                log.warn("Process output was not fully drained within {} ms.", DRAIN_GRACE_TIMEOUT);
+                closeQuietly(process.getInputStream());
+                closeQuietly(process.getErrorStream());
+                drainer.cancel(true);
+            } catch (ExecutionException e) {
+                log.warn("Failed to drain process output: {}", e.getMessage());
+            }
+        }
+    }
+
+    private static void closeQuietly(final InputStream input) {
+        try {
+            input.close();
         } catch (IOException e) {
-            throw new RuntimeException(e);
+            log.debug("Failed to close process stream: {}", e.getMessage());
         }
-        return !output.isEmpty() ? output.deleteCharAt(output.length() - 1).toString() : "";
+    }
+
+    /**
+     * Destroys the process and all its descendants.
+     *
+     * @param process shell process.
+     */
+    static void destroyProcessTree(final Process process) {
+        process.descendants().forEach(ProcessHandle::destroyForcibly);
+        process.destroyForcibly();
+    }
+
+    private ShellWorker.ShellResult executeProcess(final String shell)
+            throws IOException, InterruptedException, ActionException {
+        ProcessBuilder builder = environment.command(shell);
+        ShellOutputBuffer stdout = new ShellOutputBuffer(params.getMaxOutputSize());
+        ShellOutputBuffer stderr = new ShellOutputBuffer(params.getMaxOutputSize());
+        Process process = ProcessLaunchEvent.start(getConfig().getId(), "PROCESS", builder);
+        process.getOutputStream().close();
+        Future<?> stdoutDrainer = drain(process.getInputStream(), stdout);
+        Future<?> stderrDrainer = drain(process.getErrorStream(), stderr);
+
+        boolean exited = false;
+        try {
+            exited = process.waitFor(params.getTimeout(), TimeUnit.MILLISECONDS);
+        } finally {
+            if (!exited) {
+                destroyProcessTree(process);
+            }
+        }
+        awaitDrained(process, stdoutDrainer, stderrDrainer);
+        if (!exited) {
+            throw new ActionException("Command timed out after " + params.getTimeout() + " ms, process destroyed.");
+        }
+        return new ShellWorker.ShellResult(stdout.getText(), stderr.getText(), process.exitValue(),
+                stdout.isTruncated() || stderr.isTruncated());
+    }
+
+    private ShellWorker.ShellResult executePooled(final String shell)
+            throws IOException, InterruptedException, ActionException {
+        ShellWorkerPool pool = ShellWorkerPool.of(environment);
+        try {
+            return pool.execute(shell, params.getTimeout(), params.getMaxOutputSize(), IO_EXECUTOR);
+        } catch (TimeoutException e) {
+            throw new ActionException("Command timed out after " + params.getTimeout()
+                    + " ms, shell worker destroyed.", e);
+        }
+    }
+
+    private LineStream executeStream(final String shell) throws IOException {
+        Process process = ProcessLaunchEvent.start(getConfig().getId(), "STREAM", environment.command(shell));
+        process.getOutputStream().close();
+        ShellOutputBuffer stderr = new ShellOutputBuffer(params.getMaxOutputSize());
+        Future<?> stderrDrainer = drain(process.getErrorStream(), stderr);
+        AtomicBoolean timedOut = new AtomicBoolean();
+        //the timeout covers the whole process lifetime, including the consumption by the next actions
+        CompletableFuture.delayedExecutor(params.getTimeout(), TimeUnit.MILLISECONDS, IO_EXECUTOR).execute(() -> {
+            if (process.isAlive()) {
+                log.warn("({}) -> Streaming command timed out after {} ms, process destroyed.",
+                        getConfig().getId(), params.getTimeout());
+                timedOut.set(true);
+                destroyProcessTree(process);
+            }
+        });
+        InputStreamReader reader = new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8);
+        AtomicBoolean destroyed = new AtomicBoolean();
+        return LineStream.of(getConfig().getId(), reader, () -> {
+            try {
+                if (!process.waitFor(DRAIN_GRACE_TIMEOUT, TimeUnit.MILLISECONDS)) {
+                    destroyed.set(true);
+                    destroyProcessTree(process);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                destroyed.set(true);
+                destroyProcessTree(process);
+            }
+        }, () -> checkStreamExit(process, stderrDrainer, stderr, timedOut.get(), destroyed.get()));
+    }
+
+    /**
+     * Fails the consumer of a drained stream if the process was killed or exited with an error,
+     * so that a truncated output is not mistaken for a complete one.
+     */
+    private void checkStreamExit(final Process process, final Future<?> stderrDrainer,
+                                 final ShellOutputBuffer stderr, final boolean timedOut, final boolean destroyed) {
+        if (timedOut) {
+            throw new ActionException("Streaming command timed out after " + params.getTimeout()
+                    + " ms, process destroyed and output truncated.");
+        }
+        if (destroyed) {
+            //the output ended, but the process did not exit within the grace period
+            log.debug("({}) -> Streaming command destroyed after its output ended.", getConfig().getId());
+            return;
+        }
+        try {
+            stderrDrainer.get(DRAIN_GRACE_TIMEOUT, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            log.debug("({}) -> Stderr of the streaming command was not drained: {}",
+                    getConfig().getId(), e.getMessage());
+        }
+        int exitCode = process.exitValue();
+        if (exitCode != 0) {
+            throw new ActionException("Streaming command failed, exit code: " + exitCode
+                    + ", stderr: " + stderr.getText());
+        }
+        log.debug("({}) -> Streaming command completed, exit code: 0, stderr: {}",
+                getConfig().getId(), stderr.getText());
+    }
+
+    private void addOutput(final ExecuteResult executeResult, final Object output) {
+        getActionOutput().stream()
+                .filter(param -> !SHELL_OUTPUTS.contains(param.getName()))
+                .findFirst()
+                .ifPresent(param -> executeResult.add(param.getName(), output));
     }
 
     /**
@@ -67,25 +280,18 @@ public class ShellAction extends AbstractAction {
         try {
             //format shell and inject dynamic variables
             String shell = StringSubstitutor.replace(params.getShell(), getInputParameter());
-
-            // Get secure absolute path for shell executable
-            String shellExecutable = ShellExecutorConfig.getShellPath(params.getType());
-            log.debug("Using shell executable: {}", shellExecutable);
-
-            ProcessBuilder builder;
-            if (ShellParameter.ShellType.CMD == params.getType()) {
-                builder = new ProcessBuilder(shellExecutable, "/c", shell);
-            } else if (ShellParameter.ShellType.POWERSHELL == params.getType()) {
-                builder = new ProcessBuilder(shellExecutable, "-Command", shell);
-            } else {
-                builder = new ProcessBuilder(shellExecutable, "-c", shell);
+            if (ShellParameter.OutputMode.STREAM == params.getOutputMode()) {
+                addOutput(executeResult, executeStream(shell));
+                return executeResult;
+            }
+            ShellWorker.ShellResult result = params.isPooled() ? executePooled(shell) : executeProcess(shell);
+            if (result.truncated()) {
+                log.warn("Command output exceeded {} bytes and was truncated.", params.getMaxOutputSize());
             }
-            Process process = builder.start();
-            String output = getProcessOutput(process);
+            String output = result.stdout();
             log.debug("Command execute output:\n{}", output);
 
-            process.waitFor(params.getTimeout(), TimeUnit.MILLISECONDS);
-            int exitCode = process.exitValue();
+            int exitCode = result.exitCode();
             if (exitCode != 0) {
                 log.warn("Command completed, exit code: {}.", exitCode);
             } else {
@@ -93,11 +299,11 @@ public class ShellAction extends AbstractAction {
             }
 
             //update action execute result
-            List<OutputParameter> outputParams = getActionOutput();
-            if (!CommonUtils.isEmpty(outputParams)) {
-                OutputParameter outputParameter = getActionOutput().stream().findFirst().get();
-                executeResult.add(outputParameter.getName(), output);
-            }
+            addOutput(executeResult, output);
+            executeResult.add(ACTION_SHELL_EXIT_CODE, exitCode);
+            executeResult.add(ACTION_SHELL_STDERR, result.stderr());
+        } catch (ActionException e) {
+            setExecuteThrowable(e);
         } catch (IOException | InterruptedException e) {
             if (e instanceof InterruptedException) {
                 Thread.currentThread().interrupt();
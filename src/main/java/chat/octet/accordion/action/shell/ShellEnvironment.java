@@ -0,0 +1,97 @@
+package chat.octet.accordion.action.shell;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Resolved shell environment of a shell action.
+ * <p>
+ * The shell executable and the environment variables are resolved once when the action is created,
+ * so starting a process does not read system properties or probe the filesystem again.
+ * A resolution failure is kept and reported when the action is executed.
+ * </p>
+ *
+ * @author <a href="https://github.com/eoctet">William</a>
+ * @since 1.0.1
+ */
+@Getter
+@ToString
+@EqualsAndHashCode(exclude = "failure")
+final class ShellEnvironment {
+
+    private final ShellParameter.ShellType type;
+    private final String executable;
+    private final Map<String, String> variables;
+    private final boolean inheritEnvironment;
+    @Getter(lombok.AccessLevel.NONE)
+    private final IllegalStateException failure;
+
+    private ShellEnvironment(final ShellParameter.ShellType type, final String executable, final Map<String, String> variables,
+                             final boolean inheritEnvironment, final IllegalStateException failure) {
+        this.type = type;
+        this.executable = executable;
+        this.variables = variables;
+        this.inheritEnvironment = inheritEnvironment;
+        this.failure = failure;
+    }
+
+    /**
+     * Resolves the shell environment of the shell parameter.
+     *
+     * @param params shell parameter.
+     * @return shell environment
+     */
+    static ShellEnvironment resolve(final ShellParameter params) {
+        Map<String, String> variables = Map.copyOf(Optional.ofNullable(params.getEnvironment()).orElse(Map.of()));
+        try {
+            String executable = ShellExecutorConfig.getShellPath(params.getType());
+            return new ShellEnvironment(params.getType(), executable, variables, params.isInheritEnvironment(), null);
+        } catch (IllegalStateException e) {
+            return new ShellEnvironment(params.getType(), null, variables, params.isInheritEnvironment(), e);
+        }
+    }
+
+    /**
+     * Creates a process builder running the shell executable with the arguments.
+     *
+     * @param arguments shell arguments.
+     * @return process builder
+     * @throws IllegalStateException if the shell executable was not found
+     */
+    ProcessBuilder processBuilder(final String... arguments) {
+        if (failure != null) {
+            throw failure;
+        }
+        ProcessBuilder builder = new ProcessBuilder();
+        builder.command().add(executable);
+        builder.command().addAll(List.of(arguments));
+        if (!inheritEnvironment || !variables.isEmpty()) {
+            Map<String, String> environment = builder.environment();
+            if (!inheritEnvironment) {
+                environment.clear();
+            }
+            environment.putAll(variables);
+        }
+        return builder;
+    }
+
+    /**
+     * Creates a process builder executing the shell command.
+     *
+     * @param shell shell command.
+     * @return process builder
+     * @throws IllegalStateException if the shell executable was not found
+     */
+    ProcessBuilder command(final String shell) {
+        return switch (type) {
+            case CMD -> processBuilder("/c", shell);
+            case POWERSHELL -> processBuilder("-Command", shell);
+            case BASH -> processBuilder("-c", shell);
+        };
+    }
+}
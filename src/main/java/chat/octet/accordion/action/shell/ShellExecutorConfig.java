@@ -6,6 +6,8 @@ import org.apache.commons.lang3.SystemUtils;
 import java.io.File;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Shell executor configuration with secure absolute paths.
@@ -21,6 +23,10 @@ import java.util.List;
  *   <li>{@code accordion.shell.cmd.path} - Custom cmd executable path</li>
  *   <li>{@code accordion.shell.powershell.path} - Custom PowerShell executable path</li>
  * </ul>
+ * <p>
+ * Resolved paths are cached per shell type, call {@link #invalidate()} after changing the system properties
+ * or installing a shell.
+ * </p>
  *
  * @author <a href="https://github.com/eoctet">William</a>
  */
@@ -50,6 +56,8 @@ public final class ShellExecutorConfig {
             "C:\\Program Files\\PowerShell\\7\\pwsh.exe"
     );
 
+    private static final Map<ShellParameter.ShellType, String> RESOLVED_PATHS = new ConcurrentHashMap<>();
+
     private ShellExecutorConfig() {
         // Utility class, prevent instantiation
     }
@@ -139,17 +147,25 @@ public final class ShellExecutorConfig {
 
     /**
      * Gets the absolute path for shell executable based on type.
+     * The path is resolved once and cached, a failed resolution is not cached.
      *
      * @param type shell type
      * @return absolute path to shell executable
      * @throws IllegalStateException if shell executable is not found
      */
     public static String getShellPath(final ShellParameter.ShellType type) {
-        return switch (type) {
+        return RESOLVED_PATHS.computeIfAbsent(type, key -> switch (key) {
             case BASH -> getBashPath();
             case CMD -> getCmdPath();
             case POWERSHELL -> getPowerShellPath();
-        };
+        });
+    }
+
+    /**
+     * Clears the cached shell executable paths, they are resolved again on next use.
+     */
+    public static void invalidate() {
+        RESOLVED_PATHS.clear();
     }
 
     /**
@@ -0,0 +1,92 @@
+package chat.octet.accordion.action.shell;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Bounded buffer for process output.
+ * <p>
+ * The stream is always drained to the end, so the process never blocks on a full pipe,
+ * but only the first {@code maxSize} bytes are kept.
+ * </p>
+ *
+ * @author <a href="https://github.com/eoctet">William</a>
+ * @since 1.0.1
+ */
+final class ShellOutputBuffer {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    private final long maxSize;
+    private volatile long totalBytes;
+
+    ShellOutputBuffer(final long maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Drains the stream until end of stream or until the stream is closed.
+     *
+     * @param input process output stream.
+     * @throws IOException if the stream cannot be read
+     */
+    void drain(final InputStream input) throws IOException {
+        byte[] chunk = new byte[BUFFER_SIZE];
+        int read;
+        while ((read = input.read(chunk)) != -1) {
+            synchronized (buffer) {
+                long remaining = maxSize - buffer.size();
+                if (remaining > 0) {
+                    buffer.write(chunk, 0, (int) Math.min(read, remaining));
+                }
+            }
+            totalBytes += read;
+        }
+    }
+
+    /**
+     * Appends one line of output, used by pooled shell workers that read framed output line by line.
+     *
+     * @param line output line, without line separator.
+     */
+    void appendLine(final String line) {
+        byte[] bytes = (line + "\n").getBytes(StandardCharsets.UTF_8);
+        synchronized (buffer) {
+            long remaining = maxSize - buffer.size();
+            if (remaining > 0) {
+                buffer.write(bytes, 0, (int) Math.min(bytes.length, remaining));
+            }
+        }
+        totalBytes += bytes.length;
+    }
+
+    /**
+     * Checks whether output was discarded because it exceeded the size cap.
+     *
+     * @return true if the output was truncated
+     */
+    boolean isTruncated() {
+        return totalBytes > maxSize;
+    }
+
+    long getTotalBytes() {
+        return totalBytes;
+    }
+
+    /**
+     * Returns the buffered output as text, line separators are normalized and the last line break is removed.
+     *
+     * @return buffered output
+     */
+    String getText() {
+        String text;
+        synchronized (buffer) {
+            text = buffer.toString(StandardCharsets.UTF_8);
+        }
+        text = text.replace("\r\n", "\n");
+        return text.endsWith("\n") ? text.substring(0, text.length() - 1) : text;
+    }
+}
@@ -8,6 +8,8 @@ import lombok.Getter;
 import lombok.ToString;
 import lombok.extern.jackson.Jacksonized;
 
+import java.util.Map;
+
 /**
  * ShellAction parameter.
  *
@@ -38,10 +40,52 @@ public class ShellParameter {
     @Builder.Default
     private long timeout = 60 * 1000;
 
+    /**
+     * Maximum bytes kept for stdout and for stderr, the rest is drained and discarded, default: 1MB.
+     */
+    @Builder.Default
+    private long maxOutputSize = 1024 * 1024;
+
+    /**
+     * Environment variables added to the shell process.
+     */
+    private Map<String, String> environment;
+
+    /**
+     * Inherits the environment variables of the current process, default: true.
+     */
+    @Builder.Default
+    private boolean inheritEnvironment = true;
+
+    /**
+     * Executes the command on a pooled long-lived bash worker instead of starting a new process, bash only,
+     * default: false. Commands run in a subshell of the worker, background processes must not write to
+     * stdout or stderr after the command completed.
+     */
+    private boolean pooled;
+
+    /**
+     * Output mode of stdout, default: BUFFERED.
+     */
+    @Builder.Default
+    private OutputMode outputMode = OutputMode.BUFFERED;
+
     public enum ShellType {
         BASH,
         CMD,
         POWERSHELL
     }
 
+    public enum OutputMode {
+        /**
+         * Stdout is buffered up to the max output size and passed as a string.
+         */
+        BUFFERED,
+        /**
+         * Stdout is passed as a {@link chat.octet.accordion.core.entity.LineStream} read lazily by the next actions,
+         * exit code and stderr are not available as outputs, the timeout covers the consumption of the stream.
+         */
+        STREAM
+    }
+
 }
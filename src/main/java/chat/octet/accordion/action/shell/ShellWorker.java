@@ -0,0 +1,137 @@
+package chat.octet.accordion.action.shell;
+
+import chat.octet.accordion.core.jfr.ProcessLaunchEvent;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Long-lived bash process that executes commands sent over stdin.
+ * <p>
+ * Each command runs in a subshell with stdin redirected from /dev/null, so changes to the working directory,
+ * variables or an explicit exit never leak into the next command. Output is framed with a random token:
+ * after the command, the worker prints the token and the exit code on stdout and the token on stderr.
+ * </p>
+ *
+ * @author <a href="https://github.com/eoctet">William</a>
+ * @since 1.0.1
+ */
+@Slf4j
+final class ShellWorker {
+
+    private final Process process;
+    private final BufferedWriter stdin;
+    private final BufferedReader stdout;
+    private final BufferedReader stderr;
+    private int executedCommands;
+
+    ShellWorker(final ShellEnvironment environment) throws IOException {
+        this.process = ProcessLaunchEvent.start(null, "WORKER", environment.processBuilder("--noprofile", "--norc", "-s"));
+        this.stdin = new BufferedWriter(new OutputStreamWriter(process.getOutputStream(), StandardCharsets.UTF_8));
+        this.stdout = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8));
+        this.stderr = new BufferedReader(new InputStreamReader(process.getErrorStream(), StandardCharsets.UTF_8));
+        log.debug("Started shell worker, pid: {}.", process.pid());
+    }
+
+    /**
+     * Executes a command and waits for its framed output.
+     *
+     * @param command       shell command.
+     * @param timeout       execution timeout in milliseconds.
+     * @param maxOutputSize maximum bytes kept for stdout and for stderr.
+     * @param executor      executor draining the worker output.
+     * @return command result
+     * @throws IOException          if the worker cannot be written or read
+     * @throws TimeoutException     if the command did not complete in time, the worker must be destroyed
+     * @throws InterruptedException if the current thread was interrupted
+     */
+    ShellResult execute(final String command, final long timeout, final long maxOutputSize,
+                        final ExecutorService executor) throws IOException, TimeoutException, InterruptedException {
+        executedCommands++;
+        String token = "__ACCORDION_" + UUID.randomUUID().toString().replace("-", "");
+        ShellOutputBuffer out = new ShellOutputBuffer(maxOutputSize);
+        ShellOutputBuffer err = new ShellOutputBuffer(maxOutputSize);
+        Future<String> stdoutReader = executor.submit(() -> readFrame(stdout, token + " ", out));
+        Future<String> stderrReader = executor.submit(() -> readFrame(stderr, token, err));
+
+        stdin.write("IFS= read -r -d '' " + token + "_CMD <<'" + token + "_EOF'\n");
+        stdin.write(command);
+        stdin.write("\n" + token + "_EOF\n");
+        stdin.write("( eval \"$" + token + "_CMD\" ) </dev/null\n");
+        stdin.write("printf '\\n%s %d\\n' '" + token + "' $?\n");
+        stdin.write("printf '\\n%s\\n' '" + token + "' >&2\n");
+        stdin.write("unset " + token + "_CMD\n");
+        stdin.flush();
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+        try {
+            String marker = stdoutReader.get(timeout, TimeUnit.MILLISECONDS);
+            stderrReader.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            int exitCode = Integer.parseInt(marker.substring(token.length() + 1).trim());
+            return new ShellResult(out.getText(), err.getText(), exitCode, out.isTruncated() || err.isTruncated());
+        } catch (ExecutionException e) {
+            throw new IOException("Shell worker output cannot be read: " + e.getCause().getMessage(), e.getCause());
+        } catch (TimeoutException | InterruptedException e) {
+            stdoutReader.cancel(true);
+            stderrReader.cancel(true);
+            throw e;
+        }
+    }
+
+    /**
+     * Reads lines until the frame marker, the blank line written before the marker is not part of the output.
+     */
+    private static String readFrame(final BufferedReader reader, final String marker,
+                                    final ShellOutputBuffer buffer) throws IOException {
+        String pending = null;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.startsWith(marker)) {
+                if (pending != null && !pending.isEmpty()) {
+                    buffer.appendLine(pending);
+                }
+                return line;
+            }
+            if (pending != null) {
+                buffer.appendLine(pending);
+            }
+            pending = line;
+        }
+        throw new IOException("Shell worker exited unexpectedly.");
+    }
+
+    int getExecutedCommands() {
+        return executedCommands;
+    }
+
+    boolean isAlive() {
+        return process.isAlive();
+    }
+
+    void destroy() {
+        log.debug("Destroy shell worker, pid: {}, executed commands: {}.", process.pid(), executedCommands);
+        ShellAction.destroyProcessTree(process);
+    }
+
+    /**
+     * Shell command result.
+     *
+     * @param stdout    standard output.
+     * @param stderr    standard error.
+     * @param exitCode  exit code.
+     * @param truncated output exceeded the size cap.
+     */
+    record ShellResult(String stdout, String stderr, int exitCode, boolean truncated) {
+    }
+}
@@ -0,0 +1,117 @@
+package chat.octet.accordion.action.shell;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Pool of long-lived bash workers, avoids a fork and exec of the shell for every execution.
+ * <p>
+ * Pools are shared per shell environment. A worker is recycled after it has executed
+ * {@code accordion.shell.pool.max.commands} commands, or after any timeout or I/O error.
+ * Supported system properties:
+ * <ul>
+ *   <li>{@code accordion.shell.pool.size} - Maximum workers per shell environment, default: 4</li>
+ *   <li>{@code accordion.shell.pool.max.commands} - Commands executed before a worker is recycled, default: 100</li>
+ * </ul>
+ * </p>
+ *
+ * @author <a href="https://github.com/eoctet">William</a>
+ * @since 1.0.1
+ */
+@Slf4j
+final class ShellWorkerPool {
+
+    private static final String POOL_SIZE_PROPERTY = "accordion.shell.pool.size";
+    private static final String POOL_MAX_COMMANDS_PROPERTY = "accordion.shell.pool.max.commands";
+    private static final Map<ShellEnvironment, ShellWorkerPool> POOLS = new ConcurrentHashMap<>();
+
+    private final ShellEnvironment environment;
+    private final int maxCommands;
+    private final Semaphore permits;
+    private final ConcurrentLinkedQueue<ShellWorker> idleWorkers = new ConcurrentLinkedQueue<>();
+
+    ShellWorkerPool(final ShellEnvironment environment, final int size, final int maxCommands) {
+        this.environment = environment;
+        this.maxCommands = maxCommands;
+        this.permits = new Semaphore(size, true);
+    }
+
+    /**
+     * Returns the shared pool of the shell environment.
+     *
+     * @param environment resolved shell environment.
+     * @return worker pool
+     */
+    static ShellWorkerPool of(final ShellEnvironment environment) {
+        return POOLS.computeIfAbsent(environment, key -> new ShellWorkerPool(key,
+                Math.max(1, Integer.getInteger(POOL_SIZE_PROPERTY, 4)),
+                Math.max(1, Integer.getInteger(POOL_MAX_COMMANDS_PROPERTY, 100))));
+    }
+
+    /**
+     * Executes a command on an idle worker, waits for a worker if all of them are busy.
+     *
+     * @param command       shell command.
+     * @param timeout       execution timeout in milliseconds, including the wait for a worker.
+     * @param maxOutputSize maximum bytes kept for stdout and for stderr.
+     * @param executor      executor draining the worker output.
+     * @return command result
+     * @throws IOException          if the worker cannot be started, written or read
+     * @throws TimeoutException     if no worker was available or the command did not complete in time
+     * @throws InterruptedException if the current thread was interrupted
+     */
+    ShellWorker.ShellResult execute(final String command, final long timeout, final long maxOutputSize,
+                                    final ExecutorService executor)
+            throws IOException, TimeoutException, InterruptedException {
+        long start = System.nanoTime();
+        if (!permits.tryAcquire(timeout, TimeUnit.MILLISECONDS)) {
+            throw new TimeoutException("No shell worker available within " + timeout + " ms.");
+        }
+        ShellWorker worker = null;
+        boolean healthy = false;
+        try {
+            worker = borrow();
+            long remaining = timeout - TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            ShellWorker.ShellResult result = worker.execute(command, Math.max(1, remaining), maxOutputSize, executor);
+            healthy = true;
+            return result;
+        } finally {
+            release(worker, healthy);
+            permits.release();
+        }
+    }
+
+    private ShellWorker borrow() throws IOException {
+        ShellWorker worker;
+        while ((worker = idleWorkers.poll()) != null) {
+            if (worker.isAlive()) {
+                return worker;
+            }
+            worker.destroy();
+        }
+        return new ShellWorker(environment);
+    }
+
+    private void release(final ShellWorker worker, final boolean healthy) {
+        if (worker == null) {
+            return;
+        }
+        if (healthy && worker.isAlive() && worker.getExecutedCommands() < maxCommands) {
+            idleWorkers.offer(worker);
+        } else {
+            worker.destroy();
+        }
+    }
+
+    int idleSize() {
+        return idleWorkers.size();
+    }
+}
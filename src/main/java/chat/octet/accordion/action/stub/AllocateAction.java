@@ -0,0 +1,51 @@
+package chat.octet.accordion.action.stub;
+
+
+import chat.octet.accordion.action.model.ActionConfig;
+import chat.octet.accordion.action.model.ExecuteResult;
+import com.google.common.base.Preconditions;
+
+import java.io.Serial;
+
+/**
+ * AllocateAction allocates a configured amount of short-lived memory,
+ * used to model the garbage collection pressure of actions.
+ *
+ * @author <a href="https://github.com/eoctet">William</a>
+ * @see AllocateParameter
+ * @since 1.0.1
+ */
+public class AllocateAction extends StubAction {
+    @Serial
+    private static final long serialVersionUID = 1L;
+    /**
+     * Publishes every chunk, so that escape analysis cannot remove the allocations.
+     */
+    private static volatile byte[] sink;
+    private final long bytes;
+    private final int chunkBytes;
+
+    public AllocateAction(final ActionConfig actionConfig) {
+        super(actionConfig);
+        AllocateParameter params = actionConfig.getActionParams(AllocateParameter.class, "Allocate parameter cannot be null.");
+        Preconditions.checkArgument(params.getBytes() >= 0, "Allocated bytes cannot be negative.");
+        Preconditions.checkArgument(params.getChunkBytes() > 0, "Chunk size must be greater than zero.");
+        this.bytes = params.getBytes();
+        this.chunkBytes = params.getChunkBytes();
+    }
+
+    /**
+     * Executes the allocate action, the configured outputs are passed through.
+     *
+     * @return ExecuteResult containing the configured outputs
+     */
+    @Override
+    public ExecuteResult execute() {
+        for (long remaining = bytes; remaining > 0; remaining -= chunkBytes) {
+            byte[] chunk = new byte[(int) Math.min(remaining, chunkBytes)];
+            chunk[chunk.length - 1] = 1;
+            sink = chunk;
+        }
+        return passThrough();
+    }
+}
@@ -0,0 +1,34 @@
+package chat.octet.accordion.action.stub;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.extern.jackson.Jacksonized;
+
+/**
+ * Allocate action parameter.
+ *
+ * @author <a href="https://github.com/eoctet">William</a>
+ * @since 1.0.1
+ */
+@Getter
+@Builder
+@ToString
+@Jacksonized
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public class AllocateParameter {
+    /**
+     * Bytes allocated by one execution.
+     */
+    private long bytes;
+    /**
+     * Size of the allocated arrays, default value: 1024 bytes.
+     * Small chunks model object churn, large chunks model buffers.
+     */
+    @Builder.Default
+    private int chunkBytes = 1024;
+}
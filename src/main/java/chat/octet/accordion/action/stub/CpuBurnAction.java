@@ -0,0 +1,61 @@
+package chat.octet.accordion.action.stub;
+
+
+import chat.octet.accordion.action.model.ActionConfig;
+import chat.octet.accordion.action.model.ExecuteResult;
+import com.google.common.base.Preconditions;
+
+import java.io.Serial;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CpuBurnAction keeps the executing thread busy for a configured duration,
+ * used to model the cost of CPU bound actions such as scripts and parsers.
+ *
+ * @author <a href="https://github.com/eoctet">William</a>
+ * @see CpuBurnParameter
+ * @since 1.0.1
+ */
+public class CpuBurnAction extends StubAction {
+    @Serial
+    private static final long serialVersionUID = 1L;
+    private static final int CLOCK_CHECK_INTERVAL = 256;
+    /**
+     * Shift triple of the xorshift64 generator burning the CPU.
+     */
+    private static final int XORSHIFT_A = 13;
+    private static final int XORSHIFT_B = 7;
+    private static final int XORSHIFT_C = 17;
+    /**
+     * Keeps the computed value observable, so that the JIT cannot remove the loop.
+     */
+    private static volatile long sink;
+    private final long durationNanos;
+
+    public CpuBurnAction(final ActionConfig actionConfig) {
+        super(actionConfig);
+        CpuBurnParameter params = actionConfig.getActionParams(CpuBurnParameter.class, "CPU burn parameter cannot be null.");
+        Preconditions.checkArgument(params.getDurationMicros() >= 0, "CPU burn duration cannot be negative.");
+        this.durationNanos = TimeUnit.MICROSECONDS.toNanos(params.getDurationMicros());
+    }
+
+    /**
+     * Executes the CPU burn action, the configured outputs are passed through.
+     *
+     * @return ExecuteResult containing the configured outputs
+     */
+    @Override
+    public ExecuteResult execute() {
+        long deadline = System.nanoTime() + durationNanos;
+        long value = deadline;
+        while (System.nanoTime() - deadline < 0) {
+            for (int i = 0; i < CLOCK_CHECK_INTERVAL; i++) {
+                value ^= value << XORSHIFT_A;
+                value ^= value >>> XORSHIFT_B;
+                value ^= value << XORSHIFT_C;
+            }
+        }
+        sink = value;
+        return passThrough();
+    }
+}
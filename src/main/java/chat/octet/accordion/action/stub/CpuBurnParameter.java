@@ -0,0 +1,28 @@
+package chat.octet.accordion.action.stub;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.extern.jackson.Jacksonized;
+
+/**
+ * CPU burn action parameter.
+ *
+ * @author <a href="https://github.com/eoctet">William</a>
+ * @since 1.0.1
+ */
+@Getter
+@Builder
+@ToString
+@Jacksonized
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public class CpuBurnParameter {
+    /**
+     * Busy time (µs) spent computing on the executing thread.
+     */
+    private long durationMicros;
+}
@@ -0,0 +1,32 @@
+package chat.octet.accordion.action.stub;
+
+
+import chat.octet.accordion.action.model.ActionConfig;
+import chat.octet.accordion.action.model.ExecuteResult;
+
+import java.io.Serial;
+
+/**
+ * NoopAction does nothing, plans made of no-op actions measure the scheduler overhead alone.
+ *
+ * @author <a href="https://github.com/eoctet">William</a>
+ * @since 1.0.1
+ */
+public class NoopAction extends StubAction {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public NoopAction(final ActionConfig actionConfig) {
+        super(actionConfig);
+    }
+
+    /**
+     * Executes the no-op action, only the configured outputs are passed through.
+     *
+     * @return ExecuteResult containing the configured outputs
+     */
+    @Override
+    public ExecuteResult execute() {
+        return passThrough();
+    }
+}
@@ -0,0 +1,91 @@
+package chat.octet.accordion.action.stub;
+
+
+import chat.octet.accordion.action.model.ActionConfig;
+import chat.octet.accordion.action.model.ExecuteResult;
+import chat.octet.accordion.exceptions.ActionException;
+import com.google.common.base.Preconditions;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Serial;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SleepAction waits for a fixed or distributed duration, used to model the latency of I/O bound actions.
+ *
+ * <p>Blocking sleeps park the thread, like an action waiting on a socket. Non-blocking sleeps yield
+ * the thread until the deadline, like an action polling a non-blocking operation, and are accurate
+ * below the timer resolution of blocking sleeps. Nodes are executed synchronously,
+ * so both variants hold the executing thread for the sampled duration.</p>
+ *
+ * @author <a href="https://github.com/eoctet">William</a>
+ * @see SleepParameter
+ * @since 1.0.1
+ */
+@Slf4j
+public class SleepAction extends StubAction {
+    @Serial
+    private static final long serialVersionUID = 1L;
+    private final transient SleepParameter params;
+
+    public SleepAction(final ActionConfig actionConfig) {
+        super(actionConfig);
+        this.params = actionConfig.getActionParams(SleepParameter.class, "Sleep parameter cannot be null.");
+        Preconditions.checkArgument(params.getDurationMicros() >= 0 && params.getMinMicros() >= 0
+                && params.getStddevMicros() >= 0, "Sleep durations cannot be negative.");
+        Preconditions.checkArgument(params.getMaxMicros() == 0 || params.getMaxMicros() >= params.getMinMicros(),
+                "Maximum sleep duration cannot be less than the minimum.");
+    }
+
+    /**
+     * Samples a sleep duration from the configured distribution.
+     *
+     * @return sleep duration in nanoseconds
+     */
+    long sample() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        double micros = switch (params.getDistribution()) {
+            case FIXED -> params.getDurationMicros();
+            case UNIFORM -> params.getMaxMicros() > params.getMinMicros()
+                    ? random.nextDouble(params.getMinMicros(), params.getMaxMicros()) : params.getMinMicros();
+            case NORMAL -> params.getDurationMicros() + random.nextGaussian() * params.getStddevMicros();
+            case EXPONENTIAL -> -params.getDurationMicros() * Math.log(1D - random.nextDouble());
+        };
+        micros = Math.max(micros, params.getMinMicros());
+        if (params.getMaxMicros() > 0) {
+            micros = Math.min(micros, params.getMaxMicros());
+        }
+        return (long) (micros * 1000D);
+    }
+
+    /**
+     * Executes the sleep action, the configured outputs are passed through.
+     *
+     * @return ExecuteResult containing the configured outputs
+     * @throws ActionException if the sleep is interrupted
+     */
+    @Override
+    public ExecuteResult execute() throws ActionException {
+        long nanos = sample();
+        log.debug("({}) -> Sleeping {} µs, blocking: {}", getConfig().getId(), nanos / 1000, params.isBlocking());
+        if (nanos > 0) {
+            if (params.isBlocking()) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(nanos);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    ActionException actionException = new ActionException("Sleep action interrupted", e);
+                    setExecuteThrowable(actionException);
+                    throw actionException;
+                }
+            } else {
+                long deadline = System.nanoTime() + nanos;
+                while (System.nanoTime() - deadline < 0) {
+                    Thread.yield();
+                }
+            }
+        }
+        return passThrough();
+    }
+}
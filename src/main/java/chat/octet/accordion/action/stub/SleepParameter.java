@@ -0,0 +1,59 @@
+package chat.octet.accordion.action.stub;
+
+import chat.octet.accordion.core.enums.LatencyDistribution;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.extern.jackson.Jacksonized;
+
+/**
+ * Sleep action parameter.
+ *
+ * @author <a href="https://github.com/eoctet">William</a>
+ * @since 1.0.1
+ */
+@Getter
+@Builder
+@ToString
+@Jacksonized
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public class SleepParameter {
+    /**
+     * Sleep duration (µs), the mean of the NORMAL and EXPONENTIAL distributions.
+     */
+    @Builder.Default
+    private long durationMicros = 0L;
+    /**
+     * Minimum sleep duration (µs) of the UNIFORM distribution, also the lower bound of the other distributions.
+     */
+    @Builder.Default
+    private long minMicros = 0L;
+    /**
+     * Maximum sleep duration (µs) of the UNIFORM distribution, also the upper bound of the other distributions
+     * when greater than zero.
+     */
+    @Builder.Default
+    private long maxMicros = 0L;
+    /**
+     * Standard deviation (µs) of the NORMAL distribution.
+     */
+    @Builder.Default
+    private long stddevMicros = 0L;
+    /**
+     * Sleep duration distribution, default value: FIXED.
+     *
+     * @see LatencyDistribution
+     */
+    @Builder.Default
+    private LatencyDistribution distribution = LatencyDistribution.FIXED;
+    /**
+     * Whether to park the thread while sleeping, default value: true.
+     * Otherwise the thread yields until the deadline and stays runnable.
+     */
+    @Builder.Default
+    private boolean blocking = true;
+}
@@ -0,0 +1,42 @@
+package chat.octet.accordion.action.stub;
+
+
+import chat.octet.accordion.action.AbstractAction;
+import chat.octet.accordion.action.model.ActionConfig;
+import chat.octet.accordion.action.model.ExecuteResult;
+import chat.octet.accordion.action.model.OutputParameter;
+import chat.octet.accordion.utils.CommonUtils;
+
+import java.io.Serial;
+import java.util.List;
+
+/**
+ * Base class of the stub actions, used to model the cost of production actions
+ * without external resources. Configured outputs are passed through from the inputs,
+ * so that stubs can replace real actions in a plan.
+ *
+ * @author <a href="https://github.com/eoctet">William</a>
+ * @since 1.0.1
+ */
+abstract class StubAction extends AbstractAction {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    StubAction(final ActionConfig actionConfig) {
+        super(actionConfig);
+    }
+
+    /**
+     * Returns the configured outputs found in the input parameters.
+     *
+     * @return execute result
+     */
+    protected ExecuteResult passThrough() {
+        ExecuteResult executeResult = new ExecuteResult();
+        List<OutputParameter> outputParameter = getActionOutput();
+        if (!CommonUtils.isEmpty(outputParameter)) {
+            executeResult.findAndAddParameters(outputParameter, getInputParameter().toMap());
+        }
+        return executeResult;
+    }
+}
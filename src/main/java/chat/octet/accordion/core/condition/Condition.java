@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.text.StringSubstitutor;
@@ -18,6 +19,7 @@ import java.io.Serial;
 import java.io.Serializable;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Predicate;
 
 /**
  * There are two ways to use conditional expressions.
@@ -39,6 +41,10 @@ public class Condition implements Serializable {
 
     @JsonProperty("expressions")
     private final List<ExpressionGroup> expressionGroups;
+    @Getter(AccessLevel.NONE)
+    private transient volatile Predicate<Map<String, Object>> compiled;
+    @Getter(AccessLevel.NONE)
+    private transient volatile Predicate<Map<String, Object>> compiledTrace;
 
     public Condition() {
         this.expressionGroups = Lists.newArrayList();
@@ -61,6 +67,7 @@ public class Condition implements Serializable {
         Expression expression = new Expression(param, operator, value, negation);
         ExpressionGroup group = new ExpressionGroup(type, expression, null);
         expressionGroups.add(group);
+        invalidate();
         return this;
     }
 
@@ -71,9 +78,35 @@ public class Condition implements Serializable {
             ExpressionGroup group = new ExpressionGroup(type, c.getExpressionGroups(), negation);
             expressionGroups.add(group);
         }
+        invalidate();
         return this;
     }
 
+    private void invalidate() {
+        compiled = null;
+        compiledTrace = null;
+    }
+
+    /**
+     * Returns the compiled predicate of this condition, it is compiled once and recompiled only after
+     * the condition is changed with {@code and} or {@code or}.
+     *
+     * @param debug evaluate Aviator sub-expressions with trace enabled.
+     * @return condition predicate
+     */
+    Predicate<Map<String, Object>> predicate(final boolean debug) {
+        Predicate<Map<String, Object>> predicate = debug ? compiledTrace : compiled;
+        if (predicate == null) {
+            predicate = ConditionCompiler.compile(expressionGroups, debug);
+            if (debug) {
+                compiledTrace = predicate;
+            } else {
+                compiled = predicate;
+            }
+        }
+        return predicate;
+    }
+
     /**
      * Adds an AND condition with specified negation.
      *
@@ -179,11 +212,16 @@ public class Condition implements Serializable {
         public ExpressionGroup(@JsonProperty("type") final ConditionType type, @JsonProperty("expression") final Object expression, @JsonProperty("negation") final Boolean negation) {
             this.type = type;
             this.negation = negation;
-            //Special handling of type issues in JSON parsing
+            //Special handling of type issues in JSON parsing, raw maps and lists are bound directly
             if (expression instanceof Map) {
-                this.expression = JsonUtils.parseToObject(JsonUtils.toJson(expression), Expression.class);
-            } else if (expression instanceof List) {
-                this.expression = JsonUtils.parseJsonToList(JsonUtils.toJson(expression), ExpressionGroup.class);
+                this.expression = JsonUtils.convertValue(expression, Expression.class);
+            } else if (expression instanceof List<?> groups) {
+                if (groups.stream().allMatch(ExpressionGroup.class::isInstance)) {
+                    this.expression = Lists.newArrayList(groups);
+                } else {
+                    List<ExpressionGroup> bound = JsonUtils.convertToList(groups, ExpressionGroup.class);
+                    this.expression = bound != null ? Lists.newArrayList(bound) : null;
+                }
             } else {
                 this.expression = expression;
             }
@@ -216,6 +254,7 @@ public class Condition implements Serializable {
         @Serial
         private static final long serialVersionUID = 1L;
         private static final String EXPRESSION_TEMP = "{negation}({param} {operator} {value})";
+        private static final String INCLUDE_TEMP = "{negation}({operator}include({param}, {value}))";
 
         private final Object parameter;
         private final ConditionOperator operator;
@@ -239,8 +278,13 @@ public class Condition implements Serializable {
             Map<String, Object> maps = Maps.newHashMap();
             maps.put("negation", negation ? "" : "!");
             maps.put("param", parameter);
-            maps.put("operator", operator.getOperator());
             maps.put("value", value);
+            //Aviator has no contains operator, collection membership is evaluated with include(seq, element)
+            if (operator == ConditionOperator.IN || operator == ConditionOperator.NOT_IN) {
+                maps.put("operator", operator == ConditionOperator.IN ? "" : "!");
+                return StringSubstitutor.replace(INCLUDE_TEMP, maps, "{", "}");
+            }
+            maps.put("operator", operator.getOperator());
             return StringSubstitutor.replace(EXPRESSION_TEMP, maps, "{", "}");
         }
 
@@ -1,8 +1,14 @@
 package chat.octet.accordion.core.condition;
 
+import chat.octet.accordion.core.jfr.ScriptCompileEvent;
 import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import com.googlecode.aviator.AviatorEvaluator;
 import com.googlecode.aviator.AviatorEvaluatorInstance;
+import com.googlecode.aviator.Expression;
 import com.googlecode.aviator.Feature;
 import com.googlecode.aviator.Options;
 import com.googlecode.aviator.lexer.token.OperatorType;
@@ -12,21 +18,46 @@ import org.apache.commons.lang3.StringUtils;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Predicate;
 
+/**
+ * Condition expression compiler and evaluator.
+ *
+ * <p>Expressions are compiled once and kept in a bounded LRU cache keyed by the expression text,
+ * the cache size can be changed with the system property {@code accordion.condition.cache.size}
+ * (default: 1024). Hit and miss counters are available through {@link #cacheStats()}.</p>
+ *
+ * <p>Debug (trace) evaluation uses a dedicated evaluator, so enabling it for one action never
+ * changes the shared evaluator used by every other action.</p>
+ *
+ * @author <a href="https://github.com/eoctet">William</a>
+ */
 @Slf4j
 public final class ConditionBuilder {
+    private static final String CACHE_SIZE_PROPERTY = "accordion.condition.cache.size";
+    private static final int DEFAULT_CACHE_SIZE = 1024;
     private static volatile ConditionBuilder builder;
-    private static final AviatorEvaluatorInstance EVALUATOR;
+    private static final AviatorEvaluatorInstance EVALUATOR = createEvaluator(false);
+    private static final AviatorEvaluatorInstance TRACE_EVALUATOR = createEvaluator(true);
 
-    static {
-        EVALUATOR = AviatorEvaluator.newInstance();
-        EVALUATOR.setOption(Options.FEATURE_SET, Feature.asSet(Feature.Assignment, Feature.Lambda));
-        EVALUATOR.setOption(Options.SERIALIZABLE, true);
-        EVALUATOR.aliasOperator(OperatorType.AND, "and");
-        EVALUATOR.aliasOperator(OperatorType.OR, "or");
-    }
+    private final Cache<CacheKey, Expression> expressionCache;
 
     private ConditionBuilder() {
+        this.expressionCache = CacheBuilder.newBuilder()
+                .maximumSize(Math.max(1, Integer.getInteger(CACHE_SIZE_PROPERTY, DEFAULT_CACHE_SIZE)))
+                .recordStats()
+                .build();
+    }
+
+    private static AviatorEvaluatorInstance createEvaluator(final boolean trace) {
+        AviatorEvaluatorInstance evaluator = AviatorEvaluator.newInstance();
+        evaluator.setOption(Options.FEATURE_SET, Feature.asSet(Feature.Assignment, Feature.Lambda));
+        evaluator.setOption(Options.SERIALIZABLE, true);
+        evaluator.setOption(Options.TRACE_EVAL, trace);
+        evaluator.aliasOperator(OperatorType.AND, "and");
+        evaluator.aliasOperator(OperatorType.OR, "or");
+        return evaluator;
     }
 
     public static ConditionBuilder getInstance() {
@@ -40,17 +71,76 @@ public final class ConditionBuilder {
         return builder;
     }
 
+    /**
+     * Compiles a condition expression, compiled expressions are cached and shared.
+     *
+     * @param expression condition expression, for example: Arg == 100.
+     * @param debug      compile against the trace evaluator.
+     * @return compiled expression
+     */
+    public Expression compile(final String expression, final boolean debug) {
+        Preconditions.checkArgument(StringUtils.isNotBlank(expression), "Expression cannot be empty.");
+        AviatorEvaluatorInstance evaluator = debug ? TRACE_EVALUATOR : EVALUATOR;
+        try {
+            return expressionCache.get(new CacheKey(expression, debug), () -> ScriptCompileEvent.record("condition",
+                    expression, () -> evaluator.compile(expression, false)));
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            Throwable cause = Optional.ofNullable(e.getCause()).orElse(e);
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(cause.getMessage(), cause);
+        }
+    }
+
+    /**
+     * Compiles a condition expression into a predicate.
+     *
+     * @param expression condition expression, for example: Arg == 100.
+     * @param debug      compile against the trace evaluator.
+     * @return condition predicate
+     */
+    public Predicate<Map<String, Object>> predicate(final String expression, final boolean debug) {
+        Expression compiled = compile(expression, debug);
+        return params -> test(params, compiled);
+    }
+
+    /**
+     * Compiles a condition tree into a native predicate, no expression string is built or parsed.
+     * Only parameters and values that are not plain variables or literals are evaluated with Aviator.
+     * The predicate is kept by the condition and reused until the condition is changed.
+     *
+     * @param condition condition tree.
+     * @param debug     evaluate Aviator sub-expressions with trace enabled.
+     * @return condition predicate
+     */
+    public Predicate<Map<String, Object>> compile(final Condition condition, final boolean debug) {
+        Preconditions.checkNotNull(condition, "Condition cannot be null.");
+        return condition.predicate(debug);
+    }
+
+    /**
+     * Evaluates a compiled condition expression.
+     *
+     * @param params     condition parameters.
+     * @param expression compiled expression, see {@link #compile(String, boolean)}.
+     * @return condition result, {@code false} if the expression returns nil.
+     */
+    public boolean test(final Map<String, Object> params, final Expression expression) {
+        Preconditions.checkNotNull(params, "Condition parameters cannot be null.");
+        Preconditions.checkNotNull(expression, "Expression cannot be null.");
+        Object result = expression.execute(params);
+        return result != null && (boolean) result;
+    }
+
     public boolean test(final Map<String, Object> params, final String expression, final boolean debug) {
         Preconditions.checkNotNull(params, "Condition parameters cannot be null.");
-        Preconditions.checkArgument(StringUtils.isNotBlank(expression), "Expression cannot be empty.");
-        EVALUATOR.setOption(Options.TRACE_EVAL, debug);
-        Object result = EVALUATOR.compile(expression, true).execute(params);
-        return (boolean) Optional.of(result).orElse(false);
+        return test(params, compile(expression, debug));
     }
 
     public boolean test(final Map<String, Object> params, final Condition condition, final boolean debug) {
-        String expression = build(condition);
-        return test(params, expression, debug);
+        Preconditions.checkNotNull(params, "Condition parameters cannot be null.");
+        return compile(condition, debug).test(params);
     }
 
     public boolean test(final Map<String, Object> params, final String expression) {
@@ -61,8 +151,33 @@ public final class ConditionBuilder {
         return test(params, condition, false);
     }
 
+    /**
+     * Returns the hit and miss statistics of the compiled expression cache.
+     *
+     * @return cache statistics
+     */
+    public CacheStats cacheStats() {
+        return expressionCache.stats();
+    }
+
+    /**
+     * Returns the number of compiled expressions currently cached.
+     *
+     * @return cached expression count
+     */
+    public long cacheSize() {
+        return expressionCache.size();
+    }
+
+    /**
+     * Discards all compiled expressions.
+     */
+    public void invalidateCache() {
+        expressionCache.invalidateAll();
+    }
+
     @SuppressWarnings("unchecked")
-    private String build(final List<Condition.ExpressionGroup> expressionGroups) {
+    String build(final List<Condition.ExpressionGroup> expressionGroups) {
         StringBuilder snippet = new StringBuilder();
         for (int i = 0; i < expressionGroups.size(); i++) {
             Condition.ExpressionGroup group = expressionGroups.get(i);
@@ -93,4 +208,7 @@ public final class ConditionBuilder {
         return build(condition.getExpressionGroups());
     }
 
+    private record CacheKey(String expression, boolean trace) {
+    }
+
 }
@@ -0,0 +1,275 @@
+package chat.octet.accordion.core.condition;
+
+
+import chat.octet.accordion.core.enums.ConditionOperator;
+import com.google.common.base.Preconditions;
+import com.googlecode.aviator.Expression;
+import org.apache.commons.lang3.StringUtils;
+
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * Compiles {@link Condition} trees into composed predicates without building and parsing an expression string.
+ *
+ * <p>Each {@link Condition.Expression} becomes a native comparison when its parameter is a plain variable name
+ * or an Aviator sub-expression (for example: num*div) and its value is a literal. Comparisons are specialized
+ * for integral, floating point, decimal, string and boolean operands and follow the Aviator semantics,
+ * for example nil is less than any other value. Operands of any other type are evaluated with Aviator,
+ * so the result is always the same as {@link ConditionBuilder#build(Condition)} evaluated by Aviator.</p>
+ *
+ * @author <a href="https://github.com/eoctet">William</a>
+ * @since 1.0.1
+ */
+final class ConditionCompiler {
+    private static final Pattern IDENTIFIER = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*");
+    private static final Pattern LONG_LITERAL = Pattern.compile("-?\\d{1,18}");
+    private static final Pattern DOUBLE_LITERAL = Pattern.compile("-?\\d+\\.\\d+");
+    private static final Object NIL = new Object();
+    private static final Set<String> KEYWORDS = Set.of("nil", "true", "false", "lambda", "end", "let", "fn",
+            "if", "else", "for", "in", "return", "while", "break", "continue", "new", "use", "try", "catch", "throw");
+
+    private ConditionCompiler() {
+    }
+
+    /**
+     * Compiles expression groups into a predicate, AND binds tighter than OR as in the expression string.
+     *
+     * @param groups expression groups.
+     * @param debug  evaluate fallback expressions with trace enabled.
+     * @return compiled predicate
+     */
+    static Predicate<Map<String, Object>> compile(final List<Condition.ExpressionGroup> groups, final boolean debug) {
+        Preconditions.checkArgument(groups != null && !groups.isEmpty(), "Condition expressions cannot be empty.");
+        Predicate<Map<String, Object>> disjunction = null;
+        Predicate<Map<String, Object>> conjunction = null;
+        for (Condition.ExpressionGroup group : groups) {
+            Predicate<Map<String, Object>> predicate = compileGroup(group, debug);
+            if (conjunction == null) {
+                conjunction = predicate;
+            } else if (group.getType() == Condition.ConditionType.OR) {
+                disjunction = disjunction == null ? conjunction : disjunction.or(conjunction);
+                conjunction = predicate;
+            } else {
+                conjunction = conjunction.and(predicate);
+            }
+        }
+        return disjunction == null ? conjunction : disjunction.or(conjunction);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Predicate<Map<String, Object>> compileGroup(final Condition.ExpressionGroup group,
+                                                               final boolean debug) {
+        Predicate<Map<String, Object>> predicate;
+        if (group.isExpressionGroup()) {
+            predicate = compile((List<Condition.ExpressionGroup>) group.getExpression(), debug);
+        } else if (group.isExpression()) {
+            predicate = compileExpression((Condition.Expression) group.getExpression(), debug);
+        } else {
+            throw new IllegalArgumentException("Unsupported condition expression: " + group.getExpression());
+        }
+        return Optional.ofNullable(group.getNegation()).orElse(true) ? predicate : predicate.negate();
+    }
+
+    private static Predicate<Map<String, Object>> compileExpression(final Condition.Expression expression,
+                                                                    final boolean debug) {
+        Preconditions.checkNotNull(expression.getOperator(), "Condition operator cannot be null.");
+        ConditionOperator operator = expression.getOperator();
+        Function<Map<String, Object>, Object> left = operand(expression.getParameter(), false, debug);
+        Function<Map<String, Object>, Object> right = operand(expression.getValue(), true, debug);
+        Fallback fallback = new Fallback(expression.toExpression(), debug);
+        boolean negated = !Optional.ofNullable(expression.getNegation()).orElse(true);
+
+        return params -> {
+            Boolean result = compare(operator, left.apply(params), right.apply(params));
+            if (result == null) {
+                return fallback.test(params);
+            }
+            return negated != result;
+        };
+    }
+
+    private static Function<Map<String, Object>, Object> operand(final Object source, final boolean literal,
+                                                                 final boolean debug) {
+        if (source == null || source instanceof Number || source instanceof Boolean) {
+            Object constant = normalize(source);
+            return params -> constant;
+        }
+        String text = StringUtils.trim(String.valueOf(source));
+        if (IDENTIFIER.matcher(text).matches() && !KEYWORDS.contains(text)) {
+            return params -> params.get(text);
+        }
+        if (literal) {
+            Optional<Object> constant = parseLiteral(text);
+            if (constant.isPresent()) {
+                Object value = constant.get() == NIL ? null : constant.get();
+                return params -> value;
+            }
+        }
+        Expression expression = ConditionBuilder.getInstance().compile(text, debug);
+        return expression::execute;
+    }
+
+    private static Optional<Object> parseLiteral(final String text) {
+        if ("nil".equals(text)) {
+            return Optional.of(NIL);
+        }
+        if ("true".equals(text) || "false".equals(text)) {
+            return Optional.of(Boolean.valueOf(text));
+        }
+        if (LONG_LITERAL.matcher(text).matches()) {
+            return Optional.of(Long.valueOf(text));
+        }
+        if (DOUBLE_LITERAL.matcher(text).matches()) {
+            return Optional.of(Double.valueOf(text));
+        }
+        if (text.length() >= 2) {
+            char quote = text.charAt(0);
+            String content = text.substring(1, text.length() - 1);
+            if ((quote == '\'' || quote == '"') && text.charAt(text.length() - 1) == quote
+                    && content.indexOf(quote) < 0 && content.indexOf('\\') < 0 && !content.contains("#{")) {
+                return Optional.of(content);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static Object normalize(final Object value) {
+        if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return ((Number) value).longValue();
+        }
+        if (value instanceof Float) {
+            return ((Number) value).doubleValue();
+        }
+        return value;
+    }
+
+    /**
+     * Compares two operands natively.
+     *
+     * @return comparison result, or null if the operand types are not specialized.
+     */
+    private static Boolean compare(final ConditionOperator operator, final Object left, final Object right) {
+        if (operator == ConditionOperator.IN || operator == ConditionOperator.NOT_IN) {
+            Boolean included = include(left, right);
+            if (included == null) {
+                return null;
+            }
+            return operator == ConditionOperator.IN ? included : !included;
+        }
+        Integer order = order(normalize(left), normalize(right));
+        if (order == null) {
+            return null;
+        }
+        return switch (operator) {
+            case EQ -> order == 0;
+            case NEQ -> order != 0;
+            case GT -> order > 0;
+            case GE -> order >= 0;
+            case LT -> order < 0;
+            case LE -> order <= 0;
+            default -> null;
+        };
+    }
+
+    private static Integer order(final Object left, final Object right) {
+        if (left == null || right == null) {
+            return left == right ? 0 : (left == null ? -1 : 1);
+        }
+        if (left instanceof Long l && right instanceof Long r) {
+            return Long.compare(l, r);
+        }
+        if (isFloating(left, right)) {
+            double l = ((Number) left).doubleValue();
+            double r = ((Number) right).doubleValue();
+            if (Double.isNaN(l) || Double.isNaN(r)) {
+                return null;
+            }
+            return l < r ? -1 : (l > r ? 1 : 0);
+        }
+        if (isDecimal(left, right)) {
+            return toDecimal(left).compareTo(toDecimal(right));
+        }
+        if (left instanceof String l && right instanceof String r) {
+            return Integer.signum(l.compareTo(r));
+        }
+        if (left instanceof Boolean l && right instanceof Boolean r) {
+            return Boolean.compare(l, r);
+        }
+        return null;
+    }
+
+    private static boolean isFloating(final Object left, final Object right) {
+        return (left instanceof Double || left instanceof Long) && (right instanceof Double || right instanceof Long);
+    }
+
+    private static boolean isDecimal(final Object left, final Object right) {
+        return (left instanceof BigDecimal || left instanceof Long)
+                && (right instanceof BigDecimal || right instanceof Long);
+    }
+
+    private static BigDecimal toDecimal(final Object value) {
+        return value instanceof BigDecimal decimal ? decimal : BigDecimal.valueOf((Long) value);
+    }
+
+    private static Boolean include(final Object container, final Object element) {
+        if (container == null) {
+            return false;
+        }
+        if (container instanceof Collection<?> collection) {
+            for (Object item : collection) {
+                Integer order = order(normalize(item), normalize(element));
+                if (order == null) {
+                    return null;
+                }
+                if (order == 0) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        if (container.getClass().isArray()) {
+            int length = Array.getLength(container);
+            for (int i = 0; i < length; i++) {
+                Integer order = order(normalize(Array.get(container, i)), normalize(element));
+                if (order == null) {
+                    return null;
+                }
+                if (order == 0) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return null;
+    }
+
+    /**
+     * Lazily compiled Aviator expression, used when the operand types are not specialized.
+     */
+    private static final class Fallback {
+        private final String text;
+        private final boolean debug;
+        private volatile Expression expression;
+
+        private Fallback(final String text, final boolean debug) {
+            this.text = text;
+            this.debug = debug;
+        }
+
+        private boolean test(final Map<String, Object> params) {
+            if (expression == null) {
+                expression = ConditionBuilder.getInstance().compile(text, debug);
+            }
+            return ConditionBuilder.getInstance().test(params, expression);
+        }
+    }
+}
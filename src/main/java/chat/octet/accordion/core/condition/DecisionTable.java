@@ -0,0 +1,283 @@
+package chat.octet.accordion.core.condition;
+
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Decision table, a compiled set of condition rows that share their subexpressions.
+ *
+ * <p>Each row is split into its top-level AND terms (atoms). Atoms with the same normalized text are compiled
+ * once and shared by every row, for example the range bounds of buckets over one field. During evaluation
+ * each atom is evaluated at most once, rows are evaluated in order and stop at the first false atom.</p>
+ *
+ * <p>Rows whose top level contains OR, ternary or statement separators are kept as a single atom,
+ * so the result is always the same as evaluating each row expression independently. Rows that contain
+ * an assignment are kept as a single atom that is never shared, because skipping or reusing an atom
+ * would skip or reuse its side effect.</p>
+ *
+ * @author <a href="https://github.com/eoctet">William</a>
+ * @since 1.0.1
+ */
+public final class DecisionTable {
+    private static final byte UNKNOWN = 0;
+    private static final byte MATCHED = 1;
+    private static final byte UNMATCHED = 2;
+
+    private final boolean debug;
+    private final Map<String, Integer> atomIndex = Maps.newHashMap();
+    private final List<Predicate<Map<String, Object>>> atoms = Lists.newArrayList();
+    private final List<Row> rows = Lists.newArrayList();
+
+    public DecisionTable(final boolean debug) {
+        this.debug = debug;
+    }
+
+    /**
+     * Adds a row compiled from an expression.
+     *
+     * @param expression condition expression, for example: Arg &gt;= 10 &amp;&amp; Arg &lt; 20.
+     * @param negation   reverse the row result.
+     * @return row index
+     */
+    public int addRow(final String expression, final boolean negation) {
+        Preconditions.checkArgument(StringUtils.isNotBlank(expression), "Expression cannot be empty.");
+        if (hasAssignment(expression)) {
+            atoms.add(ConditionBuilder.getInstance().predicate(normalize(expression), debug));
+            rows.add(new Row(new int[]{atoms.size() - 1}, negation));
+            return rows.size() - 1;
+        }
+        List<String> terms = split(expression);
+        int[] indexes = new int[terms.size()];
+        for (int i = 0; i < terms.size(); i++) {
+            String term = terms.get(i);
+            indexes[i] = atom(term, () -> ConditionBuilder.getInstance().predicate(term, debug));
+        }
+        rows.add(new Row(indexes, negation));
+        return rows.size() - 1;
+    }
+
+    /**
+     * Adds a row compiled from a condition tree.
+     *
+     * @param condition condition tree.
+     * @param negation  reverse the row result.
+     * @return row index
+     */
+    public int addRow(final Condition condition, final boolean negation) {
+        Preconditions.checkNotNull(condition, "Condition cannot be null.");
+        List<Condition.ExpressionGroup> groups = condition.getExpressionGroups();
+        Preconditions.checkArgument(groups != null && !groups.isEmpty(), "Condition expressions cannot be empty.");
+        boolean conjunction = groups.stream().skip(1).allMatch(group -> group.getType() != Condition.ConditionType.OR);
+        List<List<Condition.ExpressionGroup>> terms = conjunction
+                ? groups.stream().map(List::of).toList()
+                : List.of(groups);
+        int[] indexes = new int[terms.size()];
+        for (int i = 0; i < terms.size(); i++) {
+            List<Condition.ExpressionGroup> term = terms.get(i);
+            String key = normalize(ConditionBuilder.getInstance().build(term));
+            indexes[i] = atom(key, () -> ConditionCompiler.compile(term, debug));
+        }
+        rows.add(new Row(indexes, negation));
+        return rows.size() - 1;
+    }
+
+    private int atom(final String key, final Supplier<Predicate<Map<String, Object>>> compiler) {
+        return atomIndex.computeIfAbsent(key, k -> {
+            atoms.add(compiler.get());
+            return atoms.size() - 1;
+        });
+    }
+
+    /**
+     * Evaluates all rows.
+     *
+     * @param params     condition parameters.
+     * @param firstMatch stop at the first matched row, the remaining rows are reported as unmatched.
+     * @return row results, in row order
+     */
+    public boolean[] evaluate(final Map<String, Object> params, final boolean firstMatch) {
+        byte[] memo = new byte[atoms.size()];
+        boolean[] results = new boolean[rows.size()];
+        for (int i = 0; i < rows.size(); i++) {
+            Row row = rows.get(i);
+            boolean matched = true;
+            for (int index : row.atoms()) {
+                if (memo[index] == UNKNOWN) {
+                    memo[index] = atoms.get(index).test(params) ? MATCHED : UNMATCHED;
+                }
+                if (memo[index] == UNMATCHED) {
+                    matched = false;
+                    break;
+                }
+            }
+            results[i] = row.negation() != matched;
+            if (firstMatch && results[i]) {
+                break;
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Returns the number of distinct compiled atoms.
+     *
+     * @return atom count
+     */
+    public int atomCount() {
+        return atoms.size();
+    }
+
+    /**
+     * Returns the number of rows.
+     *
+     * @return row count
+     */
+    public int rowCount() {
+        return rows.size();
+    }
+
+    /**
+     * Splits an expression into its top-level AND terms.
+     *
+     * @param expression condition expression.
+     * @return normalized terms, a single term if the expression cannot be split safely
+     */
+    static List<String> split(final String expression) {
+        String text = normalize(expression);
+        if (hasAssignment(text)) {
+            return List.of(text);
+        }
+        List<String> terms = Lists.newArrayList();
+        int depth = 0;
+        int start = 0;
+        char quote = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            if (quote != 0) {
+                if (ch == '\\') {
+                    i++;
+                } else if (ch == quote) {
+                    quote = 0;
+                }
+                continue;
+            }
+            if (ch == '\'' || ch == '"') {
+                quote = ch;
+            } else if (ch == '(' || ch == '[' || ch == '{') {
+                depth++;
+            } else if (ch == ')' || ch == ']' || ch == '}') {
+                depth--;
+            } else if (depth == 0) {
+                if (ch == '?' || ch == ';' || text.startsWith("||", i) || text.startsWith("=~", i)
+                        || isKeyword(text, i, "or") || isKeyword(text, i, "lambda")) {
+                    return List.of(text);
+                }
+                int length = text.startsWith("&&", i) ? 2 : (isKeyword(text, i, "and") ? 3 : 0);
+                if (length > 0) {
+                    terms.add(text.substring(start, i));
+                    start = i + length;
+                    i += length - 1;
+                }
+            }
+        }
+        if (terms.isEmpty() || quote != 0 || depth != 0) {
+            return List.of(text);
+        }
+        terms.add(text.substring(start));
+        List<String> normalized = Lists.newArrayList();
+        for (String term : terms) {
+            if (StringUtils.isBlank(term)) {
+                return List.of(text);
+            }
+            normalized.addAll(split(term));
+        }
+        return normalized;
+    }
+
+    /**
+     * Checks whether the expression contains an assignment, a single {@code =} that is not part of
+     * a comparison or a regular expression match, outside of string literals.
+     */
+    static boolean hasAssignment(final String expression) {
+        char quote = 0;
+        for (int i = 0; i < expression.length(); i++) {
+            char ch = expression.charAt(i);
+            if (quote != 0) {
+                if (ch == '\\') {
+                    i++;
+                } else if (ch == quote) {
+                    quote = 0;
+                }
+            } else if (ch == '\'' || ch == '"') {
+                quote = ch;
+            } else if (ch == '=') {
+                char previous = i > 0 ? expression.charAt(i - 1) : 0;
+                char next = i + 1 < expression.length() ? expression.charAt(i + 1) : 0;
+                if (next == '=' || next == '~') {
+                    i++;
+                } else if (previous != '!' && previous != '<' && previous != '>') {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean isKeyword(final String text, final int index, final String keyword) {
+        if (!text.startsWith(keyword, index)) {
+            return false;
+        }
+        int end = index + keyword.length();
+        boolean leading = index == 0 || !isIdentifierPart(text.charAt(index - 1));
+        boolean trailing = end == text.length() || !isIdentifierPart(text.charAt(end));
+        return leading && trailing;
+    }
+
+    private static boolean isIdentifierPart(final char ch) {
+        return Character.isLetterOrDigit(ch) || ch == '_' || ch == '.';
+    }
+
+    /**
+     * Trims the expression and removes redundant outer parentheses.
+     */
+    private static String normalize(final String expression) {
+        String text = StringUtils.trim(expression);
+        while (text.length() > 1 && text.charAt(0) == '(' && closingParenthesis(text) == text.length() - 1) {
+            text = StringUtils.trim(text.substring(1, text.length() - 1));
+        }
+        return text;
+    }
+
+    private static int closingParenthesis(final String text) {
+        int depth = 0;
+        char quote = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            if (quote != 0) {
+                if (ch == '\\') {
+                    i++;
+                } else if (ch == quote) {
+                    quote = 0;
+                }
+            } else if (ch == '\'' || ch == '"') {
+                quote = ch;
+            } else if (ch == '(') {
+                depth++;
+            } else if (ch == ')' && --depth == 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private record Row(int[] atoms, boolean negation) {
+    }
+}
@@ -0,0 +1,201 @@
+package chat.octet.accordion.core.entity;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+import com.google.common.collect.Iterators;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Lazily consumed stream of text lines passed between actions.
+ * <p>
+ * Lines are read from the source only when the consumer asks for them, so large outputs flow
+ * through a plan at constant memory. The stream can be iterated only once and is closed
+ * automatically when the last line has been read. A source that failed after the last line, e.g.
+ * a killed process, makes the consumer fail instead of seeing a clean end of stream. Action outputs
+ * holding a line stream are passed to the next actions as is, without data type conversion.
+ * </p>
+ *
+ * <p>Usage Examples:</p>
+ * <pre>{@code
+ * LineStream lines = inputParameter.getValue("output", LineStream.class);
+ * try (Stream<String> stream = lines.lines()) {
+ *     long errors = stream.filter(line -> line.contains("ERROR")).count();
+ * }
+ * }</pre>
+ *
+ * @author <a href="https://github.com/eoctet">William</a>
+ * @since 1.0.1
+ */
+@Slf4j
+public final class LineStream implements Iterable<String>, Closeable {
+
+    private final String name;
+    private final BufferedReader reader;
+    private final Runnable onClose;
+    private final Runnable onEnd;
+    private final AtomicBoolean consumed = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final AtomicLong lineCount = new AtomicLong();
+
+    private LineStream(final String name, final Reader reader, final Runnable onClose, final Runnable onEnd) {
+        this.name = name;
+        this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+        this.onClose = onClose;
+        this.onEnd = onEnd;
+    }
+
+    /**
+     * Creates a line stream of the reader.
+     *
+     * @param name    stream name, used for logging.
+     * @param reader  line source.
+     * @param onClose callback invoked once when the stream is closed, may be null.
+     * @return line stream
+     */
+    public static LineStream of(final String name, final Reader reader, final Runnable onClose) {
+        return new LineStream(name, reader, onClose, null);
+    }
+
+    /**
+     * Creates a line stream of the reader, checking the source once it is exhausted.
+     *
+     * @param name    stream name, used for logging.
+     * @param reader  line source.
+     * @param onClose callback invoked once when the stream is closed, may be null.
+     * @param onEnd   callback invoked once after the last line was read and the stream was closed,
+     *                throws to report a failed source to the consumer. Not invoked if the stream
+     *                is closed before the end.
+     * @return line stream
+     */
+    public static LineStream of(final String name, final Reader reader, final Runnable onClose,
+                                final Runnable onEnd) {
+        return new LineStream(name, reader, onClose, onEnd);
+    }
+
+    /**
+     * Returns the line iterator, the stream can be iterated only once.
+     *
+     * @return line iterator
+     * @throws IllegalStateException if the stream was already consumed
+     */
+    @Override
+    public Iterator<String> iterator() {
+        if (!consumed.compareAndSet(false, true)) {
+            throw new IllegalStateException("Line stream " + name + " can be consumed only once.");
+        }
+        return new LineIterator();
+    }
+
+    /**
+     * Returns the lines as a sequential stream, closing the stream closes the source.
+     *
+     * @return line stream
+     */
+    public Stream<String> lines() {
+        Spliterator<String> spliterator = Spliterators.spliteratorUnknownSize(iterator(),
+                Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false).onClose(this::close);
+    }
+
+    /**
+     * Returns the lines in chunks, only one chunk is held in memory at a time.
+     *
+     * @param size lines per chunk.
+     * @return chunk iterable, can be iterated only once
+     */
+    public Iterable<List<String>> chunks(final int size) {
+        return () -> Iterators.partition(iterator(), size);
+    }
+
+    /**
+     * Returns the number of lines consumed so far.
+     *
+     * @return consumed lines
+     */
+    public long getLineCount() {
+        return lineCount.get();
+    }
+
+    public boolean isClosed() {
+        return closed.get();
+    }
+
+    /**
+     * Closes the line source, unread lines are discarded.
+     */
+    @Override
+    public void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            reader.close();
+        } catch (IOException e) {
+            log.debug("Failed to close line stream {}: {}", name, e.getMessage());
+        }
+        if (onClose != null) {
+            onClose.run();
+        }
+    }
+
+    @JsonValue
+    @Override
+    public String toString() {
+        return "LineStream(" + name + ", lines: " + lineCount.get() + (closed.get() ? ", closed" : "") + ")";
+    }
+
+    private void end() {
+        close();
+        if (onEnd != null) {
+            onEnd.run();
+        }
+    }
+
+    /**
+     * Iterator reading one line ahead, the stream is closed once the source is exhausted.
+     */
+    private final class LineIterator implements Iterator<String> {
+        private String next;
+
+        @Override
+        public boolean hasNext() {
+            if (next == null && !closed.get()) {
+                try {
+                    next = reader.readLine();
+                } catch (IOException e) {
+                    end();
+                    throw new UncheckedIOException(e);
+                }
+                if (next == null) {
+                    end();
+                }
+            }
+            return next != null;
+        }
+
+        @Override
+        public String next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            String line = next;
+            next = null;
+            lineCount.incrementAndGet();
+            return line;
+        }
+    }
+}
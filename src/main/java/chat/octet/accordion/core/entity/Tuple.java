@@ -157,8 +157,8 @@ public class Tuple<K, V> extends ConcurrentHashMap<K, V> implements Serializable
     /**
      * Retrieves a complex object by deserializing JSON content.
      *
-     * <p>This method converts the stored value to a string and attempts to
-     * deserialize it as JSON into the specified object type.</p>
+     * <p>String values are parsed as JSON into the specified object type. Any other
+     * value (maps, lists, beans) is bound directly without a JSON round-trip.</p>
      *
      * @param <T>   the type of object to deserialize
      * @param key   the key whose associated value is to be returned
@@ -167,14 +167,18 @@ public class Tuple<K, V> extends ConcurrentHashMap<K, V> implements Serializable
      * @since 1.0.0
      */
     public <T> T getObject(final String key, @Nullable final Class<T> clazz) {
-        return JsonUtils.parseToObject(String.valueOf(this.get(key)), clazz);
+        Object value = this.get(key);
+        if (value instanceof CharSequence || clazz == null) {
+            return JsonUtils.parseToObject(String.valueOf(value), clazz);
+        }
+        return JsonUtils.convertValue(value, clazz);
     }
 
     /**
      * Retrieves a typed list by deserializing JSON array content.
      *
-     * <p>This method converts the stored value to a string and attempts to
-     * deserialize it as a JSON array into a LinkedList of the specified type.</p>
+     * <p>String values are parsed as a JSON array into a LinkedList of the specified type.
+     * Collections and arrays are bound directly without a JSON round-trip.</p>
      *
      * @param <E>   the type of list elements
      * @param key   the key whose associated value is to be returned
@@ -183,7 +187,11 @@ public class Tuple<K, V> extends ConcurrentHashMap<K, V> implements Serializable
      * @since 1.0.0
      */
     public <E> LinkedList<E> getList(final String key, @Nullable final Class<E> clazz) {
-        return JsonUtils.parseJsonToList(String.valueOf(this.get(key)), clazz);
+        Object value = this.get(key);
+        if (value == null || value instanceof CharSequence) {
+            return JsonUtils.parseJsonToList(String.valueOf(value), clazz);
+        }
+        return JsonUtils.convertToList(value, clazz);
     }
 
     /**
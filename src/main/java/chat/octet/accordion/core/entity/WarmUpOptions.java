@@ -0,0 +1,50 @@
+package chat.octet.accordion.core.entity;
+
+import chat.octet.accordion.core.enums.ActionType;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Plan warm-up options.
+ *
+ * <p>Warm-up precompiles the expressions and scripts of every action, optionally resolves
+ * the hosts of API actions and runs synthetic dry runs. Dry runs execute only the allowlisted action types
+ * without side effects, every other action, including custom action types, is stubbed out:
+ * it is prepared and produces its default outputs but is not executed.</p>
+ *
+ * @author <a href="https://github.com/eoctet">William</a>
+ * @since 1.0.1
+ */
+@Getter
+@Builder
+@ToString
+public class WarmUpOptions {
+    /**
+     * Number of synthetic dry runs, default: 3.
+     */
+    @Builder.Default
+    private int dryRuns = 3;
+    /**
+     * Resolve the host names of API actions, default: false. No request is sent.
+     */
+    private boolean resolveHosts;
+    /**
+     * Action types executed during dry runs, default: SCRIPT, CONDITION, SWITCH and NOOP.
+     * Only add types whose actions have no side effects.
+     */
+    @Builder.Default
+    private Set<String> dryRunActionTypes = Set.of(ActionType.SCRIPT.name(), ActionType.CONDITION.name(),
+            ActionType.SWITCH.name(), ActionType.NOOP.name());
+    /**
+     * Synthetic message used by dry runs, optional.
+     */
+    private Message message;
+    /**
+     * Synthetic global parameters used by dry runs, optional.
+     */
+    private Map<String, Object> globalParams;
+}
@@ -0,0 +1,72 @@
+package chat.octet.accordion.core.entity;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Plan warm-up report.
+ *
+ * @author <a href="https://github.com/eoctet">William</a>
+ * @since 1.0.1
+ */
+@Getter
+@ToString
+public class WarmUpReport {
+    /**
+     * Total warm-up time.
+     */
+    private final Duration warmUpTime;
+    /**
+     * Number of actions warmed up successfully.
+     */
+    private final int warmedActions;
+    /**
+     * Latency of each dry run, in execution order.
+     */
+    private final List<Duration> dryRunTimes;
+    /**
+     * Warm-up failures by action id, dry run failures use the key "dry-run-{index}".
+     */
+    private final Map<String, String> failures;
+
+    public WarmUpReport(final Duration warmUpTime, final int warmedActions,
+                        final List<Duration> dryRunTimes, final Map<String, String> failures) {
+        this.warmUpTime = warmUpTime;
+        this.warmedActions = warmedActions;
+        this.dryRunTimes = ImmutableList.copyOf(dryRunTimes);
+        this.failures = ImmutableMap.copyOf(failures);
+    }
+
+    /**
+     * Returns the latency of the first (cold) dry run.
+     *
+     * @return first dry run latency, {@link Duration#ZERO} if no dry run was executed
+     */
+    public Duration getFirstDryRunTime() {
+        return dryRunTimes.isEmpty() ? Duration.ZERO : dryRunTimes.get(0);
+    }
+
+    /**
+     * Returns the latency of the last (warm) dry run.
+     *
+     * @return last dry run latency, {@link Duration#ZERO} if no dry run was executed
+     */
+    public Duration getLastDryRunTime() {
+        return dryRunTimes.isEmpty() ? Duration.ZERO : dryRunTimes.get(dryRunTimes.size() - 1);
+    }
+
+    /**
+     * Checks whether every action and dry run warmed up without errors.
+     *
+     * @return true if there were no failures
+     */
+    public boolean isSuccess() {
+        return failures.isEmpty();
+    }
+}
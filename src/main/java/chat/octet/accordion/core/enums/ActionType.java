@@ -13,5 +13,9 @@ public enum ActionType {
     EMAIL,
     SCRIPT,
     TEST,
-    SHELL
+    SHELL,
+    NOOP,
+    SLEEP,
+    CPU_BURN,
+    ALLOCATE
 }
@@ -16,7 +16,15 @@ public enum ConditionOperator {
     GE(">="),
     LT("<"),
     LE("<="),
+    /**
+     * Membership test where the parameter is the collection and the value is the element, i.e.
+     * {@code tags IN 2} is true when the collection {@code tags} contains {@code 2}. This is the reverse of
+     * the SQL {@code field IN (list)}, to test a field against a list use {@code list IN field} instead.
+     */
     IN("contains"),
+    /**
+     * Negated membership test, the parameter is the collection and the value is the element, see {@link #IN}.
+     */
     NOT_IN("!contains");
 
     private final String operator;
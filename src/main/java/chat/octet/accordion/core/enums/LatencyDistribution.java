@@ -0,0 +1,26 @@
+package chat.octet.accordion.core.enums;
+
+
+/**
+ * Latency distribution define, used by the sleep stub action.
+ *
+ * @author <a href="https://github.com/eoctet">William</a>
+ */
+public enum LatencyDistribution {
+    /**
+     * Always the configured duration.
+     */
+    FIXED,
+    /**
+     * Uniform between the minimum and the maximum duration.
+     */
+    UNIFORM,
+    /**
+     * Gaussian around the duration with the configured standard deviation.
+     */
+    NORMAL,
+    /**
+     * Exponential with the duration as mean, models long tails.
+     */
+    EXPONENTIAL
+}
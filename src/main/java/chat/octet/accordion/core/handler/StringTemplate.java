@@ -0,0 +1,135 @@
+package chat.octet.accordion.core.handler;
+
+import com.google.common.collect.Lists;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.text.StringSubstitutor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Precompiled {@code ${name}} template.
+ * <p>
+ * The template is split once into literal and variable segments, so rendering only looks up
+ * the variables and appends the segments. Defaults written as {@code ${name:-default}} are supported,
+ * unresolved variables are kept as is. Templates with escapes or nested variables, and values that
+ * contain variables themselves, are rendered with {@link StringSubstitutor} to keep its semantics.
+ * </p>
+ *
+ * @author <a href="https://github.com/eoctet">William</a>
+ * @since 1.0.1
+ */
+public final class StringTemplate {
+
+    private static final String PREFIX = "${";
+    private static final String SUFFIX = "}";
+    private static final String DEFAULT_DELIMITER = ":-";
+    private static final String ESCAPED_PREFIX = "$" + PREFIX;
+
+    private final String source;
+    private final List<Segment> segments;
+    private final boolean substitutorRequired;
+    private final int literalLength;
+
+    private StringTemplate(final String source) {
+        this.source = source;
+        List<Segment> parsed = source.contains(ESCAPED_PREFIX) ? null : parse(source);
+        this.substitutorRequired = parsed == null;
+        this.segments = substitutorRequired ? List.of() : parsed;
+        this.literalLength = segments.stream().mapToInt(segment -> segment.variable() ? 0 : segment.text().length()).sum();
+    }
+
+    /**
+     * Compiles the template.
+     *
+     * @param source template source.
+     * @return compiled template
+     */
+    public static StringTemplate compile(final String source) {
+        return new StringTemplate(StringUtils.defaultString(source));
+    }
+
+    private static List<Segment> parse(final String source) {
+        List<Segment> parsed = Lists.newArrayList();
+        int position = 0;
+        while (position < source.length()) {
+            int start = source.indexOf(PREFIX, position);
+            int end = start < 0 ? -1 : source.indexOf(SUFFIX, start + PREFIX.length());
+            if (start < 0 || end < 0) {
+                parsed.add(Segment.literal(source.substring(position)));
+                break;
+            }
+            String name = source.substring(start + PREFIX.length(), end);
+            if (name.contains(PREFIX)) {
+                //nested variables are resolved by the substitutor
+                return null;
+            }
+            if (start > position) {
+                parsed.add(Segment.literal(source.substring(position, start)));
+            }
+            parsed.add(Segment.variable(source.substring(start, end + 1), name));
+            position = end + 1;
+        }
+        return List.copyOf(parsed);
+    }
+
+    /**
+     * Checks whether the template contains no variables.
+     *
+     * @return true if rendering always returns the source
+     */
+    public boolean isStatic() {
+        return !substitutorRequired && segments.stream().noneMatch(Segment::variable);
+    }
+
+    /**
+     * Renders the template with the variables.
+     *
+     * @param variables template variables.
+     * @return rendered text
+     */
+    public String render(final Map<String, ?> variables) {
+        if (substitutorRequired) {
+            return StringSubstitutor.replace(source, variables);
+        }
+        if (segments.size() == 1 && !segments.get(0).variable()) {
+            return source;
+        }
+        StringBuilder builder = new StringBuilder(literalLength + 16 * segments.size());
+        for (Segment segment : segments) {
+            if (!segment.variable()) {
+                builder.append(segment.text());
+                continue;
+            }
+            Object value = variables == null ? null : variables.get(segment.name());
+            String text = value == null ? segment.defaultValue() : value.toString();
+            if (text != null && text.contains(PREFIX)) {
+                //values with variables are substituted recursively
+                return StringSubstitutor.replace(source, variables);
+            }
+            builder.append(text == null ? segment.text() : text);
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public String toString() {
+        return source;
+    }
+
+    private record Segment(String text, String name, String defaultValue, boolean variable) {
+
+        static Segment literal(final String text) {
+            return new Segment(text, null, null, false);
+        }
+
+        static Segment variable(final String text, final String expression) {
+            int delimiter = expression.indexOf(DEFAULT_DELIMITER);
+            if (delimiter < 0) {
+                return new Segment(text, expression, null, true);
+            }
+            return new Segment(text, expression.substring(0, delimiter),
+                    expression.substring(delimiter + DEFAULT_DELIMITER.length()), true);
+        }
+    }
+}
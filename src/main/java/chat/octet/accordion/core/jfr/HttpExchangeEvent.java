@@ -0,0 +1,63 @@
+package chat.octet.accordion.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import okhttp3.HttpUrl;
+
+/**
+ * Flight recorder event of an HTTP exchange made by an API action.
+ *
+ * @author <a href="https://github.com/eoctet">William</a>
+ * @since 1.0.1
+ */
+@Name("chat.octet.accordion.HttpExchange")
+@Label("Accordion HTTP Exchange")
+@Description("HTTP request and response of an API action")
+@Category({"Accordion", "I/O"})
+@StackTrace(false)
+public final class HttpExchangeEvent extends Event {
+
+    @Label("Action Id")
+    private String actionId;
+
+    @Label("Method")
+    private String method;
+
+    @Label("URL")
+    @Description("Request URL without query parameters")
+    private String url;
+
+    @Label("Status Code")
+    @Description("Response status code, 0 if no response was received")
+    private int statusCode;
+
+    @Label("Response Length")
+    @Description("Response body length in characters, -1 if there was no body")
+    private long responseLength;
+
+    /**
+     * Ends the event and commits it if it is enabled and above its threshold.
+     *
+     * @param id         action id.
+     * @param httpMethod request method.
+     * @param requestUrl request URL, recorded without query parameters.
+     * @param code       response status code, 0 if no response was received.
+     * @param length     response body length in characters, -1 if there was no body.
+     */
+    public void complete(final String id, final String httpMethod, final HttpUrl requestUrl,
+                         final int code, final long length) {
+        end();
+        if (shouldCommit()) {
+            this.actionId = id;
+            this.method = httpMethod;
+            this.url = requestUrl.newBuilder().query(null).build().toString();
+            this.statusCode = code;
+            this.responseLength = length;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package chat.octet.accordion.core.jfr;
+
+import chat.octet.accordion.core.enums.GraphNodeStatus;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event of a graph node execution, skipped nodes are recorded with a zero duration.
+ *
+ * @author <a href="https://github.com/eoctet">William</a>
+ * @since 1.0.1
+ */
+@Name("chat.octet.accordion.NodeExecution")
+@Label("Accordion Node Execution")
+@Description("Execution of an action in an accordion plan")
+@Category({"Accordion", "Execution"})
+@StackTrace(false)
+public final class NodeExecutionEvent extends Event {
+
+    @Label("Action Id")
+    private String actionId;
+
+    @Label("Action Type")
+    private String actionType;
+
+    @Label("Action Name")
+    private String actionName;
+
+    @Label("Status")
+    private String status;
+
+    /**
+     * Ends the event and commits it if it is enabled and above its threshold.
+     *
+     * @param id         action id.
+     * @param type       action type.
+     * @param name       action name.
+     * @param nodeStatus final node status.
+     */
+    public void complete(final String id, final String type, final String name, final GraphNodeStatus nodeStatus) {
+        end();
+        if (shouldCommit()) {
+            this.actionId = id;
+            this.actionType = type;
+            this.actionName = name;
+            this.status = nodeStatus.name();
+            commit();
+        }
+    }
+}
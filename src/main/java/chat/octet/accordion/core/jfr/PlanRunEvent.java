@@ -0,0 +1,52 @@
+package chat.octet.accordion.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event of an accordion run.
+ *
+ * @author <a href="https://github.com/eoctet">William</a>
+ * @since 1.0.1
+ */
+@Name("chat.octet.accordion.PlanRun")
+@Label("Accordion Plan Run")
+@Description("Execution of an accordion plan")
+@Category({"Accordion", "Execution"})
+@StackTrace(false)
+public final class PlanRunEvent extends Event {
+
+    @Label("Root Action Id")
+    private String rootActionId;
+
+    @Label("Node Count")
+    private int nodeCount;
+
+    @Label("Status")
+    private String status;
+
+    @Label("Error")
+    private String error;
+
+    /**
+     * Ends the event and commits it if it is enabled and above its threshold.
+     *
+     * @param rootId root action id.
+     * @param nodes  number of nodes in the plan.
+     * @param cause  error that failed the run, or null.
+     */
+    public void complete(final String rootId, final int nodes, final Throwable cause) {
+        end();
+        if (shouldCommit()) {
+            this.rootActionId = rootId;
+            this.nodeCount = nodes;
+            this.status = cause == null ? "SUCCESS" : "ERROR";
+            this.error = cause == null ? null : cause.getMessage();
+            commit();
+        }
+    }
+}
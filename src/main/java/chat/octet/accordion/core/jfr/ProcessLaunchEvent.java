@@ -0,0 +1,70 @@
+package chat.octet.accordion.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.io.IOException;
+
+/**
+ * Flight recorder event of a process launched by a shell action or a shell worker.
+ *
+ * @author <a href="https://github.com/eoctet">William</a>
+ * @since 1.0.1
+ */
+@Name("chat.octet.accordion.ProcessLaunch")
+@Label("Accordion Process Launch")
+@Description("Launch of a shell process")
+@Category({"Accordion", "Process"})
+@StackTrace(false)
+public final class ProcessLaunchEvent extends Event {
+
+    @Label("Action Id")
+    private String actionId;
+
+    @Label("Shell")
+    @Description("Shell executable, the command itself is not recorded")
+    private String shell;
+
+    @Label("Mode")
+    @Description("PROCESS, STREAM or WORKER")
+    private String mode;
+
+    @Label("Process Id")
+    private long pid;
+
+    @Label("Success")
+    private boolean success;
+
+    /**
+     * Starts the process within a recorded event.
+     *
+     * @param id      action id, or null for shell workers.
+     * @param mode    launch mode, PROCESS, STREAM or WORKER.
+     * @param builder process builder.
+     * @return started process
+     * @throws IOException if the process cannot be started
+     */
+    public static Process start(final String id, final String mode, final ProcessBuilder builder) throws IOException {
+        ProcessLaunchEvent event = new ProcessLaunchEvent();
+        event.begin();
+        Process process = null;
+        try {
+            process = builder.start();
+            return process;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.actionId = id;
+                event.shell = builder.command().get(0);
+                event.mode = mode;
+                event.pid = process == null ? -1L : process.pid();
+                event.success = process != null;
+                event.commit();
+            }
+        }
+    }
+}
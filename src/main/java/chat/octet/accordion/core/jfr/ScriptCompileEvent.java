@@ -0,0 +1,106 @@
+package chat.octet.accordion.core.jfr;
+
+import com.google.common.hash.Hashing;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.apache.commons.lang3.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Supplier;
+
+/**
+ * Flight recorder event of an Aviator script or condition compilation, cached compilations are not recorded.
+ * <p>
+ * The expression itself is not recorded, it may contain credentials or personal data. The event records its
+ * SHA-256 hash, which is also the key of the compiled script cache, and its length.
+ * </p>
+ *
+ * @author <a href="https://github.com/eoctet">William</a>
+ * @since 1.0.1
+ */
+@Name("chat.octet.accordion.ScriptCompile")
+@Label("Accordion Script Compile")
+@Description("Compilation of an Aviator script or condition expression")
+@Category({"Accordion", "Script"})
+@StackTrace(false)
+public final class ScriptCompileEvent extends Event {
+
+    private static final ThreadLocal<String> CURRENT_ACTION_ID = new ThreadLocal<>();
+
+    @Label("Action Id")
+    @Description("Action whose creation, warm-up or execution compiled the expression")
+    private String actionId;
+
+    @Label("Source")
+    private String source;
+
+    @Label("Expression Hash")
+    @Description("SHA-256 hash of the expression, the expression itself is not recorded")
+    private String expressionHash;
+
+    @Label("Expression Length")
+    private int expressionLength;
+
+    @Label("Success")
+    private boolean success;
+
+    /**
+     * Sets the action id recorded by the compilations of the current thread.
+     *
+     * @param id action id.
+     * @return previous action id, to be restored with {@link #exitAction(String)}
+     */
+    public static String enterAction(final String id) {
+        String previous = CURRENT_ACTION_ID.get();
+        CURRENT_ACTION_ID.set(id);
+        return previous;
+    }
+
+    /**
+     * Restores the action id recorded by the compilations of the current thread.
+     *
+     * @param previous previous action id, see {@link #enterAction(String)}.
+     */
+    public static void exitAction(final String previous) {
+        if (previous == null) {
+            CURRENT_ACTION_ID.remove();
+        } else {
+            CURRENT_ACTION_ID.set(previous);
+        }
+    }
+
+    /**
+     * Compiles the expression within a recorded event.
+     *
+     * @param source   compiling component, for example {@code script} or {@code condition}.
+     * @param script   expression source, only its hash and length are recorded.
+     * @param compiler compiler of the expression.
+     * @param <T>      compiled type.
+     * @return compiled expression
+     */
+    public static <T> T record(final String source, final String script, final Supplier<T> compiler) {
+        ScriptCompileEvent event = new ScriptCompileEvent();
+        event.begin();
+        boolean compiled = false;
+        try {
+            T result = compiler.get();
+            compiled = true;
+            return result;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.actionId = CURRENT_ACTION_ID.get();
+                event.source = source;
+                event.expressionHash = Hashing.sha256().hashString(StringUtils.defaultString(script),
+                        StandardCharsets.UTF_8).toString();
+                event.expressionLength = StringUtils.length(script);
+                event.success = compiled;
+                event.commit();
+            }
+        }
+    }
+}
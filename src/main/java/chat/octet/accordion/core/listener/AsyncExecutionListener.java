@@ -0,0 +1,85 @@
+package chat.octet.accordion.core.listener;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+
+/**
+ * Execution listener dispatching the events on an executor.
+ *
+ * @author <a href="https://github.com/eoctet">William</a>
+ * @since 1.0.1
+ */
+@Slf4j
+final class AsyncExecutionListener implements ExecutionListener {
+
+    private final ExecutionListener delegate;
+    private final Executor executor;
+
+    AsyncExecutionListener(final ExecutionListener delegate, final Executor executor) {
+        this.delegate = delegate;
+        this.executor = executor;
+    }
+
+    static Executor defaultExecutor() {
+        return DefaultHolder.EXECUTOR;
+    }
+
+    private void dispatch(final Consumer<ExecutionListener> callback) {
+        try {
+            executor.execute(() -> {
+                try {
+                    callback.accept(delegate);
+                } catch (Exception e) {
+                    log.warn("Execution listener {} failed: {}", delegate.getClass().getName(), e.getMessage(), e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("Execution event dropped, listener executor rejected it: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void onRunStart(final RunEvent event) {
+        dispatch(listener -> listener.onRunStart(event));
+    }
+
+    @Override
+    public void onRunEnd(final RunEvent event) {
+        dispatch(listener -> listener.onRunEnd(event));
+    }
+
+    @Override
+    public void onNodeScheduled(final NodeEvent event) {
+        dispatch(listener -> listener.onNodeScheduled(event));
+    }
+
+    @Override
+    public void onNodeStart(final NodeEvent event) {
+        dispatch(listener -> listener.onNodeStart(event));
+    }
+
+    @Override
+    public void onNodeEnd(final NodeEvent event) {
+        dispatch(listener -> listener.onNodeEnd(event));
+    }
+
+    @Override
+    public void onNodeSkip(final NodeEvent event) {
+        dispatch(listener -> listener.onNodeSkip(event));
+    }
+
+    @Override
+    public void onNodeError(final NodeEvent event) {
+        dispatch(listener -> listener.onNodeError(event));
+    }
+
+    private static final class DefaultHolder {
+        private static final Executor EXECUTOR = Executors.newSingleThreadExecutor(
+                new ThreadFactoryBuilder().setNameFormat("accordion-listener-%d").setDaemon(true).build());
+    }
+}
@@ -0,0 +1,110 @@
+package chat.octet.accordion.core.listener;
+
+import com.google.common.base.Preconditions;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Receives the execution events of an accordion run.
+ *
+ * <p>Listeners are registered with {@link chat.octet.accordion.Accordion#addListener(ExecutionListener)}
+ * and are called synchronously on the executing thread, in execution order. Listeners that do
+ * slow work, such as I/O, should be wrapped with {@link #async(ExecutionListener, Executor)}.
+ * Errors thrown by a listener are logged and never interrupt the run.</p>
+ *
+ * <p>Event order of a run:</p>
+ * <ol>
+ *   <li>{@link #onRunStart(RunEvent)}</li>
+ *   <li>For each node: {@link #onNodeScheduled(NodeEvent)}, then either {@link #onNodeSkip(NodeEvent)},
+ *   or {@link #onNodeStart(NodeEvent)}, {@link #onNodeError(NodeEvent)} if the node failed,
+ *   and {@link #onNodeEnd(NodeEvent)}</li>
+ *   <li>{@link #onRunEnd(RunEvent)}</li>
+ * </ol>
+ *
+ * <p>All methods do nothing by default, so listeners only override the events they need.</p>
+ *
+ * @author <a href="https://github.com/eoctet">William</a>
+ * @since 1.0.1
+ */
+public interface ExecutionListener {
+
+    /**
+     * Called before the first node of the run is executed.
+     *
+     * @param event run event.
+     */
+    default void onRunStart(final RunEvent event) {
+    }
+
+    /**
+     * Called after the last node of the run, also when the run failed.
+     *
+     * @param event run event with the run duration.
+     */
+    default void onRunEnd(final RunEvent event) {
+    }
+
+    /**
+     * Called when a node is queued for execution.
+     *
+     * @param event node event.
+     */
+    default void onNodeScheduled(final NodeEvent event) {
+    }
+
+    /**
+     * Called before the node is prepared and executed.
+     *
+     * @param event node event.
+     */
+    default void onNodeStart(final NodeEvent event) {
+    }
+
+    /**
+     * Called after the node was executed, with its final status.
+     *
+     * @param event node event with the node duration.
+     */
+    default void onNodeEnd(final NodeEvent event) {
+    }
+
+    /**
+     * Called when the node is skipped by a condition, a switch or a failed previous node.
+     *
+     * @param event node event.
+     */
+    default void onNodeSkip(final NodeEvent event) {
+    }
+
+    /**
+     * Called when the node failed, before {@link #onNodeEnd(NodeEvent)}.
+     *
+     * @param event node event with the error.
+     */
+    default void onNodeError(final NodeEvent event) {
+    }
+
+    /**
+     * Wraps the listener to receive events on the executor instead of the executing thread.
+     * Use a single-threaded executor to keep the event order.
+     *
+     * @param listener listener to wrap.
+     * @param executor executor that dispatches the events.
+     * @return asynchronous listener
+     */
+    static ExecutionListener async(final ExecutionListener listener, final Executor executor) {
+        Preconditions.checkNotNull(listener, "Listener cannot be null");
+        Preconditions.checkNotNull(executor, "Executor cannot be null");
+        return new AsyncExecutionListener(listener, executor);
+    }
+
+    /**
+     * Wraps the listener to receive events on a shared daemon dispatcher thread, in event order.
+     *
+     * @param listener listener to wrap.
+     * @return asynchronous listener
+     */
+    static ExecutionListener async(final ExecutionListener listener) {
+        return async(listener, AsyncExecutionListener.defaultExecutor());
+    }
+}
@@ -0,0 +1,21 @@
+package chat.octet.accordion.core.listener;
+
+import chat.octet.accordion.core.enums.GraphNodeStatus;
+
+/**
+ * Execution event of a graph node.
+ *
+ * @param runId         unique identifier of the run.
+ * @param actionId      action id of the node.
+ * @param actionName    action name of the node.
+ * @param actionType    action type of the node.
+ * @param status        node status when the event occurred.
+ * @param nanoTime      {@link System#nanoTime()} when the event occurred.
+ * @param durationNanos node execution time in nanoseconds, 0 except for node end and error events.
+ * @param error         error recorded by the action, or null.
+ * @author <a href="https://github.com/eoctet">William</a>
+ * @since 1.0.1
+ */
+public record NodeEvent(String runId, String actionId, String actionName, String actionType,
+                        GraphNodeStatus status, long nanoTime, long durationNanos, Throwable error) {
+}
@@ -0,0 +1,24 @@
+package chat.octet.accordion.core.listener;
+
+/**
+ * Execution event of an accordion run.
+ *
+ * @param runId         unique identifier of the run.
+ * @param nodeCount     number of nodes in the plan.
+ * @param nanoTime      {@link System#nanoTime()} when the event occurred.
+ * @param durationNanos run duration in nanoseconds, 0 for the run start.
+ * @param error         error that failed the run, or null.
+ * @author <a href="https://github.com/eoctet">William</a>
+ * @since 1.0.1
+ */
+public record RunEvent(String runId, int nodeCount, long nanoTime, long durationNanos, Throwable error) {
+
+    /**
+     * Checks whether the run failed.
+     *
+     * @return true if the run threw an error
+     */
+    public boolean isFailed() {
+        return error != null;
+    }
+}
@@ -0,0 +1,29 @@
+package chat.octet.accordion.core.metrics;
+
+import java.util.Map;
+
+/**
+ * JMX view of a {@link MetricsRegistry}.
+ * <p>
+ * Latencies are reported in milliseconds with the keys {@code count}, {@code mean}, {@code p50},
+ * {@code p90}, {@code p99} and {@code max}, action metrics additionally contain {@code executions},
+ * {@code errors} and {@code skips}.
+ * </p>
+ *
+ * @author <a href="https://github.com/eoctet">William</a>
+ * @since 1.0.1
+ */
+public interface AccordionMetricsMXBean {
+
+    long getRunCount();
+
+    long getRunErrorCount();
+
+    Map<String, Double> getRunLatency();
+
+    Map<String, Map<String, Double>> getActionMetrics();
+
+    Map<String, Map<String, Double>> getActionTypeMetrics();
+
+    void reset();
+}
@@ -0,0 +1,33 @@
+package chat.octet.accordion.core.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free execution counters and latency histogram of an action id or action type.
+ *
+ * @author <a href="https://github.com/eoctet">William</a>
+ * @since 1.0.1
+ */
+final class ActionMetrics {
+
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder skips = new LongAdder();
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    void recordExecution(final long durationNanos, final boolean error) {
+        executions.increment();
+        if (error) {
+            errors.increment();
+        }
+        latency.record(durationNanos);
+    }
+
+    void recordSkip() {
+        skips.increment();
+    }
+
+    ActionMetricsSnapshot snapshot(final String key) {
+        return new ActionMetricsSnapshot(key, executions.sum(), errors.sum(), skips.sum(), latency.snapshot());
+    }
+}
@@ -0,0 +1,15 @@
+package chat.octet.accordion.core.metrics;
+
+/**
+ * Metrics of an action id or action type.
+ *
+ * @param key        action id or action type.
+ * @param executions number of executed nodes, including failed nodes.
+ * @param errors     number of failed nodes.
+ * @param skips      number of skipped nodes.
+ * @param latency    execution latency of the nodes.
+ * @author <a href="https://github.com/eoctet">William</a>
+ * @since 1.0.1
+ */
+public record ActionMetricsSnapshot(String key, long executions, long errors, long skips, LatencySnapshot latency) {
+}
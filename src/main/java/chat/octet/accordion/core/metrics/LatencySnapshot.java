@@ -0,0 +1,99 @@
+package chat.octet.accordion.core.metrics;
+
+import com.google.common.base.Preconditions;
+
+import java.time.Duration;
+
+/**
+ * Immutable copy of a {@link LatencyHistogram}.
+ *
+ * @author <a href="https://github.com/eoctet">William</a>
+ * @since 1.0.1
+ */
+public final class LatencySnapshot {
+
+    private static final double P50 = 50D;
+    private static final double P90 = 90D;
+    private static final double P99 = 99D;
+
+    static final LatencySnapshot EMPTY = new LatencySnapshot(0L, 0L, 0L, new long[LatencyHistogram.BUCKET_COUNT]);
+
+    private final long count;
+    private final long totalNanos;
+    private final long maxNanos;
+    private final long[] counts;
+
+    LatencySnapshot(final long count, final long totalNanos, final long maxNanos, final long[] counts) {
+        this.count = count;
+        this.totalNanos = totalNanos;
+        this.maxNanos = maxNanos;
+        this.counts = counts;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    /**
+     * Returns the mean latency.
+     *
+     * @return mean latency in nanoseconds, 0 if nothing was recorded
+     */
+    public double getMeanNanos() {
+        return count == 0 ? 0D : (double) totalNanos / count;
+    }
+
+    /**
+     * Returns the latency at the percentile, within the histogram precision.
+     *
+     * @param percentile percentile between 0 and 100.
+     * @return latency in nanoseconds, 0 if nothing was recorded
+     */
+    public long getPercentileNanos(final double percentile) {
+        Preconditions.checkArgument(percentile >= 0 && percentile <= 100, "Percentile must be between 0 and 100");
+        if (count == 0) {
+            return 0L;
+        }
+        long rank = Math.max(1L, (long) Math.ceil(percentile / 100D * count));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(LatencyHistogram.highestValueOf(i), maxNanos);
+            }
+        }
+        return maxNanos;
+    }
+
+    public long getP50Nanos() {
+        return getPercentileNanos(P50);
+    }
+
+    public long getP90Nanos() {
+        return getPercentileNanos(P90);
+    }
+
+    public long getP99Nanos() {
+        return getPercentileNanos(P99);
+    }
+
+    /**
+     * Returns the latency at the percentile as a duration.
+     *
+     * @param percentile percentile between 0 and 100.
+     * @return latency
+     */
+    public Duration getPercentile(final double percentile) {
+        return Duration.ofNanos(getPercentileNanos(percentile));
+    }
+
+    @Override
+    public String toString() {
+        return "LatencySnapshot(count=" + count + ", mean=" + Math.round(getMeanNanos()) + "ns, p50=" + getP50Nanos()
+                + "ns, p90=" + getP90Nanos() + "ns, p99=" + getP99Nanos() + "ns, max=" + maxNanos + "ns)";
+    }
+}
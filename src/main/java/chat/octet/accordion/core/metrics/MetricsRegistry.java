@@ -0,0 +1,220 @@
+package chat.octet.accordion.core.metrics;
+
+import chat.octet.accordion.core.enums.GraphNodeStatus;
+import chat.octet.accordion.core.listener.ExecutionListener;
+import chat.octet.accordion.core.listener.NodeEvent;
+import chat.octet.accordion.core.listener.RunEvent;
+import com.google.common.base.Preconditions;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.Maps;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-process metrics of accordion runs.
+ * <p>
+ * The registry is an {@link ExecutionListener}: registered with an accordion, it counts executions,
+ * errors and skips, and records latency histograms by action id, by action type and for whole runs.
+ * Recording uses fixed memory per action id and action type. Each histogram takes about 10 KB, so metrics
+ * are kept for a bounded number of action ids, the least recently executed ids are evicted. Metrics are read
+ * with {@link #snapshot()} or through JMX, the default registry is registered as
+ * {@code chat.octet.accordion:type=Metrics,name=default}.
+ * </p>
+ *
+ * <p>System Properties:</p>
+ * <ul>
+ *   <li>{@code accordion.metrics.max.actions} - Maximum number of action ids with metrics, default: 1024</li>
+ * </ul>
+ *
+ * @author <a href="https://github.com/eoctet">William</a>
+ * @since 1.0.1
+ */
+@Slf4j
+public final class MetricsRegistry implements ExecutionListener, AccordionMetricsMXBean {
+
+    private static final String OBJECT_NAME = "chat.octet.accordion:type=Metrics,name=";
+    private static final double NANOS_PER_MILLI = 1_000_000D;
+    private static final String MAX_ACTIONS_PROPERTY = "accordion.metrics.max.actions";
+    private static final int DEFAULT_MAX_ACTIONS = 1024;
+
+    private final ConcurrentMap<String, ActionMetrics> actions;
+    private final ConcurrentMap<String, ActionMetrics> actionTypes = new ConcurrentHashMap<>();
+    private final LongAdder runs = new LongAdder();
+    private final LongAdder runErrors = new LongAdder();
+    private final LatencyHistogram runLatency = new LatencyHistogram();
+
+    /**
+     * Creates a registry keeping the metrics of at most {@code accordion.metrics.max.actions} action ids.
+     */
+    public MetricsRegistry() {
+        this(Integer.getInteger(MAX_ACTIONS_PROPERTY, DEFAULT_MAX_ACTIONS));
+    }
+
+    /**
+     * Creates a registry keeping the metrics of at most the given number of action ids.
+     *
+     * @param maxActions maximum number of action ids with metrics.
+     */
+    public MetricsRegistry(final int maxActions) {
+        Preconditions.checkArgument(maxActions > 0, "Maximum number of actions must be greater than 0.");
+        this.actions = CacheBuilder.newBuilder().maximumSize(maxActions).<String, ActionMetrics>build().asMap();
+    }
+
+    /**
+     * Returns the process-wide registry, registered with the platform MBean server.
+     *
+     * @return default registry
+     */
+    public static MetricsRegistry getDefault() {
+        return DefaultHolder.INSTANCE;
+    }
+
+    /**
+     * Registers the registry with the platform MBean server.
+     *
+     * @param name registry name, used as the {@code name} key of the object name.
+     * @return registered object name
+     * @throws IllegalStateException if the registry cannot be registered
+     */
+    public ObjectName registerMBean(final String name) {
+        try {
+            ObjectName objectName = new ObjectName(OBJECT_NAME + name);
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            if (server.isRegistered(objectName)) {
+                server.unregisterMBean(objectName);
+            }
+            server.registerMBean(this, objectName);
+            return objectName;
+        } catch (JMException e) {
+            throw new IllegalStateException("Metrics registry cannot be registered: " + name, e);
+        }
+    }
+
+    @Override
+    public void onNodeEnd(final NodeEvent event) {
+        boolean error = event.status() == GraphNodeStatus.ERROR;
+        metrics(actions, event.actionId()).recordExecution(event.durationNanos(), error);
+        metrics(actionTypes, event.actionType()).recordExecution(event.durationNanos(), error);
+    }
+
+    @Override
+    public void onNodeSkip(final NodeEvent event) {
+        metrics(actions, event.actionId()).recordSkip();
+        metrics(actionTypes, event.actionType()).recordSkip();
+    }
+
+    @Override
+    public void onRunEnd(final RunEvent event) {
+        runs.increment();
+        if (event.isFailed()) {
+            runErrors.increment();
+        }
+        runLatency.record(event.durationNanos());
+    }
+
+    private static ActionMetrics metrics(final ConcurrentMap<String, ActionMetrics> metrics, final String key) {
+        String name = String.valueOf(key);
+        ActionMetrics value = metrics.get(name);
+        return value != null ? value : metrics.computeIfAbsent(name, k -> new ActionMetrics());
+    }
+
+    /**
+     * Returns a copy of the recorded metrics.
+     *
+     * @return metrics snapshot
+     */
+    public MetricsSnapshot snapshot() {
+        return new MetricsSnapshot(runs.sum(), runErrors.sum(), runLatency.snapshot(),
+                snapshot(actions), snapshot(actionTypes));
+    }
+
+    private static Map<String, ActionMetricsSnapshot> snapshot(final Map<String, ActionMetrics> metrics) {
+        Map<String, ActionMetricsSnapshot> snapshots = Maps.newTreeMap();
+        metrics.forEach((key, value) -> snapshots.put(key, value.snapshot(key)));
+        return snapshots;
+    }
+
+    /**
+     * Clears all recorded metrics.
+     */
+    @Override
+    public void reset() {
+        actions.clear();
+        actionTypes.clear();
+        runs.reset();
+        runErrors.reset();
+        runLatency.reset();
+    }
+
+    @Override
+    public long getRunCount() {
+        return runs.sum();
+    }
+
+    @Override
+    public long getRunErrorCount() {
+        return runErrors.sum();
+    }
+
+    @Override
+    public Map<String, Double> getRunLatency() {
+        return toMillis(runLatency.snapshot());
+    }
+
+    @Override
+    public Map<String, Map<String, Double>> getActionMetrics() {
+        return toAttributes(actions);
+    }
+
+    @Override
+    public Map<String, Map<String, Double>> getActionTypeMetrics() {
+        return toAttributes(actionTypes);
+    }
+
+    private static Map<String, Map<String, Double>> toAttributes(final Map<String, ActionMetrics> metrics) {
+        Map<String, Map<String, Double>> attributes = Maps.newTreeMap();
+        metrics.forEach((key, value) -> {
+            ActionMetricsSnapshot snapshot = value.snapshot(key);
+            Map<String, Double> attribute = Maps.newLinkedHashMap();
+            attribute.put("executions", (double) snapshot.executions());
+            attribute.put("errors", (double) snapshot.errors());
+            attribute.put("skips", (double) snapshot.skips());
+            attribute.putAll(toMillis(snapshot.latency()));
+            attributes.put(key, attribute);
+        });
+        return attributes;
+    }
+
+    private static Map<String, Double> toMillis(final LatencySnapshot latency) {
+        Map<String, Double> values = Maps.newLinkedHashMap();
+        values.put("count", (double) latency.getCount());
+        values.put("mean", latency.getMeanNanos() / NANOS_PER_MILLI);
+        values.put("p50", latency.getP50Nanos() / NANOS_PER_MILLI);
+        values.put("p90", latency.getP90Nanos() / NANOS_PER_MILLI);
+        values.put("p99", latency.getP99Nanos() / NANOS_PER_MILLI);
+        values.put("max", latency.getMaxNanos() / NANOS_PER_MILLI);
+        return values;
+    }
+
+    private static final class DefaultHolder {
+        private static final MetricsRegistry INSTANCE = create();
+
+        private static MetricsRegistry create() {
+            MetricsRegistry registry = new MetricsRegistry();
+            try {
+                registry.registerMBean("default");
+            } catch (IllegalStateException e) {
+                log.warn("Default metrics registry is not available through JMX: {}", e.getMessage());
+            }
+            return registry;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package chat.octet.accordion.core.metrics;
+
+import com.google.common.collect.ImmutableMap;
+
+import java.util.Map;
+
+/**
+ * Point-in-time copy of a {@link MetricsRegistry}.
+ *
+ * @param runs        number of finished runs.
+ * @param runErrors   number of runs that threw an error.
+ * @param runLatency  run latency.
+ * @param actions     metrics by action id.
+ * @param actionTypes metrics by action type.
+ * @author <a href="https://github.com/eoctet">William</a>
+ * @since 1.0.1
+ */
+public record MetricsSnapshot(long runs, long runErrors, LatencySnapshot runLatency,
+                              Map<String, ActionMetricsSnapshot> actions,
+                              Map<String, ActionMetricsSnapshot> actionTypes) {
+
+    /**
+     * Snapshot without any recorded run.
+     */
+    public static final MetricsSnapshot EMPTY = new MetricsSnapshot(0L, 0L, LatencySnapshot.EMPTY, Map.of(), Map.of());
+
+    public MetricsSnapshot {
+        actions = ImmutableMap.copyOf(actions);
+        actionTypes = ImmutableMap.copyOf(actionTypes);
+    }
+
+    /**
+     * Returns the metrics of the action id.
+     *
+     * @param actionId action id.
+     * @return action metrics, or null if the action was never executed or skipped
+     */
+    public ActionMetricsSnapshot action(final String actionId) {
+        return actions.get(actionId);
+    }
+
+    /**
+     * Returns the metrics of the action type.
+     *
+     * @param actionType action type.
+     * @return action type metrics, or null if no action of the type was executed or skipped
+     */
+    public ActionMetricsSnapshot actionType(final String actionType) {
+        return actionTypes.get(actionType);
+    }
+}
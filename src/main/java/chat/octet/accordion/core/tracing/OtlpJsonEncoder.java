@@ -0,0 +1,89 @@
+package chat.octet.accordion.core.tracing;
+
+import chat.octet.accordion.utils.JsonUtils;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Encodes spans as an OTLP/JSON {@code ExportTraceServiceRequest}.
+ * <p>
+ * Ids are hex strings, 64-bit integers are strings and enums are numbers, as required by the OTLP/JSON
+ * protobuf mapping, so the output can be replayed to any OTLP/HTTP collector or loaded by trace viewers.
+ * </p>
+ *
+ * @author <a href="https://github.com/eoctet">William</a>
+ * @since 1.0.1
+ */
+final class OtlpJsonEncoder {
+
+    static final String SERVICE_NAME = "accordion";
+    static final String SCOPE_NAME = "chat.octet.accordion";
+    private static final int SPAN_KIND_INTERNAL = 1;
+
+    private OtlpJsonEncoder() {
+    }
+
+    /**
+     * Encodes the spans as a single-line JSON request.
+     *
+     * @param spans spans to encode.
+     * @return OTLP/JSON request
+     */
+    static String encode(final Collection<Span> spans) {
+        List<Object> encodedSpans = Lists.newArrayListWithCapacity(spans.size());
+        for (Span span : spans) {
+            encodedSpans.add(encode(span));
+        }
+        Map<String, Object> scopeSpans = Maps.newLinkedHashMap();
+        scopeSpans.put("scope", Map.of("name", SCOPE_NAME));
+        scopeSpans.put("spans", encodedSpans);
+        Map<String, Object> resourceSpans = Maps.newLinkedHashMap();
+        resourceSpans.put("resource", Map.of("attributes", attributes(Map.of("service.name", SERVICE_NAME))));
+        resourceSpans.put("scopeSpans", List.of(scopeSpans));
+        return JsonUtils.toJson(Map.of("resourceSpans", List.of(resourceSpans)));
+    }
+
+    private static Map<String, Object> encode(final Span span) {
+        Map<String, Object> encoded = Maps.newLinkedHashMap();
+        encoded.put("traceId", span.traceId());
+        encoded.put("spanId", span.spanId());
+        if (span.parentSpanId() != null) {
+            encoded.put("parentSpanId", span.parentSpanId());
+        }
+        encoded.put("name", span.name());
+        encoded.put("kind", SPAN_KIND_INTERNAL);
+        encoded.put("startTimeUnixNano", Long.toString(span.startEpochNanos()));
+        encoded.put("endTimeUnixNano", Long.toString(span.endEpochNanos()));
+        encoded.put("attributes", attributes(span.attributes()));
+        Map<String, Object> status = Maps.newLinkedHashMap();
+        status.put("code", span.status().getCode());
+        if (span.statusMessage() != null) {
+            status.put("message", span.statusMessage());
+        }
+        encoded.put("status", status);
+        return encoded;
+    }
+
+    private static List<Object> attributes(final Map<String, Object> attributes) {
+        List<Object> encoded = Lists.newArrayListWithCapacity(attributes.size());
+        attributes.forEach((key, value) -> encoded.add(Map.of("key", key, "value", value(value))));
+        return encoded;
+    }
+
+    private static Map<String, Object> value(final Object value) {
+        if (value instanceof Boolean) {
+            return Map.of("boolValue", value);
+        }
+        if (value instanceof Integer || value instanceof Long) {
+            return Map.of("intValue", value.toString());
+        }
+        if (value instanceof Number number) {
+            return Map.of("doubleValue", number.doubleValue());
+        }
+        return Map.of("stringValue", String.valueOf(value));
+    }
+}
@@ -0,0 +1,95 @@
+package chat.octet.accordion.core.tracing;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * In-memory span exporter keeping the most recent spans.
+ * <p>
+ * The buffer has a fixed capacity, the oldest spans are dropped when it is full.
+ * </p>
+ *
+ * @author <a href="https://github.com/eoctet">William</a>
+ * @since 1.0.1
+ */
+public final class RingBufferSpanExporter implements SpanExporter {
+
+    /**
+     * Large capacities are not allocated upfront, the buffer grows as spans are exported.
+     */
+    private static final int MAX_INITIAL_CAPACITY = 1024;
+
+    private final int capacity;
+    private final Deque<Span> spans;
+    private long droppedCount;
+
+    /**
+     * Creates a ring buffer.
+     *
+     * @param capacity maximum number of retained spans.
+     */
+    public RingBufferSpanExporter(final int capacity) {
+        Preconditions.checkArgument(capacity > 0, "Capacity must be positive");
+        this.capacity = capacity;
+        this.spans = new ArrayDeque<>(Math.min(capacity, MAX_INITIAL_CAPACITY));
+    }
+
+    @Override
+    public synchronized void export(final List<Span> exported) {
+        for (Span span : exported) {
+            if (spans.size() == capacity) {
+                spans.pollFirst();
+                droppedCount++;
+            }
+            spans.addLast(span);
+        }
+    }
+
+    /**
+     * Returns the retained spans, oldest first.
+     *
+     * @return retained spans
+     */
+    public synchronized List<Span> getSpans() {
+        return ImmutableList.copyOf(spans);
+    }
+
+    /**
+     * Returns the retained spans of the trace.
+     *
+     * @param traceId trace id.
+     * @return spans of the trace, root span first
+     */
+    public synchronized List<Span> getTrace(final String traceId) {
+        return spans.stream().filter(span -> span.traceId().equals(traceId)).collect(ImmutableList.toImmutableList());
+    }
+
+    /**
+     * Returns the number of spans dropped because the buffer was full.
+     *
+     * @return dropped spans
+     */
+    public synchronized long getDroppedCount() {
+        return droppedCount;
+    }
+
+    /**
+     * Encodes the retained spans as an OTLP/JSON request.
+     *
+     * @return OTLP/JSON request
+     */
+    public String toOtlpJson() {
+        return OtlpJsonEncoder.encode(getSpans());
+    }
+
+    /**
+     * Removes all retained spans.
+     */
+    public synchronized void clear() {
+        spans.clear();
+    }
+}
@@ -0,0 +1,122 @@
+package chat.octet.accordion.core.tracing;
+
+import com.google.common.base.Preconditions;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Span exporter writing OTLP/JSON lines to a rolling local file.
+ * <p>
+ * Each run is written as one {@code ExportTraceServiceRequest} per line, the format of the OpenTelemetry
+ * file exporter. When the file exceeds its maximum size it is renamed to {@code <file>.1}, older files are
+ * shifted up to {@code <file>.<maxFiles - 1>} and the oldest file is removed. Writing is I/O on the executing
+ * thread, wrap the tracing listener with {@link chat.octet.accordion.core.listener.ExecutionListener#async}
+ * to keep it out of the run.
+ * </p>
+ *
+ * @author <a href="https://github.com/eoctet">William</a>
+ * @since 1.0.1
+ */
+@Slf4j
+public final class RollingFileSpanExporter implements SpanExporter {
+
+    private final Path file;
+    private final long maxFileSize;
+    private final int maxFiles;
+    private OutputStream output;
+    private long size;
+
+    /**
+     * Creates a rolling file exporter.
+     *
+     * @param file        span file, parent directories are created if missing.
+     * @param maxFileSize file size in bytes that triggers a roll.
+     * @param maxFiles    number of kept files, including the current file.
+     */
+    public RollingFileSpanExporter(final Path file, final long maxFileSize, final int maxFiles) {
+        Preconditions.checkArgument(maxFileSize > 0, "Maximum file size must be positive");
+        Preconditions.checkArgument(maxFiles > 0, "Maximum files must be positive");
+        this.file = file;
+        this.maxFileSize = maxFileSize;
+        this.maxFiles = maxFiles;
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            open();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Span file cannot be opened: " + file, e);
+        }
+    }
+
+    private void open() throws IOException {
+        this.output = new BufferedOutputStream(Files.newOutputStream(file,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND));
+        this.size = Files.size(file);
+    }
+
+    @Override
+    public synchronized void export(final List<Span> spans) {
+        if (spans.isEmpty() || output == null) {
+            return;
+        }
+        byte[] line = (OtlpJsonEncoder.encode(spans) + "\n").getBytes(StandardCharsets.UTF_8);
+        try {
+            if (size > 0 && size + line.length > maxFileSize) {
+                roll();
+            }
+            output.write(line);
+            output.flush();
+            size += line.length;
+        } catch (IOException e) {
+            log.warn("Spans cannot be written to {}: {}", file, e.getMessage());
+        }
+    }
+
+    private void roll() throws IOException {
+        output.close();
+        Files.deleteIfExists(rolled(maxFiles - 1));
+        for (int i = maxFiles - 2; i >= 1; i--) {
+            Path source = rolled(i);
+            if (Files.exists(source)) {
+                Files.move(source, rolled(i + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        if (maxFiles > 1) {
+            Files.move(file, rolled(1), StandardCopyOption.REPLACE_EXISTING);
+        } else {
+            Files.deleteIfExists(file);
+        }
+        open();
+    }
+
+    private Path rolled(final int index) {
+        return file.resolveSibling(file.getFileName() + "." + index);
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (output != null) {
+            try {
+                output.close();
+            } catch (IOException e) {
+                log.warn("Span file {} cannot be closed: {}", file, e.getMessage());
+            }
+            output = null;
+        }
+    }
+}
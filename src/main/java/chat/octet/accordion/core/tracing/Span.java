@@ -0,0 +1,55 @@
+package chat.octet.accordion.core.tracing;
+
+import com.google.common.collect.ImmutableMap;
+
+import java.util.Map;
+
+/**
+ * Finished span of an accordion run or of a node execution.
+ *
+ * @param traceId         trace id, 32 lowercase hex characters.
+ * @param spanId          span id, 16 lowercase hex characters.
+ * @param parentSpanId    parent span id, or null for the root span of a run.
+ * @param name            span name.
+ * @param startEpochNanos start time in nanoseconds since the epoch.
+ * @param endEpochNanos   end time in nanoseconds since the epoch.
+ * @param attributes      span attributes, values are strings, numbers or booleans.
+ * @param status          span status.
+ * @param statusMessage   error message of an {@link Status#ERROR} span, or null.
+ * @author <a href="https://github.com/eoctet">William</a>
+ * @since 1.0.1
+ */
+public record Span(String traceId, String spanId, String parentSpanId, String name,
+                   long startEpochNanos, long endEpochNanos, Map<String, Object> attributes,
+                   Status status, String statusMessage) {
+
+    public Span {
+        attributes = ImmutableMap.copyOf(attributes);
+    }
+
+    /**
+     * Returns the span duration.
+     *
+     * @return duration in nanoseconds
+     */
+    public long durationNanos() {
+        return endEpochNanos - startEpochNanos;
+    }
+
+    /**
+     * Span status, with the OTLP status codes.
+     */
+    public enum Status {
+        UNSET(0), OK(1), ERROR(2);
+
+        private final int code;
+
+        Status(final int code) {
+            this.code = code;
+        }
+
+        public int getCode() {
+            return code;
+        }
+    }
+}
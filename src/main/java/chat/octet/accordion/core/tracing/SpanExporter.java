@@ -0,0 +1,26 @@
+package chat.octet.accordion.core.tracing;
+
+import java.util.List;
+
+/**
+ * Receives the spans of every sampled run once the run has ended.
+ *
+ * @author <a href="https://github.com/eoctet">William</a>
+ * @since 1.0.1
+ */
+public interface SpanExporter extends AutoCloseable {
+
+    /**
+     * Exports the spans of a run, the root span first.
+     *
+     * @param spans spans of the run.
+     */
+    void export(List<Span> spans);
+
+    /**
+     * Releases the exporter resources. The default implementation does nothing.
+     */
+    @Override
+    default void close() {
+    }
+}
@@ -0,0 +1,85 @@
+package chat.octet.accordion.core.tracing;
+
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.RateLimiter;
+
+/**
+ * Decides at the start of a run whether the run is traced.
+ * <p>
+ * Unsampled runs create no spans at all, so sampling bounds the tracing cost at high rates.
+ * </p>
+ *
+ * @author <a href="https://github.com/eoctet">William</a>
+ * @since 1.0.1
+ */
+@FunctionalInterface
+public interface TraceSampler {
+
+    /**
+     * Checks whether the run with the trace id is traced.
+     *
+     * @param traceId trace id of the run, 32 lowercase hex characters.
+     * @return true to trace the run
+     */
+    boolean shouldSample(String traceId);
+
+    /**
+     * Returns a sampler tracing every run.
+     *
+     * @return sampler
+     */
+    static TraceSampler always() {
+        return traceId -> true;
+    }
+
+    /**
+     * Returns a sampler tracing no run.
+     *
+     * @return sampler
+     */
+    static TraceSampler never() {
+        return traceId -> false;
+    }
+
+    /**
+     * Returns a sampler tracing a ratio of the runs, decided by the trace id as in the OpenTelemetry
+     * {@code TraceIdRatioBased} sampler.
+     *
+     * @param ratio traced ratio between 0 and 1.
+     * @return sampler
+     */
+    static TraceSampler ratio(final double ratio) {
+        Preconditions.checkArgument(ratio >= 0 && ratio <= 1, "Ratio must be between 0 and 1");
+        if (ratio == 0) {
+            return never();
+        }
+        if (ratio == 1) {
+            return always();
+        }
+        long bound = (long) (ratio * Long.MAX_VALUE);
+        return traceId -> (Long.parseUnsignedLong(traceId.substring(16), 16) >>> 1) < bound;
+    }
+
+    /**
+     * Returns a sampler tracing at most the given number of runs per second.
+     *
+     * @param tracesPerSecond maximum traced runs per second.
+     * @return sampler
+     */
+    static TraceSampler rateLimited(final double tracesPerSecond) {
+        Preconditions.checkArgument(tracesPerSecond > 0, "Traces per second must be positive");
+        RateLimiter limiter = RateLimiter.create(tracesPerSecond);
+        return traceId -> limiter.tryAcquire();
+    }
+
+    /**
+     * Returns a sampler tracing the runs accepted by this sampler and by the other sampler.
+     *
+     * @param other other sampler, only asked for runs accepted by this sampler.
+     * @return sampler
+     */
+    default TraceSampler and(final TraceSampler other) {
+        Preconditions.checkNotNull(other, "Sampler cannot be null");
+        return traceId -> shouldSample(traceId) && other.shouldSample(traceId);
+    }
+}
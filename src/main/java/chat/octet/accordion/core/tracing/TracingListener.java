@@ -0,0 +1,174 @@
+package chat.octet.accordion.core.tracing;
+
+import chat.octet.accordion.core.enums.GraphNodeStatus;
+import chat.octet.accordion.core.listener.ExecutionListener;
+import chat.octet.accordion.core.listener.NodeEvent;
+import chat.octet.accordion.core.listener.RunEvent;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Execution listener turning sampled runs into spans.
+ * <p>
+ * Each run becomes a root span named {@code accordion.play}, and each executed or skipped node a child span
+ * named after its action type, with the action id, name and type, the node status and the error as attributes.
+ * The spans of a run are handed to the {@link SpanExporter} when the run ends. Runs rejected by the
+ * {@link TraceSampler} are not tracked at all.
+ * </p>
+ *
+ * <pre>{@code
+ * RingBufferSpanExporter exporter = new RingBufferSpanExporter(10_000);
+ * accordion.addListener(new TracingListener(TraceSampler.ratio(0.1), exporter));
+ * }</pre>
+ *
+ * @author <a href="https://github.com/eoctet">William</a>
+ * @since 1.0.1
+ */
+@Slf4j
+public final class TracingListener implements ExecutionListener {
+
+    static final String RUN_SPAN_NAME = "accordion.play";
+
+    private final TraceSampler sampler;
+    private final SpanExporter exporter;
+    private final Map<String, RunTrace> traces = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a tracing listener.
+     *
+     * @param sampler  run sampler.
+     * @param exporter span exporter.
+     */
+    public TracingListener(final TraceSampler sampler, final SpanExporter exporter) {
+        this.sampler = Preconditions.checkNotNull(sampler, "Sampler cannot be null");
+        this.exporter = Preconditions.checkNotNull(exporter, "Exporter cannot be null");
+    }
+
+    @Override
+    public void onRunStart(final RunEvent event) {
+        String traceId = randomId(2);
+        if (sampler.shouldSample(traceId)) {
+            traces.put(event.runId(), new RunTrace(traceId, randomId(1), event));
+        }
+    }
+
+    @Override
+    public void onNodeEnd(final NodeEvent event) {
+        RunTrace trace = traces.get(event.runId());
+        if (trace != null) {
+            trace.addNode(event, event.nanoTime() - event.durationNanos());
+        }
+    }
+
+    @Override
+    public void onNodeSkip(final NodeEvent event) {
+        RunTrace trace = traces.get(event.runId());
+        if (trace != null) {
+            trace.addNode(event, event.nanoTime());
+        }
+    }
+
+    @Override
+    public void onRunEnd(final RunEvent event) {
+        RunTrace trace = traces.remove(event.runId());
+        if (trace != null) {
+            try {
+                exporter.export(trace.finish(event));
+            } catch (Exception e) {
+                log.warn("Spans of run {} cannot be exported: {}", event.runId(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Returns the number of sampled runs that have not ended yet.
+     *
+     * @return active traces
+     */
+    public int getActiveTraceCount() {
+        return traces.size();
+    }
+
+    private static String randomId(final int longs) {
+        StringBuilder builder = new StringBuilder(longs * 16);
+        for (int i = 0; i < longs; i++) {
+            long value;
+            do {
+                value = ThreadLocalRandom.current().nextLong();
+            } while (value == 0);
+            String hex = Long.toHexString(value);
+            builder.append("0".repeat(16 - hex.length())).append(hex);
+        }
+        return builder.toString();
+    }
+
+    private static final class RunTrace {
+        private final String traceId;
+        private final String rootSpanId;
+        private final RunEvent start;
+        private final long epochAnchorNanos;
+        private final List<Span> nodeSpans = Lists.newArrayList();
+
+        RunTrace(final String traceId, final String rootSpanId, final RunEvent start) {
+            this.traceId = traceId;
+            this.rootSpanId = rootSpanId;
+            this.start = start;
+            Instant now = Instant.now();
+            this.epochAnchorNanos = TimeUnit.SECONDS.toNanos(now.getEpochSecond()) + now.getNano()
+                    - (System.nanoTime() - start.nanoTime());
+        }
+
+        private long epochNanos(final long nanoTime) {
+            return epochAnchorNanos + (nanoTime - start.nanoTime());
+        }
+
+        void addNode(final NodeEvent event, final long startNanoTime) {
+            Map<String, Object> attributes = Maps.newLinkedHashMap();
+            attributes.put("accordion.action.id", event.actionId());
+            attributes.put("accordion.action.name", String.valueOf(event.actionName()));
+            attributes.put("accordion.action.type", String.valueOf(event.actionType()));
+            attributes.put("accordion.node.status", event.status().name());
+            Span.Status status = switch (event.status()) {
+                case SUCCESS -> Span.Status.OK;
+                case ERROR -> Span.Status.ERROR;
+                default -> Span.Status.UNSET;
+            };
+            String message = null;
+            if (event.status() == GraphNodeStatus.ERROR && event.error() != null) {
+                attributes.put("exception.type", event.error().getClass().getName());
+                message = String.valueOf(event.error().getMessage());
+                attributes.put("exception.message", message);
+            }
+            nodeSpans.add(new Span(traceId, randomId(1), rootSpanId, String.valueOf(event.actionType()),
+                    epochNanos(startNanoTime), epochNanos(event.nanoTime()), attributes, status, message));
+        }
+
+        List<Span> finish(final RunEvent end) {
+            Map<String, Object> attributes = Maps.newLinkedHashMap();
+            attributes.put("accordion.run.id", end.runId());
+            attributes.put("accordion.plan.node_count", end.nodeCount());
+            String message = null;
+            if (end.isFailed()) {
+                attributes.put("exception.type", end.error().getClass().getName());
+                message = String.valueOf(end.error().getMessage());
+                attributes.put("exception.message", message);
+            }
+            Span.Status status = end.isFailed() ? Span.Status.ERROR : Span.Status.OK;
+            Span root = new Span(traceId, rootSpanId, null, RUN_SPAN_NAME, epochNanos(start.nanoTime()),
+                    epochNanos(end.nanoTime()), attributes, status, message);
+            List<Span> spans = Lists.newArrayListWithCapacity(nodeSpans.size() + 1);
+            spans.add(root);
+            spans.addAll(nodeSpans);
+            return spans;
+        }
+    }
+}
@@ -6,11 +6,14 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.Pair;
 
 import javax.annotation.Nullable;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
+import java.util.Map;
 import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Utility class for JSON serialization and deserialization operations.
@@ -62,6 +65,12 @@ import java.util.TimeZone;
  * LinkedList<String> list = JsonUtils.parseJsonToList(json, String.class);
  * }</pre>
  *
+ * <p><strong>Object Binding:</strong></p>
+ * <pre>{@code
+ * Map<String, Object> raw = Map.of("expression", "x > 1");
+ * ConditionParameter params = JsonUtils.convertValue(raw, ConditionParameter.class);
+ * }</pre>
+ *
  * <p>Error Handling: All methods handle exceptions gracefully, logging errors
  * and returning null for failed operations. Callers should check for null
  * return values and handle them appropriately.</p>
@@ -80,6 +89,13 @@ public final class JsonUtils {
      */
     private static final ObjectMapper JACKSON_MAPPER = new ObjectMapper();
 
+    /**
+     * Resolved collection types, constructing a {@link JavaType} is not free and the
+     * same element types are requested over and over again.
+     */
+    private static final Map<Class<?>, JavaType> LIST_TYPES = new ConcurrentHashMap<>();
+    private static final Map<Pair<Class<?>, Class<?>>, JavaType> MAP_TYPES = new ConcurrentHashMap<>();
+
     static {
         JACKSON_MAPPER.setTimeZone(TimeZone.getDefault());
         JACKSON_MAPPER.registerModule(new JavaTimeModule());
@@ -182,7 +198,7 @@ public final class JsonUtils {
      */
     public static <K, V> LinkedHashMap<K, V> parseJsonToMap(final String json, @Nullable final Class<K> key,
                                                             @Nullable final Class<V> value) {
-        JavaType javaType = JACKSON_MAPPER.getTypeFactory().constructMapType(LinkedHashMap.class, key, value);
+        JavaType javaType = mapType(key, value);
         try {
             if (StringUtils.isNotBlank(json)) {
                 return JACKSON_MAPPER.readValue(json, javaType);
@@ -224,7 +240,7 @@ public final class JsonUtils {
      * @since 1.0.0
      */
     public static <E> LinkedList<E> parseJsonToList(final String json, @Nullable final Class<E> clazz) {
-        JavaType javaType = JACKSON_MAPPER.getTypeFactory().constructParametricType(LinkedList.class, clazz);
+        JavaType javaType = listType(clazz);
         try {
             if (StringUtils.isNotBlank(json)) {
                 return JACKSON_MAPPER.readValue(json, javaType);
@@ -235,4 +251,65 @@ public final class JsonUtils {
         return null;
     }
 
+    /**
+     * Binds an already parsed value (maps, lists, scalars) directly to an object of the specified type.
+     *
+     * <p>Unlike {@code parseToObject(toJson(value), clazz)} this method never produces an
+     * intermediate JSON string, the value tree is bound by Jackson in a single pass.
+     * Values that are already an instance of the target type are returned as is.</p>
+     *
+     * @param <T>   the target type for binding
+     * @param value the value to bind, may be null
+     * @param clazz the target class type
+     * @return the bound object, or null if binding fails or value is null
+     * @since 1.0.1
+     */
+    public static <T> T convertValue(@Nullable final Object value, final Class<T> clazz) {
+        if (value == null) {
+            return null;
+        }
+        if (clazz.isInstance(value)) {
+            return clazz.cast(value);
+        }
+        try {
+            return JACKSON_MAPPER.convertValue(value, clazz);
+        } catch (Exception ex) {
+            log.error("Convert value to Object error", ex);
+        }
+        return null;
+    }
+
+    /**
+     * Binds an already parsed collection value directly to a LinkedList with specified element type.
+     *
+     * @param <E>   the type of list elements
+     * @param value the value to bind, may be null
+     * @param clazz the class type for list elements
+     * @return the bound LinkedList, or null if binding fails or value is null
+     * @since 1.0.1
+     */
+    public static <E> LinkedList<E> convertToList(@Nullable final Object value, @Nullable final Class<E> clazz) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return JACKSON_MAPPER.convertValue(value, listType(clazz));
+        } catch (Exception ex) {
+            log.error("Convert value to List error", ex);
+        }
+        return null;
+    }
+
+    private static JavaType listType(@Nullable final Class<?> clazz) {
+        return LIST_TYPES.computeIfAbsent(clazz != null ? clazz : Object.class,
+                c -> JACKSON_MAPPER.getTypeFactory().constructCollectionType(LinkedList.class, c));
+    }
+
+    private static JavaType mapType(@Nullable final Class<?> key, @Nullable final Class<?> value) {
+        Pair<Class<?>, Class<?>> types = Pair.of(key != null ? key : Object.class,
+                value != null ? value : Object.class);
+        return MAP_TYPES.computeIfAbsent(types,
+                p -> JACKSON_MAPPER.getTypeFactory().constructMapType(LinkedHashMap.class, p.getLeft(), p.getRight()));
+    }
+
 }
@@ -1,8 +1,16 @@
 package chat.octet.accordion;
 
+import chat.octet.accordion.action.AbstractAction;
+import chat.octet.accordion.action.ActionRegister;
+import chat.octet.accordion.action.api.ApiParameter;
 import chat.octet.accordion.action.model.ActionConfig;
 import chat.octet.accordion.action.script.ScriptParameter;
+import chat.octet.accordion.action.stub.SleepParameter;
+import chat.octet.accordion.core.entity.WarmUpOptions;
+import chat.octet.accordion.core.entity.WarmUpReport;
 import chat.octet.accordion.core.enums.ActionType;
+import chat.octet.accordion.core.enums.GraphNodeStatus;
+import chat.octet.accordion.core.metrics.MetricsRegistry;
 import chat.octet.accordion.exceptions.ActionException;
 import chat.octet.accordion.test.AccordionTestBase;
 import org.junit.jupiter.api.DisplayName;
@@ -11,6 +19,10 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.assertThatCode;
@@ -182,6 +194,134 @@ class AccordionPlanTest extends AccordionTestBase {
         }
     }
 
+    @Nested
+    @DisplayName("Warm-up Tests")
+    class WarmUpTests {
+
+        @Test
+        @DisplayName("Should warm up plan with dry runs and stubbed side effects")
+        void shouldWarmUpPlanWithDryRuns() {
+            // Given
+            ActionConfig script = createTestAction("Warm Script");
+            ActionConfig api = ActionConfig.builder()
+                    .id(createTestActionId("API"))
+                    .actionType(ActionType.API.name())
+                    .actionName("Stubbed API")
+                    .actionParams(ApiParameter.builder().url("http://127.0.0.1:1/unreachable").build())
+                    .build();
+            AccordionPlan plan = AccordionPlan.of().start(script).next(script, api);
+
+            // When
+            WarmUpReport report = plan.warmUp(WarmUpOptions.builder().dryRuns(2).build());
+
+            // Then
+            assertThat(report.isSuccess()).isTrue();
+            assertThat(report.getWarmedActions()).isEqualTo(2);
+            assertThat(report.getDryRunTimes()).hasSize(2);
+            assertThat(plan.getGraphNodes()).allMatch(node -> node.getStatus() == GraphNodeStatus.NORMAL);
+        }
+
+        @Test
+        @DisplayName("Should stub out action types outside the dry run allowlist")
+        void shouldStubOutUnlistedActionTypes() {
+            // Given
+            ActionConfig script = createTestAction("Warm Script");
+            ActionConfig sleep = ActionConfig.builder()
+                    .id(createTestActionId("SLEEP"))
+                    .actionType(ActionType.SLEEP.name())
+                    .actionName("Stubbed Sleep")
+                    .actionParams(SleepParameter.builder().durationMicros(TimeUnit.SECONDS.toMicros(1)).build())
+                    .build();
+            AccordionPlan plan = AccordionPlan.of().start(script).next(script, sleep);
+
+            // When
+            WarmUpReport report = plan.warmUp(WarmUpOptions.builder().dryRuns(1).build());
+
+            // Then
+            assertThat(report.isSuccess()).isTrue();
+            assertThat(report.getDryRunTimes()).allMatch(time -> time.compareTo(Duration.ofSeconds(1)) < 0);
+            try (Accordion accordion = new Accordion(plan)) {
+                accordion.play();
+                assertThat(plan.getGraphNodes()).allMatch(node -> node.getStatus() == GraphNodeStatus.SUCCESS);
+            }
+        }
+
+        @Test
+        @DisplayName("Should report actions that fail to warm up")
+        void shouldReportWarmUpFailures() {
+            // Given
+            ActionConfig invalid = ActionConfig.builder()
+                    .id(createTestActionId("INVALID"))
+                    .actionType(ActionType.SCRIPT.name())
+                    .actionName("Invalid Script")
+                    .actionParams(ScriptParameter.builder().script("invalid syntax here").build())
+                    .build();
+            AccordionPlan plan = AccordionPlan.of().start(invalid);
+
+            // When
+            WarmUpReport report = plan.warmUp(WarmUpOptions.builder().dryRuns(0).build());
+
+            // Then
+            assertThat(report.isSuccess()).isFalse();
+            assertThat(report.getFailures()).containsKey(invalid.getId());
+            assertThat(report.getDryRunTimes()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should report warm-up failures without a message")
+        void shouldReportFailuresWithoutMessage() {
+            // Given
+            ActionRegister.getInstance().register(MESSAGELESS_WARM_UP, MessagelessWarmUpAction.class.getName());
+            ActionConfig messageless = ActionConfig.builder()
+                    .id(createTestActionId("MESSAGELESS"))
+                    .actionType(MESSAGELESS_WARM_UP)
+                    .actionName("Messageless Warm-Up")
+                    .build();
+            AccordionPlan plan = AccordionPlan.of().start(messageless);
+
+            // When
+            WarmUpReport report = plan.warmUp(WarmUpOptions.builder().dryRuns(0).build());
+
+            // Then
+            assertThat(report.isSuccess()).isFalse();
+            assertThat(report.getFailures()).containsEntry(messageless.getId(), IllegalStateException.class.getName());
+        }
+
+        @Test
+        @DisplayName("Should not record dry runs in the metrics registry")
+        void shouldNotRecordDryRunMetrics() {
+            // Given
+            ActionConfig script = createTestAction("Warm Script");
+            AccordionPlan plan = AccordionPlan.of().start(script);
+            MetricsRegistry registry = new MetricsRegistry();
+
+            // When
+            try (Accordion accordion = new Accordion(plan).enableMetrics(registry).dryRun(Set.of())) {
+                accordion.play();
+            }
+
+            // Then
+            assertThat(registry.snapshot().runs()).isZero();
+        }
+    }
+
+    private static final String MESSAGELESS_WARM_UP = "MESSAGELESS_WARM_UP";
+
+    /**
+     * Action failing to warm up with an exception that has no message.
+     */
+    public static final class MessagelessWarmUpAction extends AbstractAction {
+
+        public MessagelessWarmUpAction(final ActionConfig actionConfig) {
+            super(actionConfig);
+        }
+
+        @Override
+        public void warmUp(final WarmUpOptions options) {
+            throw new IllegalStateException();
+        }
+    }
+
     // Helper methods
     private ActionConfig createTestAction(final String name) {
         return ActionConfig.builder()
@@ -1,15 +1,34 @@
 package chat.octet.accordion;
 
+import chat.octet.accordion.action.base.ConditionParameter;
 import chat.octet.accordion.action.model.ActionConfig;
+import chat.octet.accordion.action.model.MemoStats;
+import chat.octet.accordion.action.model.MemoizeConfig;
+import chat.octet.accordion.action.model.OutputParameter;
 import chat.octet.accordion.action.script.ScriptParameter;
+import chat.octet.accordion.core.entity.Message;
 import chat.octet.accordion.core.enums.ActionType;
+import chat.octet.accordion.core.enums.DataType;
+import chat.octet.accordion.core.enums.GraphNodeStatus;
+import chat.octet.accordion.core.listener.ExecutionListener;
+import chat.octet.accordion.core.listener.NodeEvent;
+import chat.octet.accordion.core.listener.RunEvent;
+import chat.octet.accordion.graph.entity.GraphEdge;
+import chat.octet.accordion.graph.entity.GraphNode;
 import chat.octet.accordion.test.AccordionTestBase;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 
@@ -51,6 +70,26 @@ class AccordionTest extends AccordionTestBase {
             }
         }
 
+        @Test
+        @DisplayName("Should execute the whole plan again when a non-verbose run is repeated")
+        void shouldReplayWholePlanOnReuse() {
+            // Given
+            ActionConfig first = script("FIRST", "1 + 1");
+            ActionConfig second = script("SECOND", "2 + 2");
+            AccordionPlan plan = AccordionPlan.of().start(first).next(first, second);
+            RecordingListener listener = new RecordingListener();
+
+            // When
+            try (Accordion accordion = new Accordion(plan).addListener(listener)) {
+                accordion.play();
+                accordion.play();
+            }
+
+            // Then
+            assertThat(listener.events).filteredOn(event -> event.startsWith("end:" + second.getId()))
+                    .containsExactly("end:" + second.getId() + ":SUCCESS", "end:" + second.getId() + ":SUCCESS");
+        }
+
         @Test
         @DisplayName("Should handle empty plan gracefully")
         void shouldHandleEmptyPlanGracefully() {
@@ -194,4 +233,397 @@ class AccordionTest extends AccordionTestBase {
             }
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("Execution Listener Tests")
+    class ExecutionListenerTests {
+
+        @Test
+        @DisplayName("Should notify run and node events in execution order")
+        void shouldNotifyEventsInOrder() {
+            // Given
+            ActionConfig first = script("FIRST", "1 + 1");
+            ActionConfig broken = script("BROKEN", "1 +");
+            ActionConfig skipped = script("SKIPPED", "2 + 2");
+            AccordionPlan plan = AccordionPlan.of().start(first).next(first, broken).next(broken, skipped);
+            RecordingListener listener = new RecordingListener();
+
+            // When
+            try (Accordion accordion = new Accordion(plan).addListener(listener)) {
+                accordion.play();
+            }
+
+            // Then
+            assertThat(listener.events).containsExactly(
+                    "runStart",
+                    "scheduled:" + first.getId(), "start:" + first.getId(), "end:" + first.getId() + ":SUCCESS",
+                    "scheduled:" + broken.getId(), "start:" + broken.getId(),
+                    "error:" + broken.getId() + ":ERROR", "end:" + broken.getId() + ":ERROR",
+                    "scheduled:" + skipped.getId(), "skip:" + skipped.getId() + ":SKIP",
+                    "runEnd");
+            assertThat(listener.nodeEnds).hasSize(2);
+            assertThat(listener.nodeEnds).allSatisfy(event -> assertThat(event.durationNanos()).isPositive());
+            assertThat(listener.nodeEnds.get(0).error()).isNull();
+            assertThat(listener.nodeEnds.get(1).error()).isNotNull();
+            assertThat(listener.runEnd.durationNanos()).isPositive();
+            assertThat(listener.runEnd.nodeCount()).isEqualTo(3);
+            assertThat(listener.runEnd.isFailed()).isFalse();
+            assertThat(listener.nodeEnds)
+                    .allSatisfy(event -> assertThat(event.runId()).isEqualTo(listener.runEnd.runId()));
+        }
+
+        @Test
+        @DisplayName("Should keep running when a listener fails")
+        void shouldIgnoreListenerFailures() {
+            // Given
+            AccordionPlan plan = AccordionPlan.of().start(script("FAILING", "1 + 1"));
+            ExecutionListener failing = new ExecutionListener() {
+                @Override
+                public void onNodeStart(final NodeEvent event) {
+                    throw new IllegalStateException("Listener failure");
+                }
+            };
+            RecordingListener listener = new RecordingListener();
+
+            // When & Then
+            try (Accordion accordion = new Accordion(plan).addListener(failing).addListener(listener)) {
+                assertThatCode(accordion::play).doesNotThrowAnyException();
+                assertThat(listener.nodeEnds).singleElement()
+                        .satisfies(event -> assertThat(event.status()).isEqualTo(GraphNodeStatus.SUCCESS));
+            }
+        }
+
+        @Test
+        @DisplayName("Should dispatch events asynchronously in order")
+        void shouldDispatchEventsAsynchronously() throws InterruptedException {
+            // Given
+            AccordionPlan plan = AccordionPlan.of().start(script("ASYNC", "1 + 1"));
+            CountDownLatch finished = new CountDownLatch(1);
+            List<String> threads = new CopyOnWriteArrayList<>();
+            RecordingListener listener = new RecordingListener() {
+                @Override
+                public void onRunEnd(final RunEvent event) {
+                    super.onRunEnd(event);
+                    threads.add(Thread.currentThread().getName());
+                    finished.countDown();
+                }
+            };
+
+            // When
+            try (Accordion accordion = new Accordion(plan).addListener(ExecutionListener.async(listener))) {
+                accordion.play();
+            }
+
+            // Then
+            assertThat(finished.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(threads).singleElement().asString().startsWith("accordion-listener-");
+            assertThat(listener.events).first().isEqualTo("runStart");
+            assertThat(listener.events).last().isEqualTo("runEnd");
+        }
+
+        @Test
+        @DisplayName("Should stop notifying removed listeners")
+        void shouldStopNotifyingRemovedListeners() {
+            // Given
+            AccordionPlan plan = AccordionPlan.of().start(script("REMOVED", "1 + 1"));
+            RecordingListener listener = new RecordingListener();
+
+            // When
+            try (Accordion accordion = new Accordion(plan).addListener(listener)) {
+                assertThat(accordion.removeListener(listener)).isTrue();
+                accordion.play();
+            }
+
+            // Then
+            assertThat(listener.events).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Execution Report Tests")
+    class ExecutionReportTests {
+
+        @Test
+        @DisplayName("Should record nodes with levels, statuses, timings and errors")
+        void shouldRecordStructuredReport() {
+            // Given
+            ActionConfig first = script("FIRST", "1 + 1");
+            ActionConfig broken = script("BROKEN", "1 +");
+            ActionConfig skipped = script("SKIPPED", "2 + 2");
+            AccordionPlan plan = AccordionPlan.of().start(first).next(first, broken).next(broken, skipped);
+
+            // When
+            try (Accordion accordion = new Accordion(plan)) {
+                accordion.play(true);
+                ExecutionReport report = accordion.report().orElseThrow();
+
+                // Then
+                assertThat(report.getNodes()).extracting(ExecutionReport.Node::getActionId)
+                        .containsExactly(first.getId(), broken.getId(), skipped.getId());
+                assertThat(report.getNodes()).extracting(ExecutionReport.Node::getLevel).containsExactly(0, 1, 2);
+                assertThat(report.getNodes()).extracting(ExecutionReport.Node::getStatus)
+                        .containsExactly(GraphNodeStatus.SUCCESS, GraphNodeStatus.ERROR, GraphNodeStatus.SKIP);
+                assertThat(report.getNodes().get(0).getDurationNanos()).isPositive();
+                assertThat(report.getNodes().get(1).getError()).isNotNull();
+                assertThat(report.getDurationNanos()).isPositive();
+                assertThat(accordion.verbose()).isEqualTo(
+                        "\ud83c\udd5e───⨀ ✅ FIRST Script (" + first.getId() + ")\n"
+                                + "    └───⨀ 🅾️ BROKEN Script (" + broken.getId() + ")\n"
+                                + "        └───⨀ 🟡 SKIPPED Script (" + skipped.getId() + ")\n");
+                assertThat(report.toJson())
+                        .contains("\"action_id\":\"" + broken.getId() + "\"")
+                        .contains("\"status\":\"ERROR\"")
+                        .contains("\"duration_nanos\":");
+            }
+        }
+
+        @Test
+        @DisplayName("Should not create a report without verbose mode")
+        void shouldNotCreateReportWithoutVerbose() {
+            // Given
+            AccordionPlan plan = AccordionPlan.of().start(script("QUIET", "1 + 1"));
+
+            // When & Then
+            try (Accordion accordion = new Accordion(plan)) {
+                accordion.play(true);
+                assertThat(accordion.report()).isPresent();
+                accordion.play(false);
+                assertThat(accordion.report()).isEmpty();
+                assertThat(accordion.verbose()).isEmpty();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Plan Profile Tests")
+    class PlanProfileTests {
+
+        @Test
+        @DisplayName("Should profile every node over all runs")
+        void shouldProfileNodes() {
+            // Given
+            ActionConfig root = script("PROFILE_ROOT", "1 + 1");
+            ActionConfig left = script("PROFILE_LEFT", "2 + 2");
+            ActionConfig right = script("PROFILE_RIGHT", "3 + 3");
+            AccordionPlan plan = AccordionPlan.of().start(root).next(root, left, right);
+
+            // When
+            try (Accordion accordion = new Accordion(plan)) {
+                PlanProfile profile = accordion.profile(20);
+
+                // Then
+                assertThat(profile.getRuns()).isEqualTo(20);
+                assertThat(profile.getRunLatency().getCount()).isEqualTo(20);
+                assertThat(profile.getNodes()).extracting(PlanProfile.NodeProfile::getActionId)
+                        .containsExactlyInAnyOrder(root.getId(), left.getId(), right.getId());
+                assertThat(profile.getNodes().get(0).getActionId()).isEqualTo(root.getId());
+                assertThat(profile.getNodes()).allSatisfy(node -> {
+                    assertThat(node.getExecutions()).isEqualTo(20);
+                    assertThat(node.getLatency().getCount()).isEqualTo(20);
+                    assertThat(node.getLatency().getMeanNanos()).isPositive();
+                    assertThat(node.getMeanPrepareNanos() + node.getMeanExecuteNanos() + node.getMeanOutputNanos())
+                            .isLessThanOrEqualTo((long) node.getLatency().getMeanNanos() + 1);
+                    assertThat(node.getMeanOutputParameters()).isEqualTo(1);
+                    assertThat(node.getMeanOutputBytes()).isPositive();
+                    if (profile.isAllocationMeasured()) {
+                        assertThat(node.getMeanAllocatedBytes()).isPositive();
+                    }
+                });
+                assertThat(profile.getNodes().get(0).getMeanInputParameters()).isZero();
+                assertThat(profile.getNodes().get(1).getMeanInputParameters()).isEqualTo(1);
+                assertThat(profile.getCriticalPath()).hasSize(2).first().isEqualTo(root.getId());
+                assertThat(profile.getCriticalPathNanos()).isPositive();
+                assertThat(profile.getNodes()).filteredOn(PlanProfile.NodeProfile::isCritical).hasSize(2);
+                String[] lines = profile.toText().split("\n");
+                assertThat(lines).hasSize(4);
+                assertThat(lines[0])
+                        .startsWith("\ud83c\udd5e───⨀ PROFILE_ROOT Script (" + root.getId() + ") mean=")
+                        .contains(" prepare=", " execute=", " output=", " out=1/").endsWith(" *");
+                assertThat(lines[1]).startsWith("    ├───⨀ ");
+                assertThat(lines[2]).startsWith("    └───⨀ ");
+                assertThat(lines[3]).startsWith("Runs: 20, mean=");
+                assertThat(profile.toJson()).contains("\"critical_path\":[\"" + root.getId() + "\"");
+            }
+        }
+
+        @Test
+        @DisplayName("Should count errors and skips of profiled nodes")
+        void shouldProfileErrorsAndSkips() {
+            // Given
+            ActionConfig first = script("PROFILE_FIRST", "1 + 1");
+            ActionConfig broken = script("PROFILE_BROKEN", "1 +");
+            ActionConfig skipped = script("PROFILE_SKIPPED", "2 + 2");
+            AccordionPlan plan = AccordionPlan.of().start(first).next(first, broken).next(broken, skipped);
+
+            // When
+            try (Accordion accordion = new Accordion(plan)) {
+                PlanProfile profile = accordion.profile(3);
+
+                // Then
+                assertThat(profile.getNodes()).extracting(PlanProfile.NodeProfile::getErrors)
+                        .containsExactly(0L, 3L, 0L);
+                assertThat(profile.getNodes()).extracting(PlanProfile.NodeProfile::getSkips)
+                        .containsExactly(0L, 0L, 3L);
+                assertThat(profile.toText())
+                        .contains(" errors=3")
+                        .contains("        └───⨀ PROFILE_SKIPPED Script (" + skipped.getId() + ") skipped");
+                assertThat(accordion.verbose()).contains("PROFILE_SKIPPED Script");
+            }
+        }
+
+        @Test
+        @DisplayName("Should find the critical path of deep plans without recursion")
+        void shouldProfileDeepPlans() {
+            // Given
+            int depth = 50_000;
+            GraphNode root = new GraphNode();
+            root.setActionId("deep-0");
+            root.setEdges(Sets.newHashSet());
+            GraphNode node = root;
+            for (int i = 1; i < depth; i++) {
+                GraphNode next = new GraphNode();
+                next.setActionId("deep-" + i);
+                next.setEdges(Sets.newHashSet());
+                node.addEdge(new GraphEdge(node, next));
+                node = next;
+            }
+
+            // When
+            PlanProfile profile = new PlanProfile(1).complete(root);
+
+            // Then
+            assertThat(profile.getCriticalPath()).hasSize(depth).first().isEqualTo("deep-0");
+            assertThat(profile.getCriticalPath()).last().isEqualTo("deep-" + (depth - 1));
+            assertThat(profile.getCriticalPathNanos()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("Memoization Tests")
+    class MemoizationTests {
+
+        @Test
+        @DisplayName("Should replay memoized results of repeated inputs")
+        void shouldReplayMemoizedResults() {
+            // Given
+            ActionConfig doubled = ActionConfig.builder()
+                    .id(createTestActionId("MEMO_DOUBLE"))
+                    .actionType(ActionType.SCRIPT.name())
+                    .actionName("Memoized Script")
+                    .actionParams(ScriptParameter.builder().script("a * 2").build())
+                    .actionOutput(Lists.newArrayList(new OutputParameter("b", DataType.LONG, "Doubled")))
+                    .memoize(MemoizeConfig.builder().build())
+                    .build();
+            ActionConfig increment = ActionConfig.builder()
+                    .id(createTestActionId("MEMO_INCREMENT"))
+                    .actionType(ActionType.SCRIPT.name())
+                    .actionName("Increment Script")
+                    .actionParams(ScriptParameter.builder().script("b + 1").build())
+                    .actionOutput(Lists.newArrayList(new OutputParameter("c", DataType.LONG, "Incremented")))
+                    .build();
+            AccordionPlan plan = AccordionPlan.of().start(doubled).next(doubled, increment);
+
+            // When
+            try (Accordion accordion = new Accordion(plan)) {
+                List<Object> results = Lists.newArrayList();
+                for (long a : new long[]{2L, 2L, 3L, 2L}) {
+                    Message message = new Message();
+                    message.put("a", a);
+                    results.add(accordion.play(message).getValue("c"));
+                }
+
+                // Then
+                assertThat(results).containsExactly(5L, 5L, 7L, 5L);
+                assertThat(accordion.memoStats()).containsOnlyKeys(doubled.getId());
+                MemoStats stats = accordion.memoStats().get(doubled.getId());
+                assertThat(stats.hits()).isEqualTo(2);
+                assertThat(stats.misses()).isEqualTo(2);
+                assertThat(stats.size()).isEqualTo(2);
+                assertThat(stats.hitRate()).isEqualTo(0.5D);
+            }
+            assertThat(AccordionPlan.of().importConfig(plan.exportToJsonConfig()).exportToJsonConfig())
+                    .contains("\"memoize\":{\"ttl\":60000,\"maximum_size\":1000}");
+        }
+
+        @Test
+        @DisplayName("Should replay memoized condition results")
+        void shouldReplayMemoizedConditions() {
+            // Given
+            ActionConfig condition = ActionConfig.builder()
+                    .id(createTestActionId("MEMO_CONDITION"))
+                    .actionType(ActionType.CONDITION.name())
+                    .actionName("Memoized Condition")
+                    .actionParams(ConditionParameter.builder().expression("a > 1").build())
+                    .memoize(MemoizeConfig.builder().ttl(60_000L).maximumSize(10L).build())
+                    .build();
+            ActionConfig next = script("MEMO_NEXT", "1");
+            AccordionPlan plan = AccordionPlan.of().start(condition).next(condition, next);
+
+            // When
+            try (Accordion accordion = new Accordion(plan)) {
+                Message message = new Message();
+                message.put("a", 0);
+                accordion.play(message, true);
+                accordion.play(message, true);
+
+                // Then
+                assertThat(accordion.report().orElseThrow().getNodes())
+                        .extracting(ExecutionReport.Node::getStatus)
+                        .containsExactly(GraphNodeStatus.SUCCESS, GraphNodeStatus.SKIP);
+                assertThat(accordion.memoStats().get(condition.getId()).hits()).isEqualTo(1);
+            }
+        }
+    }
+
+    private ActionConfig script(final String prefix, final String expression) {
+        return ActionConfig.builder()
+                .id(createTestActionId(prefix))
+                .actionType(ActionType.SCRIPT.name())
+                .actionName(prefix + " Script")
+                .actionParams(ScriptParameter.builder().script(expression).build())
+                .build();
+    }
+
+    private static class RecordingListener implements ExecutionListener {
+        final List<String> events = new CopyOnWriteArrayList<>();
+        final List<NodeEvent> nodeEnds = new CopyOnWriteArrayList<>();
+        volatile RunEvent runEnd;
+
+        @Override
+        public void onRunStart(final RunEvent event) {
+            events.add("runStart");
+        }
+
+        @Override
+        public void onRunEnd(final RunEvent event) {
+            runEnd = event;
+            events.add("runEnd");
+        }
+
+        @Override
+        public void onNodeScheduled(final NodeEvent event) {
+            events.add("scheduled:" + event.actionId());
+        }
+
+        @Override
+        public void onNodeStart(final NodeEvent event) {
+            events.add("start:" + event.actionId());
+        }
+
+        @Override
+        public void onNodeEnd(final NodeEvent event) {
+            nodeEnds.add(event);
+            events.add("end:" + event.actionId() + ":" + event.status());
+        }
+
+        @Override
+        public void onNodeSkip(final NodeEvent event) {
+            events.add("skip:" + event.actionId() + ":" + event.status());
+        }
+
+        @Override
+        public void onNodeError(final NodeEvent event) {
+            events.add("error:" + event.actionId() + ":" + event.status());
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package chat.octet.accordion.action;
+
+import chat.octet.accordion.action.base.SwitchAction;
+import chat.octet.accordion.action.model.ActionConfig;
+import chat.octet.accordion.action.model.ExecuteResult;
+import chat.octet.accordion.action.model.MemoizeConfig;
+import chat.octet.accordion.core.entity.LineStream;
+import chat.octet.accordion.core.enums.ActionType;
+import chat.octet.accordion.graph.entity.SwitchFilter;
+import chat.octet.accordion.utils.CommonUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for action result memoization.
+ *
+ * @author <a href="https://github.com/eoctet">William</a>
+ */
+@DisplayName("ActionMemo Tests")
+class ActionMemoTest {
+
+    @Nested
+    @DisplayName("Key Tests")
+    class KeyTests {
+
+        @Test
+        @DisplayName("Should hash inputs by value regardless of map order")
+        void shouldHashByValue() {
+            // Given
+            Map<String, Object> first = new LinkedHashMap<>();
+            first.put("a", 1L);
+            first.put("b", Map.of("x", List.of("y", "z")));
+            Map<String, Object> second = new LinkedHashMap<>();
+            second.put("b", Map.of("x", List.of("y", "z")));
+            second.put("a", 1L);
+
+            // When & Then
+            assertThat(ActionMemo.key(first)).isEqualTo(ActionMemo.key(second));
+            assertThat(ActionMemo.key(first)).isNotEqualTo(ActionMemo.key(Map.of("a", 1L)));
+            assertThat(ActionMemo.key(Map.of("a", 1L))).isNotEqualTo(ActionMemo.key(Map.of("a", 1)));
+            assertThat(ActionMemo.key(Map.of("a", "1"))).isNotEqualTo(ActionMemo.key(Map.of("a", 1)));
+        }
+
+        @Test
+        @DisplayName("Should not hash inputs holding arbitrary objects")
+        void shouldNotHashArbitraryObjects() {
+            // When & Then
+            assertThat(ActionMemo.key(Map.of("a", new Object()))).isNull();
+            assertThat(ActionMemo.key(Map.of("a", List.of(new StringBuilder("x"), new Object())))).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("Cache Tests")
+    class CacheTests {
+
+        @Test
+        @DisplayName("Should count hits and misses and evict by size")
+        void shouldEvictBySize() {
+            // Given
+            ActionMemo memo = new ActionMemo(MemoizeConfig.builder().maximumSize(1L).build());
+
+            // When
+            memo.put(ActionMemo.key(Map.of("a", 1)), ExecuteResult.success("b", 2));
+            ExecuteResult hit = memo.get(ActionMemo.key(Map.of("a", 1)));
+            memo.put(ActionMemo.key(Map.of("a", 2)), ExecuteResult.success("b", 4));
+            ExecuteResult evicted = memo.get(ActionMemo.key(Map.of("a", 1)));
+
+            // Then
+            assertThat(hit.getValue("b")).isEqualTo(2);
+            assertThat(evicted).isNull();
+            assertThat(memo.stats().hits()).isEqualTo(1);
+            assertThat(memo.stats().misses()).isEqualTo(1);
+            assertThat(memo.stats().evictions()).isEqualTo(1);
+            assertThat(memo.stats().size()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should expire results after the TTL")
+        void shouldExpireResults() throws InterruptedException {
+            // Given
+            ActionMemo memo = new ActionMemo(MemoizeConfig.builder().ttl(20L).build());
+            memo.put(ActionMemo.key(Map.of("a", 1)), ExecuteResult.success("b", 2));
+
+            // When
+            Thread.sleep(50L);
+
+            // Then
+            assertThat(memo.get(ActionMemo.key(Map.of("a", 1)))).isNull();
+        }
+
+        @Test
+        @DisplayName("Should replay copies that cannot corrupt the memoized result")
+        void shouldReplayCopies() {
+            // Given
+            ActionMemo memo = new ActionMemo(MemoizeConfig.builder().build());
+            SwitchFilter filter = new SwitchFilter();
+            filter.put("branch", true);
+            ExecuteResult result = ExecuteResult.success(SwitchAction.ACTION_SWITCH_CONTROL, filter);
+            memo.put(ActionMemo.key(Map.of()), result);
+
+            // When
+            filter.clear();
+            memo.get(ActionMemo.key(Map.of())).getSwitchFilter().clear();
+
+            // Then
+            assertThat(memo.get(ActionMemo.key(Map.of())).getSwitchFilter()).containsEntry("branch", true);
+        }
+
+        @Test
+        @DisplayName("Should replay copies of nested lists and maps")
+        void shouldReplayNestedCopies() {
+            // Given
+            ActionMemo memo = new ActionMemo(MemoizeConfig.builder().build());
+            List<Object> items = new ArrayList<>(List.of("a"));
+            Map<String, Object> body = new HashMap<>(Map.of("items", items));
+            memo.put(ActionMemo.key(Map.of()), ExecuteResult.success("body", body));
+
+            // When
+            items.add("b");
+            @SuppressWarnings("unchecked")
+            Map<String, Object> replayed = memo.get(ActionMemo.key(Map.of())).getValue("body", Map.class);
+            replayed.put("extra", true);
+            ((List<Object>) replayed.get("items")).clear();
+
+            // Then
+            assertThat(memo.get(ActionMemo.key(Map.of())).getValue("body"))
+                    .isEqualTo(Map.of("items", List.of("a")));
+        }
+
+        @Test
+        @DisplayName("Should not memoize line streams or reject invalid bounds")
+        void shouldNotMemoizeLineStreams() {
+            // Given
+            ActionMemo memo = new ActionMemo(MemoizeConfig.builder().build());
+            LineStream lines = LineStream.of("lines", new StringReader("x"), () -> {
+            });
+
+            // When
+            memo.put(ActionMemo.key(Map.of()), ExecuteResult.success("lines", lines));
+
+            // Then
+            assertThat(memo.stats().size()).isZero();
+            assertThatThrownBy(() -> new ActionMemo(MemoizeConfig.builder().ttl(0L).build()))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Serialization Tests")
+    class SerializationTests {
+
+        @Test
+        @DisplayName("Should rebuild the memo of deserialized actions")
+        void shouldRebuildMemoOnDeserialization() throws Exception {
+            // Given
+            ActionConfig config = ActionConfig.builder()
+                    .id(CommonUtils.randomString("MEMO_SERIAL"))
+                    .actionType(ActionType.NOOP.name())
+                    .actionName("Memoized Action")
+                    .memoize(MemoizeConfig.builder().build())
+                    .build();
+            ActionService action = new MemoizedAction(config);
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+                out.writeObject(action);
+            }
+
+            // When
+            ActionService copy;
+            try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+                copy = (ActionService) in.readObject();
+            }
+
+            // Then
+            assertThat(copy.getMemoStats()).isNotNull();
+            assertThat(copy.getMemoStats().size()).isZero();
+        }
+    }
+
+    private static final class MemoizedAction extends AbstractAction {
+
+        MemoizedAction(final ActionConfig config) {
+            super(config);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package chat.octet.accordion.action.email;
+
+import chat.octet.accordion.action.AbstractAction;
+import chat.octet.accordion.action.model.ActionConfig;
+import chat.octet.accordion.core.entity.Message;
+import chat.octet.accordion.core.entity.Session;
+import chat.octet.accordion.core.enums.ActionType;
+import chat.octet.accordion.utils.CommonUtils;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.GreenMailUtil;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import javax.mail.MessagingException;
+import javax.mail.internet.MimeMessage;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for EmailAction SMTP delivery.
+ *
+ * @author <a href="https://github.com/eoctet">William</a>
+ */
+@DisplayName("EmailAction Tests")
+class EmailActionTest {
+
+    @RegisterExtension
+    static final GreenMailExtension GREEN_MAIL = new GreenMailExtension(ServerSetupTest.SMTP.dynamicPort());
+
+    private static EmailParameter.EmailParameterBuilder emailParameter(final String subject) {
+        return EmailParameter.builder()
+                .server("127.0.0.1")
+                .smtpPort(GREEN_MAIL.getSmtp().getPort())
+                .from("accordion@octet.chat")
+                .to("user@octet.chat")
+                .subject(subject)
+                .content("<p>Hello ${name}</p>");
+    }
+
+    private static long received(final String subject) throws MessagingException {
+        long count = 0;
+        for (MimeMessage message : GREEN_MAIL.getReceivedMessages()) {
+            if (subject.equals(message.getSubject())) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static EmailAction createAction(final EmailParameter params) {
+        return createAction(params, new Message());
+    }
+
+    private static EmailAction createAction(final EmailParameter params, final Message message) {
+        EmailAction action = new EmailAction(ActionConfig.builder()
+                .id(CommonUtils.randomString("ACT"))
+                .actionType(ActionType.EMAIL.name())
+                .actionName("Email")
+                .actionParams(params)
+                .build());
+        Session session = new Session();
+        session.add(AbstractAction.ACCORDION_MESSAGE, message);
+        action.prepare(session);
+        return action;
+    }
+
+    private static MimeMessage lastReceived(final String subject) throws MessagingException {
+        MimeMessage last = null;
+        for (MimeMessage message : GREEN_MAIL.getReceivedMessages()) {
+            if (subject.equals(message.getSubject())) {
+                last = message;
+            }
+        }
+        return last;
+    }
+
+    @Nested
+    @DisplayName("Pooled Transport Tests")
+    class PooledTransportTests {
+
+        @Test
+        @DisplayName("Should send emails without pooling")
+        void shouldSendWithoutPooling() throws MessagingException {
+            EmailAction action = createAction(emailParameter("Unpooled").build());
+
+            action.execute();
+
+            assertThat(action.checkError()).isFalse();
+            assertThat(received("Unpooled")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should reuse one SMTP connection for sequential emails")
+        void shouldReuseConnection() throws MessagingException {
+            EmailParameter params = emailParameter("Pooled").pooled(true).build();
+            EmailAction action = createAction(params);
+
+            IntStream.range(0, 5).forEach(i -> action.execute());
+
+            assertThat(action.checkError()).isFalse();
+            SmtpTransportPool pool = SmtpTransportPool.get(SmtpTransportPool.SmtpProfile.of(params));
+            assertThat(pool.getConnectionCount()).isEqualTo(1);
+            assertThat(pool.idleSize()).isEqualTo(1);
+            assertThat(received("Pooled")).isEqualTo(5);
+        }
+    }
+
+    @Nested
+    @DisplayName("Outbox Tests")
+    class OutboxTests {
+
+        @Test
+        @DisplayName("Should write emails to the outbox and send them in the background")
+        void shouldSendThroughOutbox() throws MessagingException, InterruptedException {
+            EmailAction action = createAction(emailParameter("Outbox").outbox(true).build());
+
+            action.execute();
+
+            assertThat(action.checkError()).isFalse();
+            long deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+            while (received("Outbox") == 0 && System.nanoTime() < deadline) {
+                TimeUnit.MILLISECONDS.sleep(50);
+            }
+            assertThat(received("Outbox")).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("Template Tests")
+    class TemplateTests {
+
+        @Test
+        @DisplayName("Should render only content variables per email")
+        void shouldRenderContentVariables() throws Exception {
+            Message message = new Message();
+            message.put("name", "William");
+            EmailAction action = createAction(emailParameter("Template").cc("copy@octet.chat").build(), message);
+
+            action.execute();
+
+            assertThat(action.checkError()).isFalse();
+            MimeMessage received = lastReceived("Template");
+            assertThat(GreenMailUtil.getBody(received)).contains("Hello William");
+            assertThat(received.getRecipients(javax.mail.Message.RecipientType.CC)).hasSize(1);
+            assertThat(received.getFrom()[0].toString()).contains("accordion@octet.chat");
+        }
+
+        @Test
+        @DisplayName("Should reuse the encoded body of static content")
+        void shouldReuseStaticBody() throws Exception {
+            EmailAction action = createAction(emailParameter("Static").content("<p>Static ünïcödé body</p>").build());
+
+            action.execute();
+            action.execute();
+
+            assertThat(action.checkError()).isFalse();
+            assertThat(received("Static")).isEqualTo(2);
+            assertThat((String) lastReceived("Static").getContent()).isEqualTo("<p>Static ünïcödé body</p>");
+        }
+
+        @Test
+        @DisplayName("Should reject invalid addresses when the action is created")
+        void shouldRejectInvalidAddresses() {
+            assertThatThrownBy(() -> createAction(emailParameter("Invalid").to("not an address").build()))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package chat.octet.accordion.action.email;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import org.apache.commons.mail.EmailException;
+import org.apache.commons.mail.HtmlEmail;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.mail.Address;
+import javax.mail.Message;
+import javax.mail.MessagingException;
+import javax.mail.Session;
+import javax.mail.internet.MimeMessage;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for EmailOutbox spooling and background delivery.
+ *
+ * @author <a href="https://github.com/eoctet">William</a>
+ */
+@DisplayName("EmailOutbox Tests")
+class EmailOutboxTest {
+
+    @RegisterExtension
+    static final GreenMailExtension GREEN_MAIL = new GreenMailExtension(ServerSetupTest.SMTP.dynamicPort());
+
+    private static EmailParameter emailParameter(final int port) {
+        return EmailParameter.builder()
+                .server("127.0.0.1")
+                .smtpPort(port)
+                .timeout(1000L)
+                .build();
+    }
+
+    private static MimeMessage createMessage(final EmailParameter params, final String subject) throws EmailException, MessagingException {
+        HtmlEmail email = new HtmlEmail();
+        email.setHostName(params.getServer());
+        email.setSmtpPort(params.getSmtpPort());
+        email.setFrom("accordion@octet.chat");
+        email.addTo("user@octet.chat");
+        email.setSubject(subject);
+        email.setHtmlMsg("<p>Hello</p>");
+        email.buildMimeMessage();
+        email.getMimeMessage().saveChanges();
+        return email.getMimeMessage();
+    }
+
+    private static Session session(final EmailParameter params) throws EmailException {
+        HtmlEmail email = new HtmlEmail();
+        email.setHostName(params.getServer());
+        email.setSmtpPort(params.getSmtpPort());
+        return email.getMailSession();
+    }
+
+    private static long received(final String subject) throws MessagingException {
+        long count = 0;
+        for (MimeMessage message : GREEN_MAIL.getReceivedMessages()) {
+            if (subject.equals(message.getSubject())) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Nested
+    @DisplayName("Spool Delivery Tests")
+    class SpoolDeliveryTests {
+
+        @Test
+        @DisplayName("Should send spooled emails in the background")
+        void shouldSendSpooledEmails(@TempDir final Path spool) throws Exception {
+            EmailParameter params = emailParameter(GREEN_MAIL.getSmtp().getPort());
+            SmtpTransportPool.SmtpProfile profile = SmtpTransportPool.SmtpProfile.of(params);
+
+            try (EmailOutbox outbox = new EmailOutbox(spool, 2, 3, 100)) {
+                outbox.register(profile, session(params));
+                for (int i = 0; i < 3; i++) {
+                    outbox.enqueue(profile, createMessage(params, "Spooled"));
+                }
+
+                assertThat(outbox.awaitDrained(Duration.ofSeconds(30))).isTrue();
+            }
+            assertThat(received("Spooled")).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("Should send emails spooled before a restart")
+        void shouldRecoverSpooledEmails(@TempDir final Path spool) throws Exception {
+            EmailParameter params = emailParameter(GREEN_MAIL.getSmtp().getPort());
+            SmtpTransportPool.SmtpProfile profile = SmtpTransportPool.SmtpProfile.of(params);
+            try (EmailOutbox crashed = new EmailOutbox(spool, 1, 3, 100)) {
+                crashed.enqueue(profile, createMessage(params, "Recovered"));
+                assertThat(crashed.getPendingCount()).isEqualTo(1);
+            }
+
+            try (EmailOutbox restarted = new EmailOutbox(spool, 1, 3, 100)) {
+                restarted.register(profile, session(params));
+
+                assertThat(restarted.awaitDrained(Duration.ofSeconds(30))).isTrue();
+            }
+            assertThat(received("Recovered")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should fail only the rejected email of a batch")
+        void shouldFailOnlyRejectedEmail(@TempDir final Path spool) throws Exception {
+            // Given
+            EmailParameter params = emailParameter(GREEN_MAIL.getSmtp().getPort());
+            SmtpTransportPool.SmtpProfile profile = SmtpTransportPool.SmtpProfile.of(params);
+            MimeMessage rejected = createMessage(params, "Batched");
+            rejected.setRecipients(Message.RecipientType.TO, (Address[]) null);
+            rejected.saveChanges();
+
+            // When
+            try (EmailOutbox outbox = new EmailOutbox(spool, 1, 2, 10)) {
+                outbox.enqueue(profile, createMessage(params, "Batched"));
+                outbox.enqueue(profile, rejected);
+                outbox.enqueue(profile, createMessage(params, "Batched"));
+                outbox.register(profile, session(params));
+
+                // Then
+                assertThat(outbox.awaitDrained(Duration.ofSeconds(30))).isTrue();
+                assertThat(outbox.getFailedCount()).isEqualTo(1);
+            }
+            assertThat(received("Batched")).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Should move emails to failed after max attempts")
+        void shouldFailAfterMaxAttempts(@TempDir final Path spool)
+                throws EmailException, MessagingException, IOException, InterruptedException {
+            EmailParameter params = emailParameter(1);
+            SmtpTransportPool.SmtpProfile profile = SmtpTransportPool.SmtpProfile.of(params);
+
+            try (EmailOutbox outbox = new EmailOutbox(spool, 1, 2, 10)) {
+                outbox.register(profile, session(params));
+                outbox.enqueue(profile, createMessage(params, "Failed"));
+
+                assertThat(outbox.awaitDrained(Duration.ofSeconds(30))).isTrue();
+                assertThat(outbox.getFailedCount()).isEqualTo(1);
+            }
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package chat.octet.accordion.action.script;
+
+import chat.octet.accordion.action.ActionService;
+import chat.octet.accordion.action.model.ActionConfig;
+import chat.octet.accordion.core.entity.Session;
+import chat.octet.accordion.core.enums.ActionType;
+import chat.octet.accordion.utils.CommonUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for script execution budgets.
+ *
+ * @author <a href="https://github.com/eoctet">William</a>
+ */
+@DisplayName("ScriptBudget Tests")
+class ScriptBudgetTest {
+
+    private static ActionService execute(final String actionId, final ScriptParameter params) {
+        ActionConfig config = ActionConfig.builder()
+                .id(actionId)
+                .actionType(ActionType.SCRIPT.name())
+                .actionName("Budget Script")
+                .actionParams(params)
+                .build();
+        ActionService action = new ScriptAction(config).prepare(new Session());
+        action.execute();
+        return action;
+    }
+
+    @Nested
+    @DisplayName("Budget Exhaustion Tests")
+    class BudgetExhaustionTests {
+
+        @Test
+        @DisplayName("Should fail and count scripts exceeding the loop budget")
+        void shouldFailOnLoopBudget() {
+            String actionId = CommonUtils.randomString("loop");
+            ActionService action = execute(actionId, ScriptParameter.builder()
+                    .script("let t = 0; for i in range(0, 1000) { t = t + i; } return t;")
+                    .maxLoopCount(100)
+                    .build());
+
+            assertThat(action.checkError()).isTrue();
+            assertThat(ScriptBudget.getExhaustion(actionId).loops()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should fail and count scripts exceeding the time budget")
+        void shouldFailOnTimeBudget() {
+            String actionId = CommonUtils.randomString("timeout");
+            ActionService action = execute(actionId, ScriptParameter.builder()
+                    .script("let t = 0; while true { t = t + 1; } return t;")
+                    .timeout(100L)
+                    .build());
+
+            assertThat(action.checkError()).isTrue();
+            assertThat(ScriptBudget.getExhaustion(actionId).timeouts()).isEqualTo(1);
+            assertThat(ScriptBudget.getExhaustions()).containsKey(actionId);
+        }
+
+        @Test
+        @DisplayName("Should fail and count scripts exceeding the allocation budget")
+        void shouldFailOnAllocationBudget() {
+            String actionId = CommonUtils.randomString("alloc");
+            ActionService action = execute(actionId, ScriptParameter.builder()
+                    .script("let s = seq.list(); for i in range(0, 10000) { seq.add(s, str(i)); } return count(s);")
+                    .maxAllocatedBytes(1024L)
+                    .build());
+
+            assertThat(action.checkError()).isTrue();
+            assertThat(ScriptBudget.getExhaustion(actionId).allocations()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should execute scripts within their budget")
+        void shouldExecuteWithinBudget() {
+            String actionId = CommonUtils.randomString("ok");
+            ActionService action = execute(actionId, ScriptParameter.builder()
+                    .script("let t = 0; for i in range(0, 10) { t = t + i; } return t;")
+                    .maxLoopCount(100)
+                    .timeout(1000L)
+                    .build());
+
+            assertThat(action.checkError()).isFalse();
+            assertThat(ScriptBudget.getExhaustion(actionId).total()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should remove the counters when the action is closed")
+        void shouldRemoveCountersOnClose() {
+            String actionId = CommonUtils.randomString("close");
+            ActionService action = execute(actionId, ScriptParameter.builder()
+                    .script("let t = 0; for i in range(0, 1000) { t = t + i; } return t;")
+                    .maxLoopCount(100)
+                    .build());
+            assertThat(ScriptBudget.getExhaustions()).containsKey(actionId);
+
+            action.close();
+
+            assertThat(ScriptBudget.getExhaustions()).doesNotContainKey(actionId);
+        }
+    }
+
+    @Nested
+    @DisplayName("Evaluator Cache Tests")
+    class EvaluatorCacheTests {
+
+        @Test
+        @DisplayName("Should bound the evaluators of distinct budgets")
+        void shouldBoundEvaluators() {
+            // Given
+            int budgets = 100;
+
+            // When
+            for (int i = 0; i < budgets; i++) {
+                ScriptEvaluatorPool.Profile profile = new ScriptEvaluatorPool.Profile(false, 1_000_000 + i, 0L);
+                ScriptEvaluatorPool.compile(ScriptEvaluatorPool.key(profile, "1 + 1"));
+            }
+            ActionService action = execute(CommonUtils.randomString("ACT"), ScriptParameter.builder()
+                    .script("1 + 1")
+                    .maxLoopCount(1_000_000)
+                    .build());
+
+            // Then
+            assertThat(ScriptEvaluatorPool.evaluatorCount()).isLessThan(budgets);
+            assertThat(action.checkError()).isFalse();
+        }
+    }
+}
@@ -0,0 +1,353 @@
+package chat.octet.accordion.action.shell;
+
+import chat.octet.accordion.Accordion;
+import chat.octet.accordion.AccordionPlan;
+import chat.octet.accordion.action.model.ActionConfig;
+import chat.octet.accordion.action.model.ExecuteResult;
+import chat.octet.accordion.action.model.OutputParameter;
+import chat.octet.accordion.action.script.ScriptParameter;
+import chat.octet.accordion.core.entity.LineStream;
+import chat.octet.accordion.core.entity.Session;
+import chat.octet.accordion.core.enums.ActionType;
+import chat.octet.accordion.core.enums.DataType;
+import chat.octet.accordion.exceptions.ActionException;
+import chat.octet.accordion.utils.CommonUtils;
+import com.google.common.collect.Lists;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for ShellAction process handling.
+ *
+ * @author <a href="https://github.com/eoctet">William</a>
+ */
+@DisplayName("ShellAction Tests")
+@DisabledOnOs(OS.WINDOWS)
+class ShellActionTest {
+
+    private static ShellAction createAction(final ShellParameter params) {
+        ActionConfig config = ActionConfig.builder()
+                .id(CommonUtils.randomString("ACT"))
+                .actionType(ActionType.SHELL.name())
+                .actionName("Shell")
+                .actionParams(params)
+                .actionOutput(Lists.newArrayList(new OutputParameter("output", DataType.STRING, "Command output")))
+                .build();
+        ShellAction action = new ShellAction(config);
+        action.prepare(new Session());
+        return action;
+    }
+
+    @Nested
+    @DisplayName("Process I/O Tests")
+    class ProcessIoTests {
+
+        @Test
+        @DisplayName("Should drain a chatty stderr without blocking and expose exit code")
+        void shouldDrainStderrConcurrently() {
+            ShellAction action = createAction(ShellParameter.builder()
+                    .shell("for i in $(seq 1 20000); do echo \"error line $i\" >&2; done; echo done; exit 3")
+                    .timeout(10000)
+                    .build());
+
+            ExecuteResult result = action.execute();
+
+            assertThat(action.checkError()).isFalse();
+            assertThat(result.getValue("output")).isEqualTo("done");
+            assertThat(result.getValue(ShellAction.ACTION_SHELL_EXIT_CODE)).isEqualTo(3);
+            assertThat((String) result.getValue(ShellAction.ACTION_SHELL_STDERR)).startsWith("error line 1\n");
+        }
+
+        @Test
+        @DisplayName("Should cap buffered output size")
+        void shouldCapOutputSize() {
+            ShellAction action = createAction(ShellParameter.builder()
+                    .shell("printf '%0100000d' 0")
+                    .maxOutputSize(1000)
+                    .build());
+
+            ExecuteResult result = action.execute();
+
+            assertThat(action.checkError()).isFalse();
+            assertThat((String) result.getValue("output")).hasSize(1000);
+        }
+
+        @Test
+        @DisplayName("Should enforce timeout from process start and destroy the process tree")
+        void shouldEnforceTimeout() {
+            ShellAction action = createAction(ShellParameter.builder()
+                    .shell("sleep 30 & while true; do echo tick; sleep 0.01; done")
+                    .timeout(500)
+                    .build());
+
+            long start = System.nanoTime();
+            action.execute();
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+            assertThat(action.checkError()).isTrue();
+            assertThat(elapsed).isLessThan(Duration.ofSeconds(5));
+        }
+
+        @Test
+        @DisplayName("Should expose exit code and stderr without changing the action config")
+        void shouldKeepImplicitOutputsOffConfig() {
+            ShellAction action = createAction(ShellParameter.builder().shell("echo done").build());
+
+            ExecuteResult result = action.execute();
+
+            assertThat(result.getValue(ShellAction.ACTION_SHELL_EXIT_CODE)).isEqualTo(0);
+            assertThat(action.getConfig().getActionOutput()).extracting(OutputParameter::getName)
+                    .containsExactly("output");
+        }
+    }
+
+    @Nested
+    @DisplayName("Pooled Worker Tests")
+    class PooledWorkerTests {
+
+        @Test
+        @DisplayName("Should keep per-command exit code, stdout and stderr on pooled workers")
+        void shouldKeepPerCommandResults() {
+            ShellAction failed = createAction(ShellParameter.builder()
+                    .shell("echo out; echo err >&2; exit 7")
+                    .pooled(true)
+                    .build());
+            ShellAction succeeded = createAction(ShellParameter.builder()
+                    .shell("printf 'a\\nb'")
+                    .pooled(true)
+                    .build());
+
+            ExecuteResult first = failed.execute();
+            ExecuteResult second = succeeded.execute();
+
+            assertThat(failed.checkError()).isFalse();
+            assertThat(first.getValue("output")).isEqualTo("out");
+            assertThat(first.getValue(ShellAction.ACTION_SHELL_STDERR)).isEqualTo("err");
+            assertThat(first.getValue(ShellAction.ACTION_SHELL_EXIT_CODE)).isEqualTo(7);
+            assertThat(succeeded.checkError()).isFalse();
+            assertThat(second.getValue("output")).isEqualTo("a\nb");
+            assertThat(second.getValue(ShellAction.ACTION_SHELL_EXIT_CODE)).isEqualTo(0);
+        }
+
+        @Test
+        @DisplayName("Should isolate commands and recycle workers after max commands")
+        void shouldRecycleWorkers() throws Exception {
+            ShellEnvironment environment = ShellEnvironment.resolve(ShellParameter.builder().build());
+            ShellWorkerPool pool = new ShellWorkerPool(environment, 1, 2);
+
+            String first = pool.execute("cd /; FOO=bar; echo $$", 5000, 1024, ForkJoinPool.commonPool()).stdout();
+            ShellWorker.ShellResult second = pool.execute("echo \"$$ $PWD $FOO\"", 5000, 1024,
+                    ForkJoinPool.commonPool());
+            String third = pool.execute("echo $$", 5000, 1024, ForkJoinPool.commonPool()).stdout();
+
+            assertThat(second.stdout()).startsWith(first + " ").doesNotContain("bar");
+            assertThat(second.stdout()).isNotEqualTo(first + " /");
+            assertThat(third).isNotEqualTo(first);
+            assertThat(pool.idleSize()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should destroy the worker when a pooled command times out")
+        void shouldDestroyWorkerOnTimeout() {
+            ShellAction action = createAction(ShellParameter.builder()
+                    .shell("sleep 30")
+                    .timeout(500)
+                    .pooled(true)
+                    .build());
+
+            long start = System.nanoTime();
+            action.execute();
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+            assertThat(action.checkError()).isTrue();
+            assertThat(elapsed).isLessThan(Duration.ofSeconds(5));
+        }
+    }
+
+    @Nested
+    @DisplayName("Shell Environment Tests")
+    class ShellEnvironmentTests {
+
+        @Test
+        @DisplayName("Should cache resolved shell paths until invalidated")
+        void shouldCacheShellPaths() {
+            String path = ShellExecutorConfig.getShellPath(ShellParameter.ShellType.BASH);
+            System.setProperty("accordion.shell.bash.path", "/bin/sh");
+            try {
+                assertThat(ShellExecutorConfig.getShellPath(ShellParameter.ShellType.BASH)).isEqualTo(path);
+                ShellExecutorConfig.invalidate();
+                assertThat(ShellExecutorConfig.getShellPath(ShellParameter.ShellType.BASH)).isEqualTo("/bin/sh");
+            } finally {
+                System.clearProperty("accordion.shell.bash.path");
+                ShellExecutorConfig.invalidate();
+            }
+        }
+
+        @Test
+        @DisplayName("Should pass prebuilt environment variables to the shell")
+        void shouldPassEnvironmentVariables() {
+            ShellAction action = createAction(ShellParameter.builder()
+                    .shell("echo \"$GREETING-${HOME:-none}\"")
+                    .environment(Map.of("GREETING", "hello"))
+                    .inheritEnvironment(false)
+                    .build());
+
+            ExecuteResult result = action.execute();
+
+            assertThat(action.checkError()).isFalse();
+            assertThat(result.getValue("output")).isEqualTo("hello-none");
+        }
+
+        @Test
+        @DisplayName("Should report an unresolved shell on execution")
+        void shouldReportUnresolvedShell() {
+            ShellAction action = createAction(ShellParameter.builder()
+                    .shell("echo hello")
+                    .type(ShellParameter.ShellType.POWERSHELL)
+                    .build());
+
+            action.execute();
+
+            assertThat(action.checkError()).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("Stream Output Tests")
+    class StreamOutputTests {
+
+        @Test
+        @DisplayName("Should stream stdout lines lazily into the next action")
+        void shouldStreamLinesIntoNextAction() {
+            ActionConfig shell = ActionConfig.builder()
+                    .id(CommonUtils.randomString("ACT"))
+                    .actionType(ActionType.SHELL.name())
+                    .actionName("Shell")
+                    .actionParams(ShellParameter.builder()
+                            .shell("seq 1 20000")
+                            .outputMode(ShellParameter.OutputMode.STREAM)
+                            .build())
+                    .actionOutput(Lists.newArrayList(new OutputParameter("lines", DataType.STRING, "Command output")))
+                    .build();
+            ActionConfig script = ActionConfig.builder()
+                    .id(CommonUtils.randomString("ACT"))
+                    .actionType(ActionType.SCRIPT.name())
+                    .actionName("Script")
+                    .actionParams(ScriptParameter.builder()
+                            .script("let total = 0; for line in lines { total = total + long(line); } return total;")
+                            .build())
+                    .actionOutput(Lists.newArrayList(new OutputParameter("total", DataType.LONG, "Sum of lines")))
+                    .build();
+
+            try (Accordion accordion = new Accordion(AccordionPlan.of().start(shell).next(shell, script))) {
+                ExecuteResult result = accordion.play();
+
+                assertThat(result.getValue("total")).isEqualTo(20000L * 20001L / 2);
+            }
+        }
+
+        @Test
+        @DisplayName("Should consume stream once and close it at end of output")
+        void shouldConsumeStreamOnce() {
+            ShellAction action = createAction(ShellParameter.builder()
+                    .shell("printf 'a\\nb\\nc\\n'")
+                    .outputMode(ShellParameter.OutputMode.STREAM)
+                    .build());
+
+            LineStream lines = (LineStream) action.execute().getValue("output");
+
+            assertThat(action.checkError()).isFalse();
+            assertThat(lines.chunks(2)).containsExactly(List.of("a", "b"), List.of("c"));
+            assertThat(lines.isClosed()).isTrue();
+            assertThat(lines.getLineCount()).isEqualTo(3);
+            assertThatThrownBy(lines::iterator).isInstanceOf(IllegalStateException.class);
+        }
+
+        @Test
+        @DisplayName("Should destroy the process when the stream is closed early")
+        void shouldDestroyProcessWhenClosedEarly() {
+            ShellAction action = createAction(ShellParameter.builder()
+                    .shell("while true; do echo tick; done")
+                    .outputMode(ShellParameter.OutputMode.STREAM)
+                    .build());
+
+            LineStream lines = (LineStream) action.execute().getValue("output");
+            try (var stream = lines.lines()) {
+                assertThat(stream.limit(1000).count()).isEqualTo(1000);
+            }
+
+            assertThat(lines.isClosed()).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should fail the consumer when the streaming command exits with an error")
+        void shouldFailOnNonZeroExit() {
+            ShellAction action = createAction(ShellParameter.builder()
+                    .shell("printf 'a\\nb\\n'; echo broken >&2; exit 3")
+                    .outputMode(ShellParameter.OutputMode.STREAM)
+                    .build());
+
+            LineStream lines = (LineStream) action.execute().getValue("output");
+
+            assertThat(action.checkError()).isFalse();
+            assertThatThrownBy(() -> lines.forEach(line -> {
+            }))
+                    .isInstanceOf(ActionException.class)
+                    .hasMessageContaining("exit code: 3")
+                    .hasMessageContaining("broken");
+            assertThat(lines.getLineCount()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Should fail the consumer when the timeout truncates the output")
+        void shouldFailOnTimeout() {
+            ShellAction action = createAction(ShellParameter.builder()
+                    .shell("echo first; exec sleep 10")
+                    .timeout(500L)
+                    .outputMode(ShellParameter.OutputMode.STREAM)
+                    .build());
+
+            LineStream lines = (LineStream) action.execute().getValue("output");
+
+            assertThatThrownBy(() -> lines.forEach(line -> {
+            }))
+                    .isInstanceOf(ActionException.class)
+                    .hasMessageContaining("timed out");
+            assertThat(lines.getLineCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should close unconsumed streams when the accordion is closed")
+        void shouldCloseUnconsumedStreams() {
+            ActionConfig shell = ActionConfig.builder()
+                    .id(CommonUtils.randomString("ACT"))
+                    .actionType(ActionType.SHELL.name())
+                    .actionName("Shell")
+                    .actionParams(ShellParameter.builder()
+                            .shell("while true; do echo tick; done")
+                            .outputMode(ShellParameter.OutputMode.STREAM)
+                            .build())
+                    .actionOutput(Lists.newArrayList(new OutputParameter("lines", DataType.STRING, "Command output")))
+                    .build();
+            LineStream lines;
+
+            try (Accordion accordion = new Accordion(AccordionPlan.of().start(shell))) {
+                lines = (LineStream) accordion.play().getValue("lines");
+                assertThat(lines.isClosed()).isFalse();
+            }
+
+            assertThat(lines.isClosed()).isTrue();
+        }
+    }
+}
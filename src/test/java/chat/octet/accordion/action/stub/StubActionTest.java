@@ -0,0 +1,165 @@
+package chat.octet.accordion.action.stub;
+
+import chat.octet.accordion.action.ActionRegister;
+import chat.octet.accordion.action.ActionService;
+import chat.octet.accordion.action.model.ActionConfig;
+import chat.octet.accordion.action.model.ExecuteResult;
+import chat.octet.accordion.action.model.OutputParameter;
+import chat.octet.accordion.core.entity.Message;
+import chat.octet.accordion.core.entity.Session;
+import chat.octet.accordion.core.enums.ActionType;
+import chat.octet.accordion.core.enums.DataType;
+import chat.octet.accordion.core.enums.LatencyDistribution;
+import chat.octet.accordion.utils.CommonUtils;
+import com.sun.management.ThreadMXBean;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for the stub actions.
+ *
+ * @author <a href="https://github.com/eoctet">William</a>
+ */
+@DisplayName("Stub Action Tests")
+class StubActionTest {
+
+    private static ActionService build(final ActionType actionType, final Object params) {
+        ActionConfig config = ActionConfig.builder()
+                .id(CommonUtils.randomString("ACT"))
+                .actionType(actionType.name())
+                .actionName("Stub " + actionType)
+                .actionParams(params)
+                .build();
+        return ActionRegister.getInstance().build(config);
+    }
+
+    private static long timeMicros(final ActionService action) {
+        action.prepare(new Session());
+        long start = System.nanoTime();
+        action.execute();
+        return TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+    }
+
+    @Nested
+    @DisplayName("Registration Tests")
+    class RegistrationTests {
+
+        @Test
+        @DisplayName("Should register the stub action types")
+        void shouldRegisterStubActionTypes() {
+            // Given
+            ActionRegister register = ActionRegister.getInstance();
+
+            // When & Then
+            assertThat(register.build(ActionConfig.builder().id(CommonUtils.randomString("ACT"))
+                    .actionType(ActionType.NOOP.name()).actionName("Noop").build())).isInstanceOf(NoopAction.class);
+            assertThat(build(ActionType.SLEEP, Map.of("duration_micros", 1))).isInstanceOf(SleepAction.class);
+            assertThat(build(ActionType.CPU_BURN, Map.of("duration_micros", 1))).isInstanceOf(CpuBurnAction.class);
+            assertThat(build(ActionType.ALLOCATE, Map.of("bytes", 1))).isInstanceOf(AllocateAction.class);
+        }
+
+        @Test
+        @DisplayName("Should pass the configured outputs through")
+        void shouldPassOutputsThrough() {
+            // Given
+            ActionConfig config = ActionConfig.builder()
+                    .id(CommonUtils.randomString("ACT"))
+                    .actionType(ActionType.NOOP.name())
+                    .actionName("Noop")
+                    .actionOutput(List.of(new OutputParameter("user", DataType.STRING, "User name", null)))
+                    .build();
+            Session session = new Session();
+            Message message = new Message();
+            message.put("user", "William");
+            session.add(NoopAction.ACCORDION_MESSAGE, message);
+
+            // When
+            ExecuteResult result = new NoopAction(config).prepare(session).execute();
+
+            // Then
+            assertThat(result.getValue("user")).isEqualTo("William");
+        }
+    }
+
+    @Nested
+    @DisplayName("Cost Model Tests")
+    class CostModelTests {
+
+        @Test
+        @DisplayName("Should sleep for the fixed duration, blocking or not")
+        void shouldSleepFixedDuration() {
+            // Given
+            ActionService blocking = build(ActionType.SLEEP, SleepParameter.builder().durationMicros(20_000L).build());
+            ActionService yielding = build(ActionType.SLEEP,
+                    SleepParameter.builder().durationMicros(2_000L).blocking(false).build());
+
+            // When & Then
+            assertThat(timeMicros(blocking)).isGreaterThanOrEqualTo(20_000L);
+            assertThat(timeMicros(yielding)).isGreaterThanOrEqualTo(2_000L);
+            assertThat(blocking.checkError()).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should sample distributed durations within the bounds")
+        void shouldSampleWithinBounds() {
+            // Given
+            for (LatencyDistribution distribution : LatencyDistribution.values()) {
+                SleepAction action = (SleepAction) build(ActionType.SLEEP, SleepParameter.builder()
+                        .distribution(distribution).durationMicros(100L).stddevMicros(50L)
+                        .minMicros(50L).maxMicros(300L).build());
+
+                // When & Then
+                for (int i = 0; i < 1000; i++) {
+                    assertThat(action.sample()).isBetween(50_000L, 300_000L);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Should burn CPU for the configured duration")
+        void shouldBurnCpu() {
+            // Given
+            ActionService action = build(ActionType.CPU_BURN,
+                    CpuBurnParameter.builder().durationMicros(5_000L).build());
+
+            // When & Then
+            assertThat(timeMicros(action)).isGreaterThanOrEqualTo(5_000L);
+        }
+
+        @Test
+        @DisplayName("Should allocate the configured bytes")
+        void shouldAllocateBytes() {
+            // Given
+            ThreadMXBean threadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+            ActionService action = build(ActionType.ALLOCATE, AllocateParameter.builder().bytes(4L << 20).build());
+            action.prepare(new Session());
+            long before = threadMXBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+
+            // When
+            action.execute();
+
+            // Then
+            assertThat(threadMXBean.getThreadAllocatedBytes(Thread.currentThread().getId()) - before)
+                    .isGreaterThanOrEqualTo(4L << 20);
+        }
+
+        @Test
+        @DisplayName("Should reject negative costs")
+        void shouldRejectNegativeCosts() {
+            // When & Then
+            assertThatThrownBy(() -> build(ActionType.CPU_BURN, Map.of("duration_micros", -1)))
+                    .hasRootCauseInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> build(ActionType.SLEEP, Map.of("min_micros", 10, "max_micros", 5)))
+                    .hasRootCauseMessage("Maximum sleep duration cannot be less than the minimum.");
+        }
+    }
+}
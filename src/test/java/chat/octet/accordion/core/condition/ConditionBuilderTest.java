@@ -0,0 +1,64 @@
+package chat.octet.accordion.core.condition;
+
+import com.google.common.collect.Maps;
+import com.googlecode.aviator.Expression;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for ConditionBuilder class.
+ *
+ * @author <a href="https://github.com/eoctet">William</a>
+ */
+@DisplayName("ConditionBuilder Tests")
+class ConditionBuilderTest {
+
+    @Nested
+    @DisplayName("Compile Cache Tests")
+    class CompileCacheTests {
+
+        @Test
+        @DisplayName("Should reuse compiled expression for the same text and trace mode")
+        void shouldReuseCompiledExpression() {
+            ConditionBuilder builder = ConditionBuilder.getInstance();
+            String expression = "cacheArg > 10 && cacheArg < 20";
+            long hits = builder.cacheStats().hitCount();
+
+            Expression first = builder.compile(expression, false);
+            Expression second = builder.compile(expression, false);
+
+            assertThat(second).isSameAs(first);
+            assertThat(builder.cacheStats().hitCount()).isGreaterThan(hits);
+            assertThat(builder.compile(expression, true)).isNotSameAs(first);
+        }
+
+        @Test
+        @DisplayName("Should evaluate compiled expression against parameters")
+        void shouldEvaluateCompiledExpression() {
+            ConditionBuilder builder = ConditionBuilder.getInstance();
+            Expression expression = builder.compile("cacheArg > 10 and cacheName == 'ok'", false);
+            Map<String, Object> params = Maps.newHashMap();
+            params.put("cacheArg", 15);
+            params.put("cacheName", "ok");
+
+            assertThat(builder.test(params, expression)).isTrue();
+            params.put("cacheArg", 5);
+            assertThat(builder.test(params, expression)).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should reject invalid expressions at compile time")
+        void shouldRejectInvalidExpression() {
+            assertThatThrownBy(() -> ConditionBuilder.getInstance().compile("cacheArg >", false))
+                    .isInstanceOf(RuntimeException.class);
+            assertThatThrownBy(() -> ConditionBuilder.getInstance().compile(" ", false))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
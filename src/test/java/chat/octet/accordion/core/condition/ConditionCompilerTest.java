@@ -0,0 +1,161 @@
+package chat.octet.accordion.core.condition;
+
+import chat.octet.accordion.action.base.ConditionParameter;
+import chat.octet.accordion.core.enums.ConditionOperator;
+import chat.octet.accordion.utils.JsonUtils;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for native condition compilation.
+ *
+ * @author <a href="https://github.com/eoctet">William</a>
+ */
+@DisplayName("ConditionCompiler Tests")
+class ConditionCompilerTest {
+
+    private static Map<String, Object> params() {
+        Map<String, Object> params = Maps.newHashMap();
+        params.put("num", 15);
+        params.put("div", 3L);
+        params.put("rate", 1.5d);
+        params.put("price", new BigDecimal("99.90"));
+        params.put("name", "accordion");
+        params.put("flag", true);
+        params.put("tags", Lists.newArrayList(1L, 2L, 3L));
+        return params;
+    }
+
+    private static void assertSameAsAviator(final Condition condition, final Map<String, Object> params) {
+        ConditionBuilder builder = ConditionBuilder.getInstance();
+        boolean expected = builder.test(params, builder.build(condition), false);
+        assertThat(builder.compile(condition, false).test(params))
+                .as(builder.build(condition))
+                .isEqualTo(expected);
+    }
+
+    @Nested
+    @DisplayName("Aviator Compatibility Tests")
+    class AviatorCompatibilityTests {
+
+        @Test
+        @DisplayName("Should match Aviator for specialized comparisons")
+        void shouldMatchAviatorForComparisons() {
+            List<Condition> conditions = Lists.newArrayList(
+                    new Condition("num", ConditionOperator.GT, 10),
+                    new Condition("num", ConditionOperator.EQ, 15.0),
+                    new Condition("div", ConditionOperator.LE, 3),
+                    new Condition("rate", ConditionOperator.LT, 2),
+                    new Condition("price", ConditionOperator.GE, 100),
+                    new Condition("price", ConditionOperator.EQ, new BigDecimal("99.9")),
+                    new Condition("name", ConditionOperator.EQ, "'accordion'"),
+                    new Condition("name", ConditionOperator.GT, "'acc'"),
+                    new Condition("flag", ConditionOperator.NEQ, false),
+                    new Condition("missing", ConditionOperator.LT, 1),
+                    new Condition("missing", ConditionOperator.EQ, "nil"),
+                    new Condition("name", ConditionOperator.EQ, 1),
+                    new Condition("num", ConditionOperator.EQ, 15, false)
+            );
+            conditions.forEach(condition -> assertSameAsAviator(condition, params()));
+        }
+
+        @Test
+        @DisplayName("Should match Aviator for sub-expressions and nested groups")
+        void shouldMatchAviatorForGroups() {
+            Condition nested = new Condition("num", ConditionOperator.GT, 20)
+                    .or(new Condition("div", ConditionOperator.EQ, 3).and("flag", ConditionOperator.EQ, true));
+            Condition precedence = new Condition("num", ConditionOperator.GT, 20)
+                    .or("div", ConditionOperator.EQ, 3)
+                    .and("flag", ConditionOperator.EQ, false);
+            Condition negated = new Condition("num", ConditionOperator.GT, 1)
+                    .and(false, new Condition("num*div", ConditionOperator.GT, 40));
+
+            assertSameAsAviator(nested, params());
+            assertSameAsAviator(precedence, params());
+            assertSameAsAviator(negated, params());
+        }
+
+        @Test
+        @DisplayName("Should evaluate membership operators")
+        void shouldEvaluateMembership() {
+            Condition in = new Condition("tags", ConditionOperator.IN, 2);
+            Condition notIn = new Condition("tags", ConditionOperator.NOT_IN, 2);
+
+            assertThat(ConditionBuilder.getInstance().test(params(), in)).isTrue();
+            assertThat(ConditionBuilder.getInstance().test(params(), notIn)).isFalse();
+            assertSameAsAviator(in, params());
+            assertSameAsAviator(notIn, params());
+        }
+
+        @Test
+        @DisplayName("Should test a field against a list by using the list as the parameter")
+        void shouldEvaluateFieldAgainstList() {
+            // Given
+            Map<String, Object> params = params();
+            params.put("allowed", Lists.newArrayList(10L, 15L, 20L));
+
+            // When
+            Condition in = new Condition("allowed", ConditionOperator.IN, "num");
+
+            // Then
+            assertThat(ConditionBuilder.getInstance().test(params, in)).isTrue();
+            assertSameAsAviator(in, params);
+        }
+    }
+
+    @Nested
+    @DisplayName("Predicate Cache Tests")
+    class PredicateCacheTests {
+
+        @Test
+        @DisplayName("Should reuse the compiled predicate until the condition changes")
+        void shouldReuseCompiledPredicate() {
+            // Given
+            ConditionBuilder builder = ConditionBuilder.getInstance();
+            Condition condition = new Condition("num", ConditionOperator.GT, 10);
+
+            // When
+            Predicate<Map<String, Object>> first = builder.compile(condition, false);
+            Predicate<Map<String, Object>> second = builder.compile(condition, false);
+            condition.and("div", ConditionOperator.GT, 3);
+            Predicate<Map<String, Object>> changed = builder.compile(condition, false);
+
+            // Then
+            assertThat(second).isSameAs(first);
+            assertThat(builder.compile(condition, true)).isNotSameAs(changed);
+            assertThat(changed).isNotSameAs(first);
+            assertThat(first.test(params())).isTrue();
+            assertThat(builder.test(params(), condition)).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("Parameter Binding Tests")
+    class ParameterBindingTests {
+
+        @Test
+        @DisplayName("Should round-trip structured condition through JSON")
+        void shouldRoundTripConditionParameter() {
+            ConditionParameter parameter = ConditionParameter.builder()
+                    .condition(new Condition("num", ConditionOperator.GT, 10)
+                            .and("name", ConditionOperator.EQ, "'accordion'"))
+                    .build();
+
+            ConditionParameter parsed = JsonUtils.parseToObject(JsonUtils.toJson(parameter), ConditionParameter.class);
+            Predicate<Map<String, Object>> predicate = ConditionBuilder.getInstance()
+                    .compile(parsed.getCondition(), false);
+
+            assertThat(predicate.test(params())).isTrue();
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package chat.octet.accordion.core.condition;
+
+import chat.octet.accordion.action.AbstractAction;
+import chat.octet.accordion.action.base.SwitchAction;
+import chat.octet.accordion.action.base.SwitchParameter;
+import chat.octet.accordion.action.model.ActionConfig;
+import chat.octet.accordion.core.entity.Message;
+import chat.octet.accordion.core.entity.Session;
+import chat.octet.accordion.core.enums.ActionType;
+import chat.octet.accordion.core.enums.ConditionOperator;
+import chat.octet.accordion.graph.entity.SwitchFilter;
+import chat.octet.accordion.utils.CommonUtils;
+import com.google.common.collect.Maps;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for DecisionTable class.
+ *
+ * @author <a href="https://github.com/eoctet">William</a>
+ */
+@DisplayName("DecisionTable Tests")
+class DecisionTableTest {
+
+    @Nested
+    @DisplayName("Expression Split Tests")
+    class ExpressionSplitTests {
+
+        @Test
+        @DisplayName("Should split top-level AND terms and strip outer parentheses")
+        void shouldSplitTopLevelTerms() {
+            assertThat(DecisionTable.split("((score >= 60) && score < 80) and name == 'a && b'"))
+                    .containsExactly("score >= 60", "score < 80", "name == 'a && b'");
+        }
+
+        @Test
+        @DisplayName("Should keep expressions with top-level OR as a single term")
+        void shouldNotSplitDisjunction() {
+            assertThat(DecisionTable.split("score >= 60 && score < 80 || vip"))
+                    .containsExactly("score >= 60 && score < 80 || vip");
+            assertThat(DecisionTable.split("!(a > 1 && b > 2)")).containsExactly("!(a > 1 && b > 2)");
+        }
+
+        @Test
+        @DisplayName("Should keep expressions with an assignment as a single term")
+        void shouldNotSplitAssignment() {
+            assertThat(DecisionTable.split("(bonus = score + 10) >= 90 && bonus < 100"))
+                    .containsExactly("(bonus = score + 10) >= 90 && bonus < 100");
+            assertThat(DecisionTable.split("score >= 60 && score <= 80 && name != 'a = b'"))
+                    .containsExactly("score >= 60", "score <= 80", "name != 'a = b'");
+        }
+    }
+
+    @Nested
+    @DisplayName("Evaluation Tests")
+    class EvaluationTests {
+
+        @Test
+        @DisplayName("Should share subexpressions across rows")
+        void shouldShareSubexpressions() {
+            DecisionTable table = new DecisionTable(false);
+            table.addRow("score < 60", false);
+            table.addRow("score >= 60 && score < 80", false);
+            table.addRow("(score >= 80) && score < 90", false);
+            table.addRow(new Condition("score", ConditionOperator.GE, 90), false);
+            table.addRow("score < 80", true);
+
+            Map<String, Object> params = Maps.newHashMap();
+            params.put("score", 85);
+
+            assertThat(table.rowCount()).isEqualTo(5);
+            assertThat(table.atomCount()).isEqualTo(6);
+            assertThat(table.evaluate(params, false)).containsExactly(false, false, true, false, true);
+            assertThat(table.evaluate(params, true)).containsExactly(false, false, true, false, false);
+        }
+
+        @Test
+        @DisplayName("Should not share rows with an assignment")
+        void shouldNotShareAssignmentRows() {
+            DecisionTable table = new DecisionTable(false);
+            table.addRow("(bonus = score + 10) >= 90 && bonus < 100", false);
+            table.addRow("(bonus = score + 10) >= 90 && bonus < 100", false);
+            table.addRow("score >= 60 && score < 90", false);
+
+            Map<String, Object> params = Maps.newHashMap();
+            params.put("score", 85);
+
+            assertThat(table.atomCount()).isEqualTo(4);
+            assertThat(table.evaluate(params, false)).containsExactly(true, true, true);
+        }
+
+        @Test
+        @DisplayName("Should execute only the first matched switch branch")
+        void shouldExecuteFirstMatchedBranch() {
+            SwitchParameter params = SwitchParameter.builder()
+                    .matchMode(SwitchParameter.MatchMode.FIRST)
+                    .decisionTable(true)
+                    .build();
+            params.addBranch(
+                    SwitchParameter.Branch.builder().actionId("HIGH").expression("score >= 80").build(),
+                    SwitchParameter.Branch.builder().actionId("PASS").expression("score >= 60").build(),
+                    SwitchParameter.Branch.builder().actionId("LOW").expression("score < 60").build()
+            );
+            ActionConfig config = ActionConfig.builder()
+                    .id(CommonUtils.randomString("ACT"))
+                    .actionType(ActionType.SWITCH.name())
+                    .actionName("Score Switch")
+                    .actionParams(params)
+                    .build();
+            Message message = new Message();
+            message.put("score", 85);
+            Session session = new Session();
+            session.add(AbstractAction.ACCORDION_MESSAGE, message);
+
+            SwitchFilter filter = new SwitchAction(config).prepare(session).execute().getSwitchFilter();
+
+            assertThat(filter).containsEntry("HIGH", true).containsEntry("PASS", false).containsEntry("LOW", false);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package chat.octet.accordion.core.handler;
+
+import org.apache.commons.text.StringSubstitutor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for StringTemplate class.
+ *
+ * @author <a href="https://github.com/eoctet">William</a>
+ */
+@DisplayName("StringTemplate Tests")
+class StringTemplateTest {
+
+    private static Map<String, Object> variables() {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("name", "William");
+        variables.put("count", 3);
+        variables.put("nested", "${name}");
+        variables.put("empty", "");
+        variables.put("missing", null);
+        return variables;
+    }
+
+    @Nested
+    @DisplayName("Substitution Compatibility Tests")
+    class CompatibilityTests {
+
+        @ParameterizedTest
+        @ValueSource(strings = {
+                "",
+                "<p>static</p>",
+                "Hello ${name}, you have ${count} messages",
+                "${name}${count}",
+                "${unknown} and ${missing}",
+                "${unknown:-guest} and ${name:-guest}",
+                "${empty}|${empty:-fallback}",
+                "value: ${nested}",
+                "escaped $${name}",
+                "nested ${na${x}me}",
+                "unterminated ${name",
+                "$ {name} $name {name}"
+        })
+        @DisplayName("Should render like StringSubstitutor")
+        void shouldRenderLikeStringSubstitutor(final String source) {
+            assertThat(StringTemplate.compile(source).render(variables()))
+                    .isEqualTo(StringSubstitutor.replace(source, variables()));
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"", "<p>static</p>", "unterminated ${name"})
+        @DisplayName("Should detect static templates")
+        void shouldDetectStaticTemplates(final String source) {
+            assertThat(StringTemplate.compile(source).isStatic()).isTrue();
+            assertThat(StringTemplate.compile("Hello ${name}").isStatic()).isFalse();
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package chat.octet.accordion.core.jfr;
+
+import chat.octet.accordion.Accordion;
+import chat.octet.accordion.AccordionPlan;
+import chat.octet.accordion.action.api.ApiParameter;
+import chat.octet.accordion.action.model.ActionConfig;
+import chat.octet.accordion.action.script.ScriptParameter;
+import chat.octet.accordion.action.shell.ShellParameter;
+import chat.octet.accordion.core.enums.ActionType;
+import chat.octet.accordion.core.enums.DataFormatType;
+import chat.octet.accordion.core.enums.HttpMethod;
+import chat.octet.accordion.test.AccordionTestBase;
+import com.google.common.hash.Hashing;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the JDK Flight Recorder events.
+ *
+ * @author <a href="https://github.com/eoctet">William</a>
+ */
+@DisplayName("Flight Recorder Event Tests")
+class FlightRecorderEventTest extends AccordionTestBase {
+
+    private static final List<String> EVENT_NAMES = List.of(
+            "chat.octet.accordion.PlanRun", "chat.octet.accordion.NodeExecution", "chat.octet.accordion.ScriptCompile",
+            "chat.octet.accordion.HttpExchange", "chat.octet.accordion.ProcessLaunch");
+
+    private static List<RecordedEvent> record(final Path directory, final Runnable runnable) throws Exception {
+        Path file = directory.resolve("accordion.jfr");
+        try (Recording recording = new Recording()) {
+            EVENT_NAMES.forEach(name -> recording.enable(name).withThreshold(Duration.ZERO));
+            recording.start();
+            runnable.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file);
+    }
+
+    private static Stream<RecordedEvent> events(final List<RecordedEvent> events, final String name) {
+        return events.stream().filter(event -> event.getEventType().getName().equals(name));
+    }
+
+    @Nested
+    @DisplayName("Plan Execution Events")
+    class PlanExecutionEvents {
+
+        @Test
+        @DisplayName("Should record plan run, node execution and script compile events")
+        @DisabledOnOs(OS.WINDOWS)
+        void shouldRecordExecutionEvents(@TempDir final Path directory) throws Exception {
+            // Given
+            String actionId = createTestActionId("JFR");
+            ActionConfig script = ActionConfig.builder()
+                    .id(actionId)
+                    .actionType(ActionType.SCRIPT.name())
+                    .actionName("JFR Script")
+                    .actionParams(ScriptParameter.builder().script("'" + actionId + "'").build())
+                    .build();
+            ActionConfig shell = ActionConfig.builder()
+                    .id(createTestActionId("JFR-SHELL"))
+                    .actionType(ActionType.SHELL.name())
+                    .actionName("JFR Shell")
+                    .actionParams(ShellParameter.builder().shell("echo jfr").build())
+                    .build();
+            AccordionPlan plan = AccordionPlan.of().start(script).next(script, shell);
+
+            // When
+            List<RecordedEvent> events = record(directory, () -> {
+                try (Accordion accordion = new Accordion(plan)) {
+                    accordion.play();
+                }
+            });
+
+            // Then
+            assertThat(events(events, "chat.octet.accordion.PlanRun")
+                    .filter(event -> actionId.equals(event.getString("rootActionId"))))
+                    .singleElement()
+                    .satisfies(event -> {
+                        assertThat(event.getInt("nodeCount")).isEqualTo(2);
+                        assertThat(event.getString("status")).isEqualTo("SUCCESS");
+                    });
+            assertThat(events(events, "chat.octet.accordion.NodeExecution")
+                    .filter(event -> actionId.equals(event.getString("actionId"))))
+                    .singleElement()
+                    .satisfies(event -> {
+                        assertThat(event.getString("actionType")).isEqualTo(ActionType.SCRIPT.name());
+                        assertThat(event.getString("status")).isEqualTo("SUCCESS");
+                        assertThat(event.getDuration()).isPositive();
+                    });
+            String source = "'" + actionId + "'";
+            assertThat(events(events, "chat.octet.accordion.ScriptCompile")
+                    .filter(event -> actionId.equals(event.getString("actionId"))))
+                    .singleElement()
+                    .satisfies(event -> {
+                        assertThat(event.getBoolean("success")).isTrue();
+                        assertThat(event.getString("expressionHash"))
+                                .isEqualTo(Hashing.sha256().hashString(source, StandardCharsets.UTF_8).toString());
+                        assertThat(event.getInt("expressionLength")).isEqualTo(source.length());
+                        assertThat(event.hasField("expression")).isFalse();
+                    });
+            assertThat(events(events, "chat.octet.accordion.ProcessLaunch")
+                    .filter(event -> shell.getId().equals(event.getString("actionId"))))
+                    .singleElement()
+                    .satisfies(event -> {
+                        assertThat(event.getString("mode")).isEqualTo("PROCESS");
+                        assertThat(event.getLong("pid")).isPositive();
+                    });
+        }
+    }
+
+    @Nested
+    @DisplayName("HTTP Exchange Events")
+    class HttpExchangeEvents {
+
+        @Test
+        @DisplayName("Should record HTTP exchanges without query parameters")
+        void shouldRecordHttpExchange(@TempDir final Path directory) throws Exception {
+            // Given
+            try (MockWebServer server = new MockWebServer()) {
+                server.enqueue(new MockResponse().setResponseCode(200).setBody("{\"status\":\"ok\"}"));
+                server.start();
+                String actionId = createTestActionId("JFR-API");
+                ActionConfig api = ActionConfig.builder()
+                        .id(actionId)
+                        .actionType(ActionType.API.name())
+                        .actionName("JFR API")
+                        .actionParams(ApiParameter.builder()
+                                .url(server.url("/status?token=secret").toString())
+                                .method(HttpMethod.GET)
+                                .responseDataFormat(DataFormatType.JSON)
+                                .build())
+                        .build();
+
+                // When
+                List<RecordedEvent> events = record(directory, () -> {
+                    try (Accordion accordion = new Accordion(AccordionPlan.of().start(api))) {
+                        accordion.play();
+                    }
+                });
+
+                // Then
+                assertThat(events(events, "chat.octet.accordion.HttpExchange")
+                        .filter(event -> actionId.equals(event.getString("actionId"))))
+                        .singleElement()
+                        .satisfies(event -> {
+                            assertThat(event.getString("method")).isEqualTo("GET");
+                            assertThat(event.getString("url")).endsWith("/status").doesNotContain("secret");
+                            assertThat(event.getInt("statusCode")).isEqualTo(200);
+                            assertThat(event.getLong("responseLength")).isEqualTo(15L);
+                        });
+            }
+        }
+    }
+}
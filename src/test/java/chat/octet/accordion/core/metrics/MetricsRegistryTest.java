@@ -0,0 +1,204 @@
+package chat.octet.accordion.core.metrics;
+
+import chat.octet.accordion.Accordion;
+import chat.octet.accordion.AccordionPlan;
+import chat.octet.accordion.action.model.ActionConfig;
+import chat.octet.accordion.action.script.ScriptParameter;
+import chat.octet.accordion.core.enums.ActionType;
+import chat.octet.accordion.core.enums.GraphNodeStatus;
+import chat.octet.accordion.core.listener.NodeEvent;
+import chat.octet.accordion.test.AccordionTestBase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.TabularData;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Tests for the metrics registry and latency histogram.
+ *
+ * @author <a href="https://github.com/eoctet">William</a>
+ */
+@DisplayName("Metrics Registry Tests")
+class MetricsRegistryTest extends AccordionTestBase {
+
+    private ActionConfig script(final String prefix, final String expression) {
+        return ActionConfig.builder()
+                .id(createTestActionId(prefix))
+                .actionType(ActionType.SCRIPT.name())
+                .actionName(prefix + " Script")
+                .actionParams(ScriptParameter.builder().script(expression).build())
+                .build();
+    }
+
+    @Nested
+    @DisplayName("Latency Histogram Tests")
+    class LatencyHistogramTests {
+
+        @Test
+        @DisplayName("Should report percentiles within the histogram precision")
+        void shouldReportPercentiles() {
+            // Given
+            LatencyHistogram histogram = new LatencyHistogram();
+
+            // When
+            IntStream.rangeClosed(1, 10_000).forEach(i -> histogram.record(i * 1_000L));
+            LatencySnapshot snapshot = histogram.snapshot();
+
+            // Then
+            assertThat(snapshot.getCount()).isEqualTo(10_000);
+            assertThat(snapshot.getMaxNanos()).isEqualTo(10_000_000L);
+            assertThat(snapshot.getMeanNanos()).isCloseTo(5_000_500D, within(1D));
+            assertThat((double) snapshot.getP50Nanos()).isCloseTo(5_000_000D, within(5_000_000D * 0.04));
+            assertThat((double) snapshot.getP99Nanos()).isCloseTo(9_900_000D, within(9_900_000D * 0.04));
+            assertThat(snapshot.getPercentileNanos(100)).isEqualTo(10_000_000L);
+        }
+
+        @Test
+        @DisplayName("Should map every value to a bucket containing it")
+        void shouldMapValuesToBuckets() {
+            // Given
+            long[] values = {0L, 1L, 31L, 32L, 63L, 64L, 1_000L, 123_456_789L, 1L << 43, Long.MAX_VALUE};
+
+            // When & Then
+            for (long value : values) {
+                int index = LatencyHistogram.bucketIndex(value);
+                assertThat(index).isBetween(0, LatencyHistogram.BUCKET_COUNT - 1);
+                if (value < 1L << 44) {
+                    assertThat(LatencyHistogram.highestValueOf(index)).isGreaterThanOrEqualTo(value);
+                    assertThat(index == 0 ? -1L : LatencyHistogram.highestValueOf(index - 1)).isLessThan(value);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Should count every value recorded concurrently")
+        void shouldRecordConcurrently() throws InterruptedException {
+            // Given
+            LatencyHistogram histogram = new LatencyHistogram();
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+
+            // When
+            for (int thread = 0; thread < 8; thread++) {
+                executor.execute(() -> IntStream.range(0, 100_000).forEach(i -> histogram.record(i)));
+            }
+            executor.shutdown();
+            assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+            // Then
+            assertThat(histogram.snapshot().getCount()).isEqualTo(800_000);
+        }
+    }
+
+    @Nested
+    @DisplayName("Registry Bound Tests")
+    class RegistryBoundTests {
+
+        @Test
+        @DisplayName("Should evict the least recently executed action ids")
+        void shouldBoundActionIds() {
+            // Given
+            MetricsRegistry registry = new MetricsRegistry(2);
+
+            // When
+            IntStream.range(0, 10).forEach(i -> registry.onNodeEnd(new NodeEvent("run", "ACT-" + i, "Action",
+                    ActionType.SCRIPT.name(), GraphNodeStatus.SUCCESS, System.nanoTime(), 1_000L, null)));
+            MetricsSnapshot snapshot = registry.snapshot();
+
+            // Then
+            assertThat(snapshot.actions()).hasSizeLessThanOrEqualTo(2).containsKey("ACT-9");
+            assertThat(snapshot.actionType(ActionType.SCRIPT.name()).executions()).isEqualTo(10);
+        }
+    }
+
+    @Nested
+    @DisplayName("Accordion Metrics Tests")
+    class AccordionMetricsTests {
+
+        @Test
+        @DisplayName("Should count executions, errors and skips by action id and type")
+        void shouldCountExecutions() {
+            // Given
+            ActionConfig first = script("FIRST", "1 + 1");
+            ActionConfig broken = script("BROKEN", "1 +");
+            ActionConfig skipped = script("SKIPPED", "2 + 2");
+            AccordionPlan plan = AccordionPlan.of().start(first).next(first, broken).next(broken, skipped);
+            MetricsRegistry registry = new MetricsRegistry();
+
+            // When
+            MetricsSnapshot snapshot;
+            try (Accordion accordion = new Accordion(plan).enableMetrics(registry)) {
+                accordion.play();
+                accordion.play();
+                snapshot = accordion.metrics();
+            }
+
+            // Then
+            assertThat(snapshot.runs()).isEqualTo(2);
+            assertThat(snapshot.runErrors()).isZero();
+            assertThat(snapshot.runLatency().getCount()).isEqualTo(2);
+            assertThat(snapshot.action(first.getId()).executions()).isEqualTo(2);
+            assertThat(snapshot.action(first.getId()).latency().getP50Nanos()).isPositive();
+            assertThat(snapshot.action(broken.getId()).errors()).isEqualTo(2);
+            assertThat(snapshot.action(skipped.getId()).skips()).isEqualTo(2);
+            assertThat(snapshot.action(skipped.getId()).executions()).isZero();
+            ActionMetricsSnapshot scripts = snapshot.actionType(ActionType.SCRIPT.name());
+            assertThat(scripts.executions()).isEqualTo(4);
+            assertThat(scripts.errors()).isEqualTo(2);
+            assertThat(scripts.skips()).isEqualTo(2);
+            assertThat(scripts.latency().getCount()).isEqualTo(4);
+        }
+
+        @Test
+        @DisplayName("Should return empty metrics when metrics are not enabled")
+        void shouldReturnEmptyMetrics() {
+            // Given
+            AccordionPlan plan = AccordionPlan.of().start(script("DISABLED", "1 + 1"));
+
+            // When & Then
+            try (Accordion accordion = new Accordion(plan)) {
+                accordion.play();
+                assertThat(accordion.metrics()).isSameAs(MetricsSnapshot.EMPTY);
+            }
+        }
+
+        @Test
+        @DisplayName("Should export metrics through JMX")
+        void shouldExportThroughJmx() throws Exception {
+            // Given
+            ActionConfig action = script("JMX", "1 + 1");
+            MetricsRegistry registry = new MetricsRegistry();
+            ObjectName name = registry.registerMBean("test-" + action.getId());
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+            // When
+            try (Accordion accordion = new Accordion(AccordionPlan.of().start(action)).enableMetrics(registry)) {
+                accordion.play();
+            }
+
+            // Then
+            try {
+                assertThat(server.getAttribute(name, "RunCount")).isEqualTo(1L);
+                TabularData actions = (TabularData) server.getAttribute(name, "ActionMetrics");
+                CompositeData row = actions.get(new Object[]{action.getId()});
+                TabularData values = (TabularData) row.get("value");
+                assertThat(values.get(new Object[]{"executions"}).get("value")).isEqualTo(1D);
+                server.invoke(name, "reset", null, null);
+                assertThat(registry.snapshot().runs()).isZero();
+            } finally {
+                server.unregisterMBean(name);
+            }
+        }
+    }
+}
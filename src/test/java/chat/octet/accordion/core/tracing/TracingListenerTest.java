@@ -0,0 +1,223 @@
+package chat.octet.accordion.core.tracing;
+
+import chat.octet.accordion.Accordion;
+import chat.octet.accordion.AccordionPlan;
+import chat.octet.accordion.action.model.ActionConfig;
+import chat.octet.accordion.action.script.ScriptParameter;
+import chat.octet.accordion.core.enums.ActionType;
+import chat.octet.accordion.test.AccordionTestBase;
+import chat.octet.accordion.utils.JsonUtils;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.Maps;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for run tracing, span exporters and samplers.
+ *
+ * @author <a href="https://github.com/eoctet">William</a>
+ */
+@DisplayName("Tracing Listener Tests")
+class TracingListenerTest extends AccordionTestBase {
+
+    private ActionConfig script(final String prefix, final String expression) {
+        return ActionConfig.builder()
+                .id(createTestActionId(prefix))
+                .actionType(ActionType.SCRIPT.name())
+                .actionName(prefix + " Script")
+                .actionParams(ScriptParameter.builder().script(expression).build())
+                .build();
+    }
+
+    private static Span span(final String traceId, final String name) {
+        return new Span(traceId, "00f067aa0ba902b7", null, name, 1_000L, 2_000L,
+                Map.of("accordion.plan.node_count", 3, "flag", true), Span.Status.OK, null);
+    }
+
+    @Nested
+    @DisplayName("Span Generation Tests")
+    class SpanGenerationTests {
+
+        @Test
+        @DisplayName("Should create a root span and a child span for every node")
+        void shouldCreateRunAndNodeSpans() {
+            // Given
+            ActionConfig first = script("TRACE_FIRST", "1 + 1");
+            ActionConfig broken = script("TRACE_BROKEN", "1 +");
+            ActionConfig skipped = script("TRACE_SKIPPED", "2 + 2");
+            AccordionPlan plan = AccordionPlan.of().start(first).next(first, broken).next(broken, skipped);
+            RingBufferSpanExporter exporter = new RingBufferSpanExporter(100);
+            TracingListener listener = new TracingListener(TraceSampler.always(), exporter);
+
+            // When
+            try (Accordion accordion = new Accordion(plan).addListener(listener)) {
+                accordion.play();
+            }
+
+            // Then
+            List<Span> spans = exporter.getSpans();
+            assertThat(spans).hasSize(4);
+            Span root = spans.get(0);
+            assertThat(root.name()).isEqualTo(TracingListener.RUN_SPAN_NAME);
+            assertThat(root.parentSpanId()).isNull();
+            assertThat(root.traceId()).hasSize(32);
+            assertThat(root.attributes()).containsEntry("accordion.plan.node_count", 3);
+            assertThat(spans.subList(1, 4)).allSatisfy(span -> {
+                assertThat(span.traceId()).isEqualTo(root.traceId());
+                assertThat(span.parentSpanId()).isEqualTo(root.spanId());
+                assertThat(span.spanId()).hasSize(16);
+                assertThat(span.startEpochNanos()).isBetween(root.startEpochNanos(), root.endEpochNanos());
+                assertThat(span.endEpochNanos()).isBetween(span.startEpochNanos(), root.endEpochNanos());
+            });
+            Map<String, Span> byAction = Maps.newHashMap();
+            spans.subList(1, 4)
+                    .forEach(span -> byAction.put((String) span.attributes().get("accordion.action.id"), span));
+            assertThat(byAction.get(first.getId()).status()).isEqualTo(Span.Status.OK);
+            assertThat(byAction.get(first.getId()).attributes())
+                    .containsEntry("accordion.action.type", ActionType.SCRIPT.name())
+                    .containsEntry("accordion.action.name", "TRACE_FIRST Script");
+            assertThat(byAction.get(broken.getId()).status()).isEqualTo(Span.Status.ERROR);
+            assertThat(byAction.get(broken.getId()).statusMessage()).isNotBlank();
+            assertThat(byAction.get(skipped.getId()).status()).isEqualTo(Span.Status.UNSET);
+            assertThat(byAction.get(skipped.getId()).durationNanos()).isZero();
+            assertThat(listener.getActiveTraceCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should not create spans for unsampled runs")
+        void shouldSkipUnsampledRuns() {
+            // Given
+            AccordionPlan plan = AccordionPlan.of().start(script("TRACE_UNSAMPLED", "1 + 1"));
+            RingBufferSpanExporter exporter = new RingBufferSpanExporter(100);
+
+            // When
+            TracingListener listener = new TracingListener(TraceSampler.never(), exporter);
+            try (Accordion accordion = new Accordion(plan).addListener(listener)) {
+                accordion.play();
+            }
+
+            // Then
+            assertThat(exporter.getSpans()).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Span Exporter Tests")
+    class SpanExporterTests {
+
+        @Test
+        @DisplayName("Should drop the oldest spans when the ring buffer is full")
+        void shouldDropOldestSpans() {
+            // Given
+            RingBufferSpanExporter exporter = new RingBufferSpanExporter(2);
+
+            // When
+            exporter.export(List.of(span("a", "first"), span("b", "second"), span("b", "third")));
+
+            // Then
+            assertThat(exporter.getSpans()).extracting(Span::name).containsExactly("second", "third");
+            assertThat(exporter.getTrace("b")).hasSize(2);
+            assertThat(exporter.getDroppedCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should encode spans as an OTLP/JSON request")
+        void shouldEncodeOtlpJson() throws Exception {
+            // Given
+            RingBufferSpanExporter exporter = new RingBufferSpanExporter(10);
+            exporter.export(List.of(span("4bf92f3577b34da6a3ce929d0e0e4736", "accordion.play")));
+
+            // When
+            JsonNode request = new ObjectMapper().readTree(exporter.toOtlpJson());
+
+            // Then
+            JsonNode resourceSpans = request.path("resourceSpans").get(0);
+            JsonNode serviceName = resourceSpans.path("resource").path("attributes").get(0);
+            assertThat(serviceName.path("value").path("stringValue").asText())
+                    .isEqualTo(OtlpJsonEncoder.SERVICE_NAME);
+            JsonNode scopeSpans = resourceSpans.path("scopeSpans").get(0);
+            assertThat(scopeSpans.path("scope").path("name").asText()).isEqualTo(OtlpJsonEncoder.SCOPE_NAME);
+            JsonNode span = scopeSpans.path("spans").get(0);
+            assertThat(span.path("traceId").asText()).isEqualTo("4bf92f3577b34da6a3ce929d0e0e4736");
+            assertThat(span.has("parentSpanId")).isFalse();
+            assertThat(span.path("startTimeUnixNano").isTextual()).isTrue();
+            assertThat(span.path("endTimeUnixNano").asText()).isEqualTo("2000");
+            assertThat(span.path("status").path("code").asInt()).isEqualTo(Span.Status.OK.getCode());
+            assertThat(span.path("attributes").toString())
+                    .contains("{\"intValue\":\"3\"}")
+                    .contains("{\"boolValue\":true}");
+        }
+
+        @Test
+        @DisplayName("Should roll the span file when it exceeds its maximum size")
+        void shouldRollSpanFile(@TempDir final Path directory) throws Exception {
+            // Given
+            Path file = directory.resolve("traces").resolve("spans.jsonl");
+
+            // When
+            try (RollingFileSpanExporter exporter = new RollingFileSpanExporter(file, 600, 3)) {
+                IntStream.range(0, 10).forEach(i -> exporter.export(List.of(span("trace-" + i, "accordion.play"))));
+            }
+
+            // Then
+            assertThat(file).exists();
+            assertThat(file.resolveSibling("spans.jsonl.1")).exists();
+            assertThat(file.resolveSibling("spans.jsonl.2")).exists();
+            assertThat(file.resolveSibling("spans.jsonl.3")).doesNotExist();
+            List<String> lines = Files.readAllLines(file);
+            assertThat(lines).isNotEmpty();
+            assertThat(Files.size(file)).isLessThanOrEqualTo(600);
+            assertThat(JsonUtils.parseJsonToMap(lines.get(lines.size() - 1), String.class, Object.class))
+                    .containsKey("resourceSpans");
+            assertThat(lines.get(lines.size() - 1)).contains("trace-9");
+        }
+    }
+
+    @Nested
+    @DisplayName("Trace Sampler Tests")
+    class TraceSamplerTests {
+
+        @Test
+        @DisplayName("Should sample trace ids by ratio")
+        void shouldSampleByRatio() {
+            // Given
+            TraceSampler sampler = TraceSampler.ratio(0.25);
+
+            // When
+            long sampled = IntStream.range(0, 20_000)
+                    .mapToObj(i -> String.format("%016x%016x", i, (long) i * 0x9E3779B97F4A7C15L))
+                    .filter(sampler::shouldSample)
+                    .count();
+
+            // Then
+            assertThat(sampled).isBetween(4_000L, 6_000L);
+            assertThat(TraceSampler.ratio(0).shouldSample("0".repeat(32))).isFalse();
+            assertThat(TraceSampler.ratio(1).shouldSample("f".repeat(32))).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should limit the number of sampled traces per second")
+        void shouldLimitSampleRate() {
+            // Given
+            TraceSampler sampler = TraceSampler.rateLimited(1);
+
+            // When
+            long sampled = IntStream.range(0, 100).filter(i -> sampler.shouldSample("0".repeat(32))).count();
+
+            // Then
+            assertThat(sampled).isEqualTo(1);
+            assertThat(TraceSampler.always().and(TraceSampler.never()).shouldSample("0".repeat(32))).isFalse();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package chat.octet.accordion.performance;
+
+import chat.octet.accordion.core.condition.Condition;
+import chat.octet.accordion.core.condition.ConditionBuilder;
+import chat.octet.accordion.core.enums.ConditionOperator;
+import chat.octet.accordion.test.AccordionTestBase;
+import com.google.common.collect.Maps;
+import com.googlecode.aviator.Expression;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmarks native condition predicates against the Aviator expression path.
+ * These tests are disabled by default and can be enabled with system property: accordion.performance.tests=true
+ *
+ * @author <a href="https://github.com/eoctet">William</a>
+ */
+@DisplayName("Condition Performance Tests")
+@EnabledIfSystemProperty(named = "accordion.performance.tests", matches = "true")
+class ConditionPerformanceTest extends AccordionTestBase {
+
+    private static final int ROUNDS = 5;
+    private static final int ITERATIONS = 200_000;
+
+    @Test
+    @DisplayName("Should evaluate native predicates faster than Aviator expressions")
+    void shouldEvaluateNativePredicatesFaster() {
+        // Given
+        Condition condition = new Condition("amount", ConditionOperator.GE, 100)
+                .and("amount", ConditionOperator.LT, 500)
+                .and("region", ConditionOperator.EQ, "'EU'")
+                .or("vip", ConditionOperator.EQ, true);
+        ConditionBuilder builder = ConditionBuilder.getInstance();
+        Predicate<Map<String, Object>> predicate = builder.compile(condition, false);
+        Expression expression = builder.compile(builder.build(condition), false);
+        Map<String, Object> params = Maps.newHashMap();
+        params.put("amount", 250);
+        params.put("region", "EU");
+        params.put("vip", false);
+
+        // When
+        long nativeNanos = measure(() -> predicate.test(params));
+        long aviatorNanos = measure(() -> builder.test(params, expression));
+        long stringNanos = measure(() -> builder.test(params, builder.build(condition), false));
+
+        // Then
+        logger.info("Condition evaluation (best of {} x {} iterations): native {} ms, aviator compiled {} ms, "
+                + "aviator string {} ms", ROUNDS, ITERATIONS,
+                nativeNanos / 1_000_000, aviatorNanos / 1_000_000, stringNanos / 1_000_000);
+        assertThat(predicate.test(params)).isEqualTo(builder.test(params, expression));
+        assertThat(nativeNanos).isLessThan(stringNanos);
+    }
+
+    private static long measure(final BooleanSupplier supplier) {
+        //Best of several rounds, the first rounds also serve as JIT warm-up
+        long best = Long.MAX_VALUE;
+        int matched = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                matched += supplier.getAsBoolean() ? 1 : 0;
+            }
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        assertThat(matched).isEqualTo(ROUNDS * ITERATIONS);
+        return best;
+    }
+}
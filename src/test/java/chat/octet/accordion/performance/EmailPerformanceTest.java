@@ -0,0 +1,109 @@
+package chat.octet.accordion.performance;
+
+import chat.octet.accordion.action.email.EmailAction;
+import chat.octet.accordion.action.email.EmailParameter;
+import chat.octet.accordion.action.model.ActionConfig;
+import chat.octet.accordion.core.entity.Session;
+import chat.octet.accordion.core.enums.ActionType;
+import chat.octet.accordion.core.handler.StringTemplate;
+import chat.octet.accordion.test.AccordionTestBase;
+import chat.octet.accordion.utils.CommonUtils;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import org.apache.commons.text.StringSubstitutor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares email action throughput of pooled SMTP connections against a new connection per email.
+ * The local GreenMail server has no TLS or authentication, so the measured gain is the connection setup only.
+ * Also compares rendering large bodies with compiled templates against {@link StringSubstitutor}.
+ * These tests are disabled by default and can be enabled with system property: accordion.performance.tests=true
+ *
+ * @author <a href="https://github.com/eoctet">William</a>
+ */
+@DisplayName("Email Performance Tests")
+@EnabledIfSystemProperty(named = "accordion.performance.tests", matches = "true")
+class EmailPerformanceTest extends AccordionTestBase {
+
+    private static final int EMAILS = 50;
+    private static final int RENDERS = 500;
+
+    @RegisterExtension
+    static final GreenMailExtension GREEN_MAIL = new GreenMailExtension(ServerSetupTest.SMTP.dynamicPort());
+
+    private long measure(final boolean pooled) {
+        GREEN_MAIL.reset();
+        EmailAction action = new EmailAction(ActionConfig.builder()
+                .id(CommonUtils.randomString("ACT"))
+                .actionType(ActionType.EMAIL.name())
+                .actionName("Email")
+                .actionParams(EmailParameter.builder()
+                        .smtpPort(GREEN_MAIL.getSmtp().getPort())
+                        .from("accordion@octet.chat")
+                        .to("user@octet.chat")
+                        .subject("Performance")
+                        .content("<p>Hello</p>")
+                        .pooled(pooled)
+                        .build())
+                .build());
+        action.prepare(new Session());
+        action.execute();
+
+        long start = System.nanoTime();
+        IntStream.range(0, EMAILS).forEach(i -> action.execute());
+        long elapsed = System.nanoTime() - start;
+        assertThat(action.checkError()).isFalse();
+        assertThat(GREEN_MAIL.getReceivedMessages()).hasSize(EMAILS + 1);
+        return elapsed;
+    }
+
+    @Test
+    @DisplayName("Should send emails over pooled SMTP connections")
+    void shouldSendOverPooledConnections() {
+        // When
+        long connectPerEmail = measure(false);
+        long pooled = measure(true);
+
+        // Then
+        logger.info("Sent {} emails: connection per email {} ms ({} emails/s), pooled {} ms ({} emails/s)",
+                EMAILS, connectPerEmail / 1_000_000, EMAILS * 1_000_000_000L / connectPerEmail,
+                pooled / 1_000_000, EMAILS * 1_000_000_000L / pooled);
+        assertThat(pooled).isLessThan(connectPerEmail + connectPerEmail / 10);
+    }
+
+    @Test
+    @DisplayName("Should render large email bodies faster with compiled templates")
+    void shouldRenderLargeBodiesWithCompiledTemplates() {
+        // Given: a 200 KB notification body with two variables
+        String content = "<p>Hello ${name}</p>" + "<div class=\"row\">static notification content</div>".repeat(5000)
+                + "<p>Order ${order}</p>";
+        Map<String, Object> variables = Map.of("name", "William", "order", 42);
+        StringTemplate template = StringTemplate.compile(content);
+
+        // When
+        long substitutor = 0;
+        long compiled = 0;
+        for (int round = 0; round < 3; round++) {
+            long start = System.nanoTime();
+            IntStream.range(0, RENDERS).forEach(i -> StringSubstitutor.replace(content, variables));
+            substitutor = System.nanoTime() - start;
+            start = System.nanoTime();
+            IntStream.range(0, RENDERS).forEach(i -> template.render(variables));
+            compiled = System.nanoTime() - start;
+        }
+
+        // Then
+        logger.info("Rendered {} bodies of {} KB: StringSubstitutor {} ms, compiled template {} ms",
+                RENDERS, content.length() / 1024, substitutor / 1_000_000, compiled / 1_000_000);
+        assertThat(template.render(variables)).isEqualTo(StringSubstitutor.replace(content, variables));
+        assertThat(compiled).isLessThan(substitutor);
+    }
+}
@@ -0,0 +1,208 @@
+package chat.octet.accordion.performance;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import chat.octet.accordion.Accordion;
+import chat.octet.accordion.AccordionPlan;
+import chat.octet.accordion.core.enums.ActionType;
+import chat.octet.accordion.graph.model.AccordionConfig;
+import chat.octet.accordion.test.AccordionTestBase;
+import chat.octet.accordion.test.SyntheticPlanGenerator;
+import com.google.common.collect.Lists;
+import com.sun.management.ThreadMXBean;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Scalability tests running import, play and concurrent play on synthetic plans from 10 to 100k nodes.
+ * These tests are disabled by default and can be enabled with system property: accordion.performance.tests=true
+ *
+ * <p>Plan sizes are set with {@code accordion.scalability.sizes} (comma separated). Once the time of a size,
+ * extrapolated quadratically from the previous size, exceeds {@code accordion.scalability.budget.seconds},
+ * larger sizes are skipped. The time and memory curves are logged and written to
+ * {@code target/scalability-report.csv}.</p>
+ *
+ * @author <a href="https://github.com/eoctet">William</a>
+ */
+@DisplayName("Scalability Performance Tests")
+@EnabledIfSystemProperty(named = "accordion.performance.tests", matches = "true")
+class ScalabilityPerformanceTest extends AccordionTestBase {
+
+    private static final ThreadMXBean THREAD_MX_BEAN = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private record Point(int nodes, int edges, double importMillis, long planBytes, double playMillis,
+                         long playAllocatedBytes, double concurrentPlaysPerSecond) {
+
+        double totalSeconds() {
+            return (importMillis + playMillis) / 1000D;
+        }
+    }
+
+    private static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static AccordionConfig generate(final int nodes) {
+        return SyntheticPlanGenerator.builder()
+                .nodeCount(nodes)
+                .depth(Math.max(2, (int) Math.sqrt(nodes)))
+                .maxFanOut(8)
+                .actionTypeMix(Map.of(ActionType.SCRIPT.name(), 3, ActionType.CONDITION.name(), 1,
+                        ActionType.SLEEP.name(), 1))
+                .minLatencyMicros(0L)
+                .maxLatencyMicros(20L)
+                .build()
+                .generate();
+    }
+
+    private Point measure(final int nodes, final int threads) throws Exception {
+        AccordionConfig config = generate(nodes);
+        int edges = config.getGraphConfig().getEdges().size();
+
+        // import
+        long heapBefore = usedHeapAfterGc();
+        long start = System.nanoTime();
+        AccordionPlan plan = AccordionPlan.of().importConfig(config);
+        double importMillis = (System.nanoTime() - start) / 1e6;
+        long planBytes = Math.max(0L, usedHeapAfterGc() - heapBefore);
+
+        // play
+        int plays = Math.max(1, Math.min(20, 10_000 / nodes));
+        double playMillis;
+        long playAllocatedBytes;
+        try (Accordion accordion = new Accordion(plan)) {
+            accordion.play();
+            long threadId = Thread.currentThread().getId();
+            long allocatedBefore = THREAD_MX_BEAN.getThreadAllocatedBytes(threadId);
+            start = System.nanoTime();
+            for (int i = 0; i < plays; i++) {
+                assertThat(accordion.play()).isNotNull();
+            }
+            playMillis = (System.nanoTime() - start) / 1e6 / plays;
+            playAllocatedBytes = (THREAD_MX_BEAN.getThreadAllocatedBytes(threadId) - allocatedBefore) / plays;
+        }
+
+        // concurrent play, each thread plays its own copy of the plan
+        double concurrentPlaysPerSecond = -1D;
+        if (planBytes * threads < Runtime.getRuntime().maxMemory() / 2) {
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            try {
+                List<Accordion> accordions = Lists.newArrayList();
+                for (int i = 0; i < threads; i++) {
+                    accordions.add(new Accordion(AccordionPlan.of().importConfig(config)));
+                }
+                List<Callable<Integer>> tasks = Lists.newArrayList();
+                for (Accordion accordion : accordions) {
+                    tasks.add(() -> {
+                        for (int i = 0; i < plays; i++) {
+                            accordion.play();
+                        }
+                        return plays;
+                    });
+                }
+                start = System.nanoTime();
+                int total = 0;
+                for (Future<Integer> future : executor.invokeAll(tasks)) {
+                    total += future.get();
+                }
+                concurrentPlaysPerSecond = total / ((System.nanoTime() - start) / 1e9);
+                accordions.forEach(Accordion::close);
+            } finally {
+                executor.shutdownNow();
+                executor.awaitTermination(10, TimeUnit.SECONDS);
+            }
+        }
+        return new Point(nodes, edges, importMillis, planBytes, playMillis, playAllocatedBytes,
+                concurrentPlaysPerSecond);
+    }
+
+    @Nested
+    @DisplayName("Synthetic Plan Scalability Tests")
+    class SyntheticPlanScalabilityTests {
+
+        @Test
+        @DisplayName("Should report time and memory curves from 10 to 100k nodes")
+        void shouldReportScalabilityCurves() throws Exception {
+            // Given
+            int[] sizes = Arrays.stream(System.getProperty("accordion.scalability.sizes",
+                    "10,100,1000,10000,100000").split(",")).map(String::trim).mapToInt(Integer::parseInt).toArray();
+            double budgetSeconds = Double.parseDouble(
+                    System.getProperty("accordion.scalability.budget.seconds", "120"));
+            int threads = Math.min(4, Runtime.getRuntime().availableProcessors());
+            List<Point> points = Lists.newArrayList();
+
+            // When
+            Logger engineLogger = (Logger) LoggerFactory.getLogger("chat.octet.accordion");
+            Level level = engineLogger.getLevel();
+            engineLogger.setLevel(Level.WARN); // debug logging would dominate the engine time
+            try {
+                measure(10, threads); // warm-up, so that the first size is not extrapolated from a cold run
+                for (int size : sizes) {
+                    if (!points.isEmpty()) {
+                        Point previous = points.get(points.size() - 1);
+                        double estimatedSeconds = previous.totalSeconds()
+                                * Math.pow((double) size / previous.nodes(), 2);
+                        if (estimatedSeconds > budgetSeconds) {
+                            logger.warn("Skipping {} nodes and larger plans, estimated {} s exceeds the budget of {} s",
+                                    size, String.format("%.1f", estimatedSeconds), budgetSeconds);
+                            break;
+                        }
+                    }
+                    points.add(measure(size, threads));
+                }
+            } finally {
+                engineLogger.setLevel(level);
+            }
+
+            // Then
+            StringBuilder csv = new StringBuilder(
+                    "nodes,edges,import_ms,plan_bytes,play_ms,play_allocated_bytes,concurrent_plays_per_s\n");
+            for (Point point : points) {
+                logger.info("Scalability - Nodes: {}, Edges: {}, Import: {} ms, Plan heap: {} KB, Play: {} ms, "
+                                + "Play allocation: {} KB, Concurrent plays ({} threads): {}/s",
+                        point.nodes(), point.edges(), String.format("%.2f", point.importMillis()),
+                        point.planBytes() / 1024, String.format("%.3f", point.playMillis()),
+                        point.playAllocatedBytes() / 1024, threads,
+                        String.format("%.1f", point.concurrentPlaysPerSecond()));
+                csv.append(point.nodes()).append(',').append(point.edges()).append(',')
+                        .append(String.format("%.3f", point.importMillis())).append(',')
+                        .append(point.planBytes()).append(',')
+                        .append(String.format("%.3f", point.playMillis())).append(',')
+                        .append(point.playAllocatedBytes()).append(',')
+                        .append(String.format("%.1f", point.concurrentPlaysPerSecond())).append('\n');
+            }
+            writeReport(Paths.get("target", "scalability-report.csv"), csv.toString());
+            assertThat(points).isNotEmpty();
+            assertThat(points).allSatisfy(point -> assertThat(point.playMillis()).isPositive());
+        }
+
+        private void writeReport(final Path file, final String content) throws IOException {
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, content);
+            logger.info("Scalability report written to {}", file.toAbsolutePath());
+        }
+    }
+}
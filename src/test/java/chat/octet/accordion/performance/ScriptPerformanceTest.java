@@ -0,0 +1,114 @@
+package chat.octet.accordion.performance;
+
+import chat.octet.accordion.Accordion;
+import chat.octet.accordion.AccordionPlan;
+import chat.octet.accordion.action.model.ActionConfig;
+import chat.octet.accordion.action.script.ScriptEvaluatorPool;
+import chat.octet.accordion.action.script.ScriptParameter;
+import chat.octet.accordion.core.enums.ActionType;
+import chat.octet.accordion.test.AccordionTestBase;
+import chat.octet.accordion.utils.CommonUtils;
+import com.googlecode.aviator.AviatorEvaluator;
+import com.googlecode.aviator.AviatorEvaluatorInstance;
+import com.googlecode.aviator.Feature;
+import com.googlecode.aviator.Options;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures metaspace and compile time of script actions across a corpus of plans.
+ * These tests are disabled by default and can be enabled with system property: accordion.performance.tests=true
+ *
+ * @author <a href="https://github.com/eoctet">William</a>
+ */
+@DisplayName("Script Performance Tests")
+@EnabledIfSystemProperty(named = "accordion.performance.tests", matches = "true")
+class ScriptPerformanceTest extends AccordionTestBase {
+
+    private static final int PLANS = 1000;
+    private static final int DISTINCT_SCRIPTS = 20;
+    private static final int SCRIPTS_PER_PLAN = 5;
+
+    private static List<String> corpus() {
+        return IntStream.range(0, PLANS * SCRIPTS_PER_PLAN)
+                .mapToObj(i -> "let total = 0; for x in range(0, " + (i % DISTINCT_SCRIPTS + 1) + ") { total = total + x; } return total;")
+                .toList();
+    }
+
+    private static long metaspaceUsed() {
+        return ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getName().contains("Metaspace") && !pool.getName().contains("Compressed"))
+                .mapToLong(pool -> pool.getUsage().getUsed())
+                .sum();
+    }
+
+    private static long[] measure(final Consumer<String> compiler) {
+        System.gc();
+        long metaspace = metaspaceUsed();
+        long start = System.nanoTime();
+        corpus().forEach(compiler);
+        long elapsed = System.nanoTime() - start;
+        return new long[]{elapsed, metaspaceUsed() - metaspace};
+    }
+
+    @Test
+    @DisplayName("Should reduce metaspace and compile time with shared evaluators")
+    void shouldReduceMetaspaceAndCompileTime() {
+        // Given: per-action evaluators, as created by ScriptAction before the shared pool
+        long[] isolated = measure(script -> {
+            AviatorEvaluatorInstance evaluator = AviatorEvaluator.newInstance();
+            evaluator.setOption(Options.MAX_LOOP_COUNT, Integer.MAX_VALUE);
+            evaluator.setOption(Options.SERIALIZABLE, true);
+            evaluator.setOption(Options.ALLOWED_CLASS_SET, Set.of());
+            evaluator.disableFeature(Feature.NewInstance);
+            evaluator.disableFeature(Feature.Module);
+            evaluator.disableFeature(Feature.InternalVars);
+            evaluator.compile(CommonUtils.randomString("script"), script, true);
+        });
+
+        // When: shared evaluator pool and content-hash cache
+        ScriptEvaluatorPool.invalidateCache();
+        ScriptEvaluatorPool.Profile profile = new ScriptEvaluatorPool.Profile(false);
+        long[] shared = measure(script -> ScriptEvaluatorPool.compile(ScriptEvaluatorPool.key(profile, script)));
+
+        // Then
+        logger.info("Compiled {} scripts ({} plans): isolated {} ms / metaspace {} KB, shared {} ms / metaspace {} KB",
+                PLANS * SCRIPTS_PER_PLAN, PLANS, isolated[0] / 1_000_000, isolated[1] / 1024,
+                shared[0] / 1_000_000, shared[1] / 1024);
+        assertThat(ScriptEvaluatorPool.cacheSize()).isEqualTo(DISTINCT_SCRIPTS);
+        assertThat(shared[0]).isLessThan(isolated[0]);
+        assertThat(shared[1]).isLessThan(isolated[1]);
+    }
+
+    @Test
+    @DisplayName("Should share compiled scripts across plans")
+    void shouldShareCompiledScriptsAcrossPlans() {
+        // Given
+        long hits = ScriptEvaluatorPool.cacheStats().hitCount();
+
+        // When
+        IntStream.range(0, PLANS).forEach(i -> {
+            ActionConfig action = ActionConfig.builder()
+                    .id(CommonUtils.randomString("ACT"))
+                    .actionType(ActionType.SCRIPT.name())
+                    .actionName("Script " + i)
+                    .actionParams(ScriptParameter.builder().script("1 + 1").build())
+                    .build();
+            try (Accordion accordion = new Accordion(AccordionPlan.of().start(action))) {
+                accordion.play();
+            }
+        });
+
+        // Then
+        assertThat(ScriptEvaluatorPool.cacheStats().hitCount() - hits).isGreaterThanOrEqualTo(PLANS - 1);
+    }
+}
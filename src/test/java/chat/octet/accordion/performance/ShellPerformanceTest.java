@@ -0,0 +1,65 @@
+package chat.octet.accordion.performance;
+
+import chat.octet.accordion.action.model.ActionConfig;
+import chat.octet.accordion.action.shell.ShellAction;
+import chat.octet.accordion.action.shell.ShellParameter;
+import chat.octet.accordion.core.entity.Session;
+import chat.octet.accordion.core.enums.ActionType;
+import chat.octet.accordion.test.AccordionTestBase;
+import chat.octet.accordion.utils.CommonUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.condition.OS;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares shell action throughput of pooled workers against a new process per execution.
+ * These tests are disabled by default and can be enabled with system property: accordion.performance.tests=true
+ *
+ * @author <a href="https://github.com/eoctet">William</a>
+ */
+@DisplayName("Shell Performance Tests")
+@DisabledOnOs(OS.WINDOWS)
+@EnabledIfSystemProperty(named = "accordion.performance.tests", matches = "true")
+class ShellPerformanceTest extends AccordionTestBase {
+
+    private static final int EXECUTIONS = 500;
+
+    private long measure(final boolean pooled) {
+        ShellAction action = new ShellAction(ActionConfig.builder()
+                .id(CommonUtils.randomString("ACT"))
+                .actionType(ActionType.SHELL.name())
+                .actionName("Shell")
+                .actionParams(ShellParameter.builder().shell("echo hello").pooled(pooled).build())
+                .build());
+        action.prepare(new Session());
+        //warm up workers and process spawning
+        IntStream.range(0, 10).forEach(i -> action.execute());
+
+        long start = System.nanoTime();
+        IntStream.range(0, EXECUTIONS).forEach(i -> {
+            action.execute();
+            assertThat(action.checkError()).isFalse();
+        });
+        return System.nanoTime() - start;
+    }
+
+    @Test
+    @DisplayName("Should execute more commands per second with pooled workers")
+    void shouldIncreaseThroughputWithPooledWorkers() {
+        // When
+        long process = measure(false);
+        long pooled = measure(true);
+
+        // Then
+        logger.info("Executed {} commands: process {} ms ({} ops/s), pooled {} ms ({} ops/s)",
+                EXECUTIONS, process / 1_000_000, EXECUTIONS * 1_000_000_000L / process,
+                pooled / 1_000_000, EXECUTIONS * 1_000_000_000L / pooled);
+        assertThat(pooled).isLessThan(process);
+    }
+}
@@ -0,0 +1,78 @@
+package chat.octet.accordion.performance;
+
+import chat.octet.accordion.Accordion;
+import chat.octet.accordion.AccordionPlan;
+import chat.octet.accordion.action.base.ConditionParameter;
+import chat.octet.accordion.action.model.ActionConfig;
+import chat.octet.accordion.action.model.OutputParameter;
+import chat.octet.accordion.action.script.ScriptParameter;
+import chat.octet.accordion.core.entity.WarmUpReport;
+import chat.octet.accordion.core.enums.ActionType;
+import chat.octet.accordion.core.enums.DataType;
+import chat.octet.accordion.test.AccordionTestBase;
+import com.google.common.collect.Lists;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures first-request latency of freshly imported plans with and without warm-up.
+ * These tests are disabled by default and can be enabled with system property: accordion.performance.tests=true
+ *
+ * @author <a href="https://github.com/eoctet">William</a>
+ */
+@DisplayName("Warm-up Performance Tests")
+@EnabledIfSystemProperty(named = "accordion.performance.tests", matches = "true")
+class WarmUpPerformanceTest extends AccordionTestBase {
+
+    private AccordionPlan importPlan(final int seed) {
+        ActionConfig script = ActionConfig.builder()
+                .id(createTestActionId("SCRIPT"))
+                .actionType(ActionType.SCRIPT.name())
+                .actionName("Calculate")
+                .actionParams(ScriptParameter.builder()
+                        .script("let total = 0; for i in range(0, " + seed + ") { total = total + i; } return total;")
+                        .build())
+                .actionOutput(Lists.newArrayList(new OutputParameter("total", DataType.LONG, "Total")))
+                .build();
+        ActionConfig condition = ActionConfig.builder()
+                .id(createTestActionId("CONDITION"))
+                .actionType(ActionType.CONDITION.name())
+                .actionName("Check")
+                .actionParams(ConditionParameter.builder().expression("total >= " + seed).build())
+                .build();
+        String json = AccordionPlan.of().start(script).next(script, condition).exportToJsonConfig();
+        return AccordionPlan.of().importConfig(json);
+    }
+
+    private static Duration firstPlay(final AccordionPlan plan) {
+        long start = System.nanoTime();
+        try (Accordion accordion = new Accordion(plan)) {
+            accordion.play();
+        }
+        return Duration.ofNanos(System.nanoTime() - start);
+    }
+
+    @Test
+    @DisplayName("Should reduce first-request latency after warm-up")
+    void shouldReduceFirstRequestLatency() {
+        // Given: distinct scripts, so every plan pays its own compilation
+        Duration cold = firstPlay(importPlan(101));
+
+        // When
+        AccordionPlan plan = importPlan(102);
+        WarmUpReport report = plan.warmUp();
+        Duration warm = firstPlay(plan);
+
+        // Then
+        logger.info("First request latency: cold {} us, after warm-up {} us; warm-up {} us, dry runs {}",
+                cold.toNanos() / 1000, warm.toNanos() / 1000, report.getWarmUpTime().toNanos() / 1000,
+                report.getDryRunTimes());
+        assertThat(report.isSuccess()).isTrue();
+        assertThat(warm).isLessThan(cold);
+    }
+}
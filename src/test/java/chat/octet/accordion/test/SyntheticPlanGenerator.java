@@ -0,0 +1,196 @@
+package chat.octet.accordion.test;
+
+import chat.octet.accordion.action.base.ConditionParameter;
+import chat.octet.accordion.action.model.ActionConfig;
+import chat.octet.accordion.action.script.ScriptParameter;
+import chat.octet.accordion.action.stub.AllocateParameter;
+import chat.octet.accordion.action.stub.CpuBurnParameter;
+import chat.octet.accordion.action.stub.SleepParameter;
+import chat.octet.accordion.core.enums.ActionType;
+import chat.octet.accordion.graph.model.AccordionConfig;
+import chat.octet.accordion.graph.model.AccordionGraphConfig;
+import chat.octet.accordion.graph.model.EdgeConfig;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Generates {@link AccordionConfig}s of random layered DAGs for scalability tests.
+ *
+ * <p>Nodes are spread over {@code depth} layers. The root is alone on the first layer, and every other
+ * node has a parent on the previous layer, so the plan is connected and acyclic. No node has more than
+ * {@code maxFanOut} children, and with {@code joinProbability} a node gets a second parent, turning the
+ * tree into a DAG. Action types are drawn from {@code actionTypeMix} by weight, supported types are
+ * {@code SCRIPT}, {@code CONDITION}, {@code TEST} and the stubs {@code NOOP}, {@code SLEEP}, {@code CPU_BURN}
+ * and {@code ALLOCATE}. Generation is deterministic for a seed.</p>
+ *
+ * <pre>{@code
+ * AccordionConfig config = SyntheticPlanGenerator.builder()
+ *         .nodeCount(10_000).depth(50).maxFanOut(8)
+ *         .actionTypeMix(Map.of("SCRIPT", 3, "SLEEP", 1))
+ *         .build().generate();
+ * }</pre>
+ *
+ * @author <a href="https://github.com/eoctet">William</a>
+ */
+@Getter
+@Builder
+public class SyntheticPlanGenerator {
+
+    /**
+     * Number of nodes.
+     */
+    @Builder.Default
+    private final int nodeCount = 100;
+    /**
+     * Maximum number of layers, the plan is shallower if there are fewer nodes than layers.
+     */
+    @Builder.Default
+    private final int depth = 10;
+    /**
+     * Maximum number of children of a node.
+     */
+    @Builder.Default
+    private final int maxFanOut = 4;
+    /**
+     * Probability that a node has a second parent.
+     */
+    @Builder.Default
+    private final double joinProbability = 0D;
+    /**
+     * Weights of the generated action types.
+     */
+    @Builder.Default
+    private final Map<String, Integer> actionTypeMix = Map.of(ActionType.SCRIPT.name(), 1);
+    /**
+     * Minimum duration of sleep and CPU burn stubs, in microseconds.
+     */
+    @Builder.Default
+    private final long minLatencyMicros = 0L;
+    /**
+     * Maximum duration of sleep and CPU burn stubs, in microseconds.
+     */
+    @Builder.Default
+    private final long maxLatencyMicros = 0L;
+    /**
+     * Bytes allocated by allocate stubs.
+     */
+    @Builder.Default
+    private final long allocatedBytes = 1024L;
+    /**
+     * Random seed.
+     */
+    @Builder.Default
+    private final long seed = 42L;
+
+    /**
+     * Generates the plan configuration.
+     *
+     * @return plan configuration
+     * @throws IllegalArgumentException if the node count does not fit in the depth and fan-out
+     */
+    public AccordionConfig generate() {
+        Preconditions.checkArgument(nodeCount > 0, "Node count must be positive");
+        Preconditions.checkArgument(depth > 0, "Depth must be positive");
+        Preconditions.checkArgument(maxFanOut > 0, "Fan-out must be positive");
+        Preconditions.checkArgument(minLatencyMicros <= maxLatencyMicros, "Latency range is invalid");
+        Random random = new Random(seed);
+        String[] types = actionTypeMix.keySet().stream().sorted().toArray(String[]::new);
+        int[] cumulativeWeights = new int[types.length];
+        int totalWeight = 0;
+        for (int i = 0; i < types.length; i++) {
+            totalWeight += actionTypeMix.get(types[i]);
+            cumulativeWeights[i] = totalWeight;
+        }
+        Preconditions.checkArgument(totalWeight > 0, "Action type mix must have a positive weight");
+
+        List<ActionConfig> actions = Lists.newArrayListWithCapacity(nodeCount);
+        List<EdgeConfig> edges = Lists.newArrayListWithCapacity(nodeCount);
+        int[] children = new int[nodeCount];
+        actions.add(action(0, pickType(types, cumulativeWeights, random), random));
+        int previousStart = 0;
+        int previousSize = 1;
+        for (int layer = 1; layer < depth && actions.size() < nodeCount; layer++) {
+            int remaining = nodeCount - actions.size();
+            long capacity = (long) previousSize * maxFanOut;
+            int size = (int) Math.min(capacity, Math.max(1, (remaining + depth - layer - 1) / (depth - layer)));
+            int start = actions.size();
+            int[] parents = new int[size];
+            for (int i = 0; i < size; i++) {
+                actions.add(action(start + i, pickType(types, cumulativeWeights, random), random));
+                parents[i] = pickParent(previousStart, previousSize, children, -1, random);
+                edges.add(new EdgeConfig(actions.get(parents[i]), actions.get(start + i)));
+            }
+            // joins only use the fan-out left after every node of the layer has its parent
+            for (int i = 0; i < size && previousSize > 1; i++) {
+                if (random.nextDouble() < joinProbability) {
+                    int join = pickParent(previousStart, previousSize, children, parents[i], random);
+                    if (join >= 0) {
+                        edges.add(new EdgeConfig(actions.get(join), actions.get(start + i)));
+                    }
+                }
+            }
+            previousStart = start;
+            previousSize = size;
+        }
+        Preconditions.checkArgument(actions.size() == nodeCount,
+                "%s nodes do not fit in %s layers with a fan-out of %s", nodeCount, depth, maxFanOut);
+        return new AccordionConfig("synthetic-" + seed, "Synthetic plan of " + nodeCount + " nodes", null,
+                new AccordionGraphConfig(actions, edges), LocalDateTime.now());
+    }
+
+    private static String pickType(final String[] types, final int[] cumulativeWeights, final Random random) {
+        int value = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < types.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                return types[i];
+            }
+        }
+        return types[types.length - 1];
+    }
+
+    private int pickParent(final int start, final int size, final int[] children, final int exclude,
+                           final Random random) {
+        int offset = random.nextInt(size);
+        for (int i = 0; i < size; i++) {
+            int candidate = start + (offset + i) % size;
+            if (candidate != exclude && children[candidate] < maxFanOut) {
+                children[candidate]++;
+                return candidate;
+            }
+        }
+        return -1;
+    }
+
+    private ActionConfig action(final int index, final String actionType, final Random random) {
+        ActionConfig.ActionConfigBuilder builder = ActionConfig.builder()
+                .id("node-" + index)
+                .actionType(actionType)
+                .actionName("Synthetic " + actionType + " " + index);
+        if (ActionType.SCRIPT.name().equals(actionType)) {
+            builder.actionParams(ScriptParameter.builder().scriptId("synthetic-script").script("1").build());
+        } else if (ActionType.CONDITION.name().equals(actionType)) {
+            builder.actionParams(ConditionParameter.builder().expression("1 == 1").build());
+        } else if (ActionType.SLEEP.name().equals(actionType)) {
+            builder.actionParams(SleepParameter.builder().durationMicros(latency(random)).build());
+        } else if (ActionType.CPU_BURN.name().equals(actionType)) {
+            builder.actionParams(CpuBurnParameter.builder().durationMicros(latency(random)).build());
+        } else if (ActionType.ALLOCATE.name().equals(actionType)) {
+            builder.actionParams(AllocateParameter.builder().bytes(allocatedBytes).build());
+        } else if (!ActionType.TEST.name().equals(actionType) && !ActionType.NOOP.name().equals(actionType)) {
+            throw new IllegalArgumentException("Unsupported synthetic action type: " + actionType);
+        }
+        return builder.build();
+    }
+
+    private long latency(final Random random) {
+        return minLatencyMicros == maxLatencyMicros ? minLatencyMicros
+                : minLatencyMicros + (long) (random.nextDouble() * (maxLatencyMicros - minLatencyMicros));
+    }
+}
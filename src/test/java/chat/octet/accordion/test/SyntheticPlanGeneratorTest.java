@@ -0,0 +1,95 @@
+package chat.octet.accordion.test;
+
+import chat.octet.accordion.Accordion;
+import chat.octet.accordion.AccordionPlan;
+import chat.octet.accordion.action.model.ActionConfig;
+import chat.octet.accordion.core.enums.ActionType;
+import chat.octet.accordion.graph.model.AccordionConfig;
+import chat.octet.accordion.graph.model.EdgeConfig;
+import chat.octet.accordion.utils.JsonUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for the synthetic plan generator.
+ *
+ * @author <a href="https://github.com/eoctet">William</a>
+ */
+@DisplayName("Synthetic Plan Generator Tests")
+class SyntheticPlanGeneratorTest extends AccordionTestBase {
+
+    @Nested
+    @DisplayName("Generation Tests")
+    class GenerationTests {
+
+        @Test
+        @DisplayName("Should generate a layered DAG within the fan-out")
+        void shouldGenerateLayeredDag() {
+            // Given
+            SyntheticPlanGenerator generator = SyntheticPlanGenerator.builder()
+                    .nodeCount(500).depth(12).maxFanOut(3).joinProbability(0.3D)
+                    .actionTypeMix(Map.of(ActionType.SCRIPT.name(), 1, ActionType.SLEEP.name(), 1))
+                    .build();
+
+            // When
+            AccordionConfig config = generator.generate();
+
+            // Then
+            assertThat(config.getGraphConfig().getActions()).hasSize(500);
+            assertThat(config.getGraphConfig().getEdges()).hasSizeGreaterThanOrEqualTo(499);
+            Map<String, Long> fanOut = config.getGraphConfig().getEdges().stream()
+                    .collect(Collectors.groupingBy(EdgeConfig::getPreviousAction, Collectors.counting()));
+            assertThat(fanOut.values()).allSatisfy(children -> assertThat(children).isLessThanOrEqualTo(3L));
+            assertThat(config.getGraphConfig().getActions()).extracting(ActionConfig::getActionType)
+                    .contains(ActionType.SCRIPT.name(), ActionType.SLEEP.name());
+            assertThat(JsonUtils.toJson(generator.generate().getGraphConfig()))
+                    .isEqualTo(JsonUtils.toJson(config.getGraphConfig()));
+        }
+
+        @Test
+        @DisplayName("Should import and play the generated plan")
+        void shouldPlayGeneratedPlan() {
+            // Given
+            AccordionConfig config = SyntheticPlanGenerator.builder()
+                    .nodeCount(200).depth(8).maxFanOut(4)
+                    .actionTypeMix(Map.of(ActionType.SCRIPT.name(), 2, ActionType.CONDITION.name(), 1,
+                            ActionType.TEST.name(), 1, ActionType.NOOP.name(), 1, ActionType.SLEEP.name(), 1,
+                            ActionType.CPU_BURN.name(), 1, ActionType.ALLOCATE.name(), 1))
+                    .maxLatencyMicros(50L)
+                    .build()
+                    .generate();
+            AccordionPlan plan = AccordionPlan.of().importConfig(JsonUtils.toJson(config));
+
+            // When
+            try (Accordion accordion = new Accordion(plan)) {
+                accordion.play(true);
+
+                // Then
+                assertThat(accordion.report().orElseThrow().getNodes())
+                        .hasSize(200)
+                        .extracting(node -> node.getStatus().name())
+                        .containsOnly("SUCCESS");
+            }
+        }
+
+        @Test
+        @DisplayName("Should reject node counts that do not fit in the depth and fan-out")
+        void shouldRejectUnfittingNodeCount() {
+            // Given
+            SyntheticPlanGenerator generator = SyntheticPlanGenerator.builder()
+                    .nodeCount(100).depth(3).maxFanOut(2).build();
+
+            // When & Then
+            assertThatThrownBy(generator::generate)
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("do not fit");
+        }
+    }
+}
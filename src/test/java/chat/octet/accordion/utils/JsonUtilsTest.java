@@ -0,0 +1,115 @@
+package chat.octet.accordion.utils;
+
+import chat.octet.accordion.action.base.ConditionParameter;
+import chat.octet.accordion.action.model.ActionConfig;
+import chat.octet.accordion.core.entity.Tuple;
+import chat.octet.accordion.core.enums.ActionType;
+import chat.octet.accordion.test.AccordionTestBase;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedList;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for JsonUtils object binding.
+ *
+ * @author <a href="https://github.com/eoctet">William</a>
+ */
+@DisplayName("JsonUtils Tests")
+class JsonUtilsTest extends AccordionTestBase {
+
+    @Nested
+    @DisplayName("Direct Binding Tests")
+    class DirectBindingTests {
+
+        @Test
+        @DisplayName("Should bind map to object without JSON round-trip")
+        void shouldBindMapToObject() {
+            // Given
+            Map<String, Object> raw = Maps.newLinkedHashMap();
+            raw.put("expression", "x > 1");
+            raw.put("debug", true);
+
+            // When
+            ConditionParameter params = JsonUtils.convertValue(raw, ConditionParameter.class);
+
+            // Then
+            assertThat(params).isNotNull();
+            assertThat(params.getExpression()).isEqualTo("x > 1");
+            assertThat(params.isDebug()).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should return same instance when value already matches type")
+        void shouldReturnSameInstance() {
+            // Given
+            ConditionParameter params = ConditionParameter.builder().expression("x > 1").build();
+
+            // When & Then
+            assertThat(JsonUtils.convertValue(params, ConditionParameter.class)).isSameAs(params);
+            assertThat(JsonUtils.convertValue(null, ConditionParameter.class)).isNull();
+        }
+
+        @Test
+        @DisplayName("Should bind collection to typed list")
+        void shouldBindCollectionToTypedList() {
+            // When
+            LinkedList<Long> list = JsonUtils.convertToList(Lists.newArrayList(1, "2", 3L), Long.class);
+
+            // Then
+            assertThat(list).containsExactly(1L, 2L, 3L);
+        }
+    }
+
+    @Nested
+    @DisplayName("Typed Read Tests")
+    class TypedReadTests {
+
+        @Test
+        @DisplayName("Should read objects and lists from tuple values")
+        void shouldReadObjectsAndListsFromTuple() {
+            // Given
+            Map<String, Object> raw = Maps.newHashMap();
+            raw.put("expression", "y == 2");
+            Tuple<String, Object> tuple = new Tuple<>();
+            tuple.put("map", raw);
+            tuple.put("json", "{\"expression\":\"z < 3\"}");
+            tuple.put("list", Lists.newArrayList("a", "b"));
+            tuple.put("jsonList", "[\"c\",\"d\"]");
+
+            // When & Then
+            assertThat(tuple.getObject("map", ConditionParameter.class).getExpression()).isEqualTo("y == 2");
+            assertThat(tuple.getObject("json", ConditionParameter.class).getExpression()).isEqualTo("z < 3");
+            assertThat(tuple.getList("list", String.class)).containsExactly("a", "b");
+            assertThat(tuple.getList("jsonList", String.class)).containsExactly("c", "d");
+        }
+
+        @Test
+        @DisplayName("Should bind action parameters once per action config")
+        void shouldBindActionParamsOnce() {
+            // Given
+            Map<String, Object> raw = Maps.newHashMap();
+            raw.put("expression", "x > 1");
+            ActionConfig config = ActionConfig.builder()
+                    .id(CommonUtils.randomString("ACT"))
+                    .actionType(ActionType.CONDITION.name())
+                    .actionName("Condition")
+                    .actionParams(raw)
+                    .build();
+
+            // When
+            ConditionParameter first = config.getActionParams(ConditionParameter.class);
+            ConditionParameter second = config.getActionParams(ConditionParameter.class);
+
+            // Then
+            assertThat(first).isNotNull().isSameAs(second);
+            assertThat(first.getExpression()).isEqualTo("x > 1");
+        }
+    }
+}